@@ -31,10 +31,13 @@ import life.calgo.model.util.SampleDataUtil;
 import life.calgo.storage.ConsumptionRecordStorage;
 import life.calgo.storage.FoodRecordStorage;
 import life.calgo.storage.GoalStorage;
+import life.calgo.storage.JournaledConsumptionRecordStorage;
+import life.calgo.storage.JournaledFoodRecordStorage;
 import life.calgo.storage.JsonConsumptionRecordStorage;
 import life.calgo.storage.JsonFoodRecordStorage;
 import life.calgo.storage.JsonGoalStorage;
 import life.calgo.storage.JsonUserPrefsStorage;
+import life.calgo.storage.PartitionedConsumptionRecordStorage;
 import life.calgo.storage.Storage;
 import life.calgo.storage.StorageManager;
 import life.calgo.storage.UserPrefsStorage;
@@ -66,15 +69,23 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FoodRecordStorage foodRecordStorage = new JsonFoodRecordStorage(userPrefs.getFoodRecordFilePath());
-        ConsumptionRecordStorage consumptionRecordStorage = new JsonConsumptionRecordStorage(
-                userPrefs.getConsumptionRecordFilePath());
+        FoodRecordStorage foodRecordStorage = new JournaledFoodRecordStorage(
+                new JsonFoodRecordStorage(userPrefs.getFoodRecordFilePath()),
+                userPrefs.getFoodRecordJournalFilePath());
+        ConsumptionRecordStorage consumptionRecordStorage = new JournaledConsumptionRecordStorage(
+                new PartitionedConsumptionRecordStorage(userPrefs.getConsumptionRecordDirectoryPath(),
+                        userPrefs.getConsumptionArchiveHorizonDays(),
+                        new JsonConsumptionRecordStorage(userPrefs.getConsumptionRecordFilePath(),
+                                userPrefs.getConsumptionArchiveFilePath())),
+                userPrefs.getConsumptionRecordJournalFilePath());
         GoalStorage goalStorage = new JsonGoalStorage(userPrefs.getGoalFilePath());
-        storage = new StorageManager(foodRecordStorage, consumptionRecordStorage, userPrefsStorage, goalStorage);
+        storage = new StorageManager(foodRecordStorage, consumptionRecordStorage, userPrefsStorage, goalStorage,
+                true);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
+        initConsumptionArchive(model, storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
@@ -85,13 +96,14 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s food record and {@code userPrefs}. <br>
      * The data from the sample food record will be used instead if {@code storage}'s food record is not found,
      * or an empty food record will be used instead if errors occur when reading {@code storage}'s food record.
+     * Whatever was read is marked as saved in {@code storage}, so that it is not written again until it changes.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyFoodRecord> foodRecordOptional;
+        Optional<ReadOnlyFoodRecord> foodRecordOptional = Optional.empty();
         ReadOnlyFoodRecord initialData;
-        Optional<ReadOnlyConsumptionRecord> consumptionRecordOptional;
+        Optional<ReadOnlyConsumptionRecord> consumptionRecordOptional = Optional.empty();
         ReadOnlyConsumptionRecord consumptionData;
-        Optional<ReadOnlyGoal> goalOptional;
+        Optional<ReadOnlyGoal> goalOptional = Optional.empty();
         ReadOnlyGoal goal;
 
         try {
@@ -139,7 +151,33 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the goal file. Will be starting with no goal set.");
             goal = new DailyGoal();
         }
-        return new ModelManager(initialData, consumptionData, userPrefs, goal);
+        Model model = new ModelManager(initialData, consumptionData, userPrefs, goal);
+        if (foodRecordOptional.isPresent()) {
+            storage.setSavedFoodRecord(model.getFoodRecord());
+        }
+        if (consumptionRecordOptional.isPresent()) {
+            storage.setSavedConsumptionRecord(model.getConsumptionRecord());
+        }
+        if (goalOptional.isPresent()) {
+            storage.setSavedGoal(model.getDailyGoal());
+        }
+        return model;
+    }
+
+    /**
+     * Moves consumption history older than {@code userPrefs}' archive horizon from {@code model} to
+     * {@code storage}'s consumption archive. All history is kept in memory instead if the archive cannot be used.
+     */
+    private void initConsumptionArchive(Model model, Storage storage, UserPrefs userPrefs) {
+        try {
+            model.setConsumptionArchive(storage.getConsumptionArchive(), userPrefs.getConsumptionArchiveHorizonDays());
+        } catch (DataConversionException e) {
+            logger.warning("Consumption archive not in the correct format. Will be keeping all consumption history "
+                    + "in memory.");
+        } catch (IOException e) {
+            logger.warning("Problem while archiving consumption history. Will be keeping all consumption history "
+                    + "in memory.");
+        }
     }
 
     private void initLogging(Config config) {
@@ -228,5 +266,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -2,7 +2,10 @@ package life.calgo.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -12,6 +15,7 @@ import java.util.logging.Logger;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -26,10 +30,12 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import life.calgo.commons.core.LogsCenter;
 import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.commons.exceptions.IllegalValueException;
 import life.calgo.storage.JsonAdaptedFood;
 
 /**
  * Converts a Java object instance to JSON and vice versa.
+ * Files are read and written as streams, so the JSON text of a file is never held in memory as a whole.
  */
 public class JsonUtil {
 
@@ -38,6 +44,8 @@ public class JsonUtil {
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            // generators are flushed when closed, rather than after every value written to them
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
             .registerModule(new SimpleModule("SimpleModule")
@@ -46,13 +54,35 @@ public class JsonUtil {
                     .addKeySerializer(JsonAdaptedFood.class, new JsonAdaptedFoodKeySerializer())
                     .addKeyDeserializer(JsonAdaptedFood.class, new JsonAdaptedFoodKeyDeserializer()));
 
+    /**
+     * Reads a value from a JSON file one token at a time, using a {@link JsonParser} that can read any part of the
+     * file into a class with {@link JsonParser#readValueAs(Class)}.
+     */
+    @FunctionalInterface
+    public interface StreamReader<T> {
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a value to a JSON file one token at a time, using a {@link JsonGenerator} that can write any object
+     * with {@link JsonGenerator#writeObject(Object)}.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (BufferedWriter writer = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(writer, objectToSerialize);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (BufferedReader reader = Files.newBufferedReader(jsonFile, StandardCharsets.UTF_8)) {
+            return objectMapper.readValue(reader, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -99,6 +129,53 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns the value read by {@code streamReader} from the given file or {@code Optional.empty()} object if the
+     * file is not found. Unlike {@link #readJsonFile(Path, Class)}, the value can be built up as the file is read.
+     *
+     * @param filePath Cannot be null.
+     * @param streamReader Reads the value from a parser positioned before the first token of the file.
+     * @throws DataConversionException If the file format is not as expected.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, StreamReader<T> streamReader)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(streamReader);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            return Optional.of(streamReader.read(parser));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Saves what {@code streamWriter} writes to the specified file, pretty-printed.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * Unlike {@link #saveJsonFile(Object, Path)}, the value does not have to be built in full before it is written.
+     *
+     * @param filePath Cannot be null.
+     * @param streamWriter Cannot be null.
+     * @throws IOException If there was an error during writing to the file.
+     */
+    public static void saveJsonFile(Path filePath, StreamWriter streamWriter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(streamWriter);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(
+                Files.newBufferedWriter(filePath, StandardCharsets.UTF_8))) {
+            generator.useDefaultPrettyPrinter();
+            streamWriter.write(generator);
+        }
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class.
@@ -121,6 +198,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line.
+     *
+     * @param instance The T object to be converted into the JSON string.
+     * @param <T> The generic type to create an instance of.
+     * @return JSON data representation of the given class instance, in string without line breaks.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableMap;
 
 import javafx.collections.ObservableList;
 
@@ -13,6 +14,7 @@ import life.calgo.logic.commands.exceptions.CommandException;
 import life.calgo.logic.parser.exceptions.ParseException;
 import life.calgo.model.Model;
 import life.calgo.model.ReadOnlyFoodRecord;
+import life.calgo.model.day.ConsumptionTrends;
 import life.calgo.model.day.DailyFoodLog;
 import life.calgo.model.day.DailyGoal;
 import life.calgo.model.food.DisplayFood;
@@ -38,7 +40,7 @@ public interface Logic {
     //  Getter Methods for Day package classes in Model
 
     /**
-     * Returns a list of food objects with similar name.
+     * Returns a short list of food objects with similar name, in lexicographic order.
      *
      * @param foodName The name of the food entered by user so far.
      */
@@ -49,6 +51,16 @@ public interface Logic {
      */
     ArrayList<DailyFoodLog> getPastWeekLogs();
 
+    /**
+     * Returns a view of the DailyFoodLog objects dated from {@code from} to {@code to}, both inclusive, in date order.
+     */
+    NavigableMap<LocalDate, DailyFoodLog> getLogsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the moving averages, goal streak and unusual days of consumption up to the current date.
+     */
+    ConsumptionTrends getConsumptionTrends();
+
     /**
      * Returns the date of the daily list in Model.
      */
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,11 +19,11 @@ import life.calgo.logic.parser.CalgoParser;
 import life.calgo.logic.parser.exceptions.ParseException;
 import life.calgo.model.Model;
 import life.calgo.model.ReadOnlyFoodRecord;
+import life.calgo.model.day.ConsumptionTrends;
 import life.calgo.model.day.DailyFoodLog;
 import life.calgo.model.day.DailyGoal;
 import life.calgo.model.food.DisplayFood;
 import life.calgo.model.food.Food;
-import life.calgo.model.food.predicates.FoodRecordContainsFoodNamePredicate;
 import life.calgo.storage.Storage;
 
 /**
@@ -30,6 +31,7 @@ import life.calgo.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final int MAX_SIMILAR_FOOD = 10;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -54,6 +56,8 @@ public class LogicManager implements Logic {
                 : calgoParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // storage skips the components that the command did not change, and may write the others in the background,
+        // in which case a failed write is reported by a later save
         try {
             storage.saveFoodRecord(model.getFoodRecord());
             storage.saveConsumptionRecord(model.getConsumptionRecord());
@@ -69,10 +73,7 @@ public class LogicManager implements Logic {
 
     @Override
     public List<Food> getSimilarFood(String foodName) {
-        List<Food> filteredFood;
-        filteredFood = model.getFoodRecord()
-                .getFoodList().filtered(new FoodRecordContainsFoodNamePredicate(foodName));
-        return filteredFood;
+        return model.getSimilarFood(foodName, MAX_SIMILAR_FOOD);
     }
 
     @Override
@@ -80,6 +81,16 @@ public class LogicManager implements Logic {
         return model.getPastWeekLogs();
     }
 
+    @Override
+    public ConsumptionTrends getConsumptionTrends() {
+        return model.getConsumptionTrends();
+    }
+
+    @Override
+    public NavigableMap<LocalDate, DailyFoodLog> getLogsBetween(LocalDate from, LocalDate to) {
+        return model.getLogsBetween(from, to);
+    }
+
     @Override
     public LocalDate getDate() {
         return model.getDate();
@@ -1,13 +1,24 @@
 package life.calgo.logic.commands;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import life.calgo.logic.commands.exceptions.CommandException;
 import life.calgo.model.Model;
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Name;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
  */
 public abstract class Command {
 
+    public static final String MESSAGE_DID_YOU_MEAN = "\nDid you mean: %1$s?";
+
+    /** Maximum number of edits between a misspelt Name and the Names suggested in its place. */
+    public static final int MAX_NAME_EDIT_DISTANCE = 2;
+    public static final int MAX_NAME_SUGGESTIONS = 3;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,4 +28,23 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns a message in the given {@code format} listing the Names of the Food in the FoodRecord
+     * closest to {@code name}, or an empty String if no Name is close enough.
+     *
+     * @param model {@code Model} holding the FoodRecord to search.
+     * @param name the Name that may have been misspelt.
+     * @param format the format of the message, taking the comma-separated Names as its only argument.
+     * @return the message suggesting Names close to {@code name}.
+     */
+    public static String getClosestNamesMessage(Model model, Name name, String format) {
+        List<Food> closestFood = model.getClosestFood(name.fullName, MAX_NAME_EDIT_DISTANCE, MAX_NAME_SUGGESTIONS);
+        if (closestFood.isEmpty()) {
+            return "";
+        }
+        return String.format(format, closestFood.stream()
+                .map(food -> food.getName().fullName)
+                .collect(Collectors.joining(", ")));
+    }
+
 }
@@ -35,7 +35,8 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
 
         if (!model.hasFood(toDelete)) {
-            throw new CommandException(MESSAGE_FOOD_DOES_NOT_EXISTS_IN_RECORD);
+            throw new CommandException(MESSAGE_FOOD_DOES_NOT_EXISTS_IN_RECORD
+                    + getClosestNamesMessage(model, toDelete.getName(), MESSAGE_DID_YOU_MEAN));
         }
 
         Food foodToDelete = model.getExistingFood(toDelete);
@@ -21,8 +21,10 @@ public class FindCommand extends Command {
             + "the specified keywords in the Name or one of their Tags, or match the specified nutritional value. "
             + "More help in the User Guide.\nChoose only 1 of the following parameters: [n/NAME] [cal/CALORIE] "
             + "[p/PROTEIN] [c/CARBOHYDRATE] [f/FAT] [t/TAG]. NAME and TAG are case-insensitive. \n"
+            + "Nutritional values may also be given as a range: <N, <=N, >N, >=N or MIN-MAX.\n"
             + "Example: '"
-            + COMMAND_WORD + " cal/150' to search by Calorie, or '"
+            + COMMAND_WORD + " cal/150' to search by Calorie, '"
+            + COMMAND_WORD + " p/>=20' to search by a range of Protein, or '"
             + COMMAND_WORD + " n/Pear' to search by Name";
 
     private final Predicate<Food> predicate;
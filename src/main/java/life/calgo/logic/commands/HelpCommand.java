@@ -52,6 +52,11 @@ public class HelpCommand extends Command {
             + "Shows a list of all commands and their usage and format.\n"
             + "Alternatively, search for a specific group of commands using a keyword.\n"
             + "Format: help [COMMAND_WORD]\n\n";
+    public static final String HELP_IMPORT_MESSAGE = "import:\n"
+            + "Adds all Food items in a CSV or JSON-lines file to the Food Record in one go,\n"
+            + "replacing any Food items with the same names. Invalid or repeated rows are skipped and reported.\n"
+            + "CSV rows are of the form NAME,CALORIES,PROTEINS,CARBS,FATS[,TAGS].\n"
+            + "Format: import FILE_PATH\n\n";
     public static final String HELP_LIST_MESSAGE = "list:\n"
             + "Shows a list of all Food items in the Food Records,\n"
             + "with their respective nutritional values of calories, proteins, carbohydrates, and fats.\n"
@@ -69,6 +74,11 @@ public class HelpCommand extends Command {
             + "Displays a list of food items along side how many portions have been consumed on that day.\n"
             + "For a more detailed statistical report with nutritional values of food consumed, see report command.\n"
             + "Format: stomach [d/DATE]\n\n";
+    public static final String HELP_TREND_MESSAGE = "trend:\n"
+            + "Shows your average daily calories, proteins, carbohydrates and fats over the past 7, 30 and 90 days,\n"
+            + "how many days in a row you have kept within or gone over your goal,\n"
+            + "and any days with unusual calories.\n"
+            + "Format: trend\n\n";
     public static final String HELP_UPDATE_MESSAGE = "update:\n"
             + "Updates a Food Item in the Food Record, or creates a new Food Item if one isn't already present.\n"
             + "Format: update n/NAME cal/CALORIES p/PROTEINS c/CARBS f/FATS\n\n";
@@ -83,9 +93,11 @@ public class HelpCommand extends Command {
             + HELP_FIND_MESSAGE
             + HELP_GOAL_MESSAGE
             + HELP_HELP_MESSAGE
+            + HELP_IMPORT_MESSAGE
             + HELP_LIST_MESSAGE
             + HELP_NOM_MESSAGE
             + HELP_REPORT_MESSAGE
+            + HELP_TREND_MESSAGE
             + HELP_UPDATE_MESSAGE
             + HELP_VOMIT_MESSAGE;
 
@@ -122,10 +134,12 @@ public class HelpCommand extends Command {
         internalMap.put("find", HELP_FIND_MESSAGE);
         internalMap.put("goal", HELP_GOAL_MESSAGE);
         internalMap.put("help", HELP_HELP_MESSAGE);
+        internalMap.put("import", HELP_IMPORT_MESSAGE);
         internalMap.put("list", HELP_LIST_MESSAGE);
         internalMap.put("nom", HELP_NOM_MESSAGE);
         internalMap.put("report", HELP_REPORT_MESSAGE);
         internalMap.put("stomach", HELP_STOMACH_MESSAGE);
+        internalMap.put("trend", HELP_TREND_MESSAGE);
         internalMap.put("update", HELP_UPDATE_MESSAGE);
         internalMap.put("vomit", HELP_VOMIT_MESSAGE);
     }
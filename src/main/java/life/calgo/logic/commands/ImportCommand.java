@@ -0,0 +1,118 @@
+package life.calgo.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import life.calgo.logic.commands.exceptions.CommandException;
+import life.calgo.model.Model;
+import life.calgo.model.food.Food;
+import life.calgo.storage.FoodImporter;
+
+/**
+ * Imports all Food in a CSV or JSON-lines file into the Food Record in a single batch.
+ * Food with the same name as an existing Food replace it, as with the update command, unless they are identical to
+ * it, in which case they are left out of the import and reported as unchanged.
+ * Invalid or repeated rows are skipped and reported without aborting the import.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports all foods in a CSV or JSON-lines file "
+            + "into the Food Record, replacing foods with the same names.\n"
+            + "CSV rows are of the form NAME,CALORIES,PROTEIN,CARBOHYDRATE,FAT[,TAGS], with TAGS separated by "
+            + "spaces or semicolons. JSON-lines files hold one food object per line.\n"
+            + "Parameters: FILE_PATH (ending in .csv or .jsonl)\n"
+            + "Example: " + COMMAND_WORD + " data/foods.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d food(s) into Food Record, "
+            + "of which %2$d replaced existing food(s). %3$d food(s) were identical to existing food(s) "
+            + "and left unchanged.";
+    public static final String MESSAGE_SKIPPED_ROWS = "\nSkipped %1$d invalid row(s):";
+    public static final String MESSAGE_MORE_SKIPPED_ROWS = "\n...and %1$d more.";
+    public static final String MESSAGE_FILE_ERROR = "Could not read the file %1$s.";
+
+    /** Maximum number of skipped rows described in the result, so that large files do not flood the display. */
+    public static final int MAX_REPORTED_ROW_ERRORS = 10;
+
+    private final Path filePath;
+    private final FoodImporter.Format format;
+
+    /**
+     * Creates an ImportCommand to import the Food in the file at {@code filePath}, which is in the given
+     * {@code format}.
+     */
+    public ImportCommand(Path filePath, FoodImporter.Format format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    /**
+     * Executes the ImportCommand, reading the whole file before adding its Food to the Model in one batch.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @return the CommandResult describing how many Food were imported and which rows were skipped.
+     * @throws CommandException when the file cannot be read.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        FoodImporter importer = new FoodImporter(filePath, format);
+        try {
+            importer.read();
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_ERROR, filePath), ioe);
+        }
+
+        List<Food> importedFoods = new ArrayList<>();
+        List<Food> replacedFoods = new ArrayList<>();
+        int unchangedCount = 0;
+        for (Food food : importer.getFoods()) {
+            Optional<Food> existingFood = model.getFoodByName(food.getName());
+            if (existingFood.isPresent() && existingFood.get().equals(food)) {
+                unchangedCount++;
+                continue;
+            }
+            if (existingFood.isPresent()) {
+                replacedFoods.add(food);
+            }
+            importedFoods.add(food);
+        }
+
+        model.importFoods(importedFoods);
+        // logged consumption of replaced foods must reflect their new nutritional values
+        replacedFoods.forEach(model::updateConsumedLists);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, importedFoods.size(), replacedFoods.size(),
+                unchangedCount) + describeErrors(importer.getErrors()));
+    }
+
+    private static String describeErrors(List<String> errors) {
+        if (errors.isEmpty()) {
+            return "";
+        }
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_SKIPPED_ROWS, errors.size()));
+        for (int i = 0; i < errors.size() && i < MAX_REPORTED_ROW_ERRORS; i++) {
+            description.append("\n").append(errors.get(i));
+        }
+        if (errors.size() > MAX_REPORTED_ROW_ERRORS) {
+            description.append(String.format(MESSAGE_MORE_SKIPPED_ROWS, errors.size() - MAX_REPORTED_ROW_ERRORS));
+        }
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)
+                && format == ((ImportCommand) other).format); // state check
+    }
+}
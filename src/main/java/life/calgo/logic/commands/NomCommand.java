@@ -43,7 +43,7 @@ public class NomCommand extends Command {
         if (!model.hasLogWithSameDate(foodLog)) {
             model.addLog(foodLog);
         } else {
-            model.updateLog(foodLog);
+            model.updateLog(foodLog, foodConsumed);
         }
         model.updateDate(foodLog.getLocalDate());
         model.updateCurrentFilteredDailyList(Model.PREDICATE_SHOW_ALL_CONSUMED_FOODS,
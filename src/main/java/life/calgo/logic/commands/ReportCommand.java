@@ -49,7 +49,7 @@ public class ReportCommand extends Command {
         requireNonNull(model);
 
         // if there is no food consumed on the given date, do not execute command
-        if (!model.hasLogWithSameDate(queryDate) || model.getLogByDate(queryDate).getFoods().size() == 0) {
+        if (!model.hasLogWithSameDate(queryDate) || model.getLogByDate(queryDate).getNumberOfFoods() == 0) {
             throw new CommandException(MESSAGE_REPORT_FAILURE + "\n" + String.format(NO_SUCH_DATE, queryDate));
         }
 
@@ -57,7 +57,7 @@ public class ReportCommand extends Command {
         DailyFoodLog foodLog = model.getLogByDate(queryDate);
         ArrayList<DailyFoodLog> pastWeekLogs = model.getPastWeekLogs(); // for suggestions feature
 
-        assert foodLog.getFoods().size() > 0 : "ReportCommand is wrongly processing an empty food log.";
+        assert foodLog.getNumberOfFoods() > 0 : "ReportCommand is wrongly processing an empty food log.";
 
         ReportGenerator reportGenerator = new ReportGenerator(queryDate, dailyGoal, foodLog, pastWeekLogs);
         boolean isGenerated = reportGenerator.generateReport();
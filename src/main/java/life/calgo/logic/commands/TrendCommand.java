@@ -0,0 +1,77 @@
+package life.calgo.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import life.calgo.model.Model;
+import life.calgo.model.day.ConsumptionTrends;
+import life.calgo.model.day.DailyGoal;
+import life.calgo.model.day.DailySummary;
+import life.calgo.model.food.Nutrient;
+
+/**
+ * Shows the user's recent consumption trends: moving averages of calories and macronutrients, how many days in a
+ * row they have been within or over their goal, and any days with unusually high or low calories.
+ */
+public class TrendCommand extends Command {
+
+    public static final String COMMAND_WORD = "trend";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows your average daily consumption over the past "
+            + "7, 30 and 90 days, your current streak against your goal and any unusual days.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_HEADER = "Your consumption trends up to %1$s:\n";
+
+    public static final String MESSAGE_AVERAGE = "Past %1$d days (%2$d logged): %3$.0f calories, %4$.0fg protein, "
+            + "%5$.0fg carbohydrate and %6$.0fg fat a day on average.\n";
+
+    public static final String MESSAGE_NO_GOAL = "Set a daily calorie goal to keep track of your streaks.\n";
+
+    public static final String MESSAGE_NO_STREAK = "You have no streak going. Log today's meals to start one!\n";
+
+    public static final String MESSAGE_WITHIN_GOAL_STREAK = "You have kept within your goal %1$d day(s) in a row. "
+            + "Keep it up!\n";
+
+    public static final String MESSAGE_OVER_GOAL_STREAK = "You have gone over your goal %1$d day(s) in a row.\n";
+
+    public static final String MESSAGE_UNUSUAL_DAYS = "Unusual days:";
+
+    public static final String MESSAGE_UNUSUAL_DAY = " %1$s (%2$.0f calories)";
+
+    public static final String MESSAGE_NO_UNUSUAL_DAYS = "No unusual days in the past 90 days.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ConsumptionTrends trends = model.getConsumptionTrends();
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_HEADER, trends.getEndDate()));
+        for (int windowLength : ConsumptionTrends.WINDOW_LENGTHS) {
+            feedback.append(String.format(MESSAGE_AVERAGE, windowLength, trends.getDaysLogged(windowLength),
+                    trends.getAverage(windowLength, Nutrient.CALORIE),
+                    trends.getAverage(windowLength, Nutrient.PROTEIN),
+                    trends.getAverage(windowLength, Nutrient.CARBOHYDRATE),
+                    trends.getAverage(windowLength, Nutrient.FAT)));
+        }
+
+        if (model.getDailyGoal().getGoal() == DailyGoal.DUMMY_VALUE) {
+            feedback.append(MESSAGE_NO_GOAL);
+        } else if (trends.getStreakLength() == 0) {
+            feedback.append(MESSAGE_NO_STREAK);
+        } else {
+            feedback.append(String.format(trends.isStreakWithinGoal()
+                    ? MESSAGE_WITHIN_GOAL_STREAK : MESSAGE_OVER_GOAL_STREAK, trends.getStreakLength()));
+        }
+
+        if (trends.getUnusualDays().isEmpty()) {
+            feedback.append(MESSAGE_NO_UNUSUAL_DAYS);
+        } else {
+            feedback.append(MESSAGE_UNUSUAL_DAYS);
+            for (DailySummary day : trends.getUnusualDays()) {
+                feedback.append(String.format(MESSAGE_UNUSUAL_DAY, day.getLocalDate(),
+                        day.getTotal(Nutrient.CALORIE)));
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+}
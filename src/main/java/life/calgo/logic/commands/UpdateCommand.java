@@ -36,6 +36,8 @@ public class UpdateCommand extends Command {
             "Updated existing food item in Food Record:\n%1$s";
     public static final String MESSAGE_UPDATE_EXISTING_FOOD_SAME_VALUES_FAILED =
         "The nutritional value that you have entered is exactly the same as %1$s in the Food Record!";
+    public static final String MESSAGE_SIMILAR_FOOD_EXISTS =
+            "\nNote: food with similar names already exist in Food Record: %1$s";
 
     private final Food toAdd;
 
@@ -61,9 +63,11 @@ public class UpdateCommand extends Command {
             model.updateFilteredFoodRecord(Model.PREDICATE_SHOW_ALL_FOODS);
             return new CommandResult(String.format(MESSAGE_UPDATE_EXISTING_FOOD_SUCCESS, toAdd));
         } else {
+            // look for near-duplicates before adding, so the new food does not match itself
+            String similarFoodMessage = getClosestNamesMessage(model, toAdd.getName(), MESSAGE_SIMILAR_FOOD_EXISTS);
             model.addFood(toAdd);
             model.updateConsumedLists(toAdd);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+            return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd) + similarFoodMessage);
         }
 
     }
@@ -40,7 +40,7 @@ public class VomitCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateLog(foodLog);
+        model.updateLog(foodLog, foodVomited);
         model.updateDate(foodLog.getLocalDate());
         model.updateCurrentFilteredDailyList(Model.PREDICATE_SHOW_ALL_CONSUMED_FOODS,
                 foodLog.getLocalDate());
@@ -12,10 +12,12 @@ import life.calgo.logic.commands.ExportCommand;
 import life.calgo.logic.commands.FindCommand;
 import life.calgo.logic.commands.GoalCommand;
 import life.calgo.logic.commands.HelpCommand;
+import life.calgo.logic.commands.ImportCommand;
 import life.calgo.logic.commands.ListCommand;
 import life.calgo.logic.commands.NomCommand;
 import life.calgo.logic.commands.ReportCommand;
 import life.calgo.logic.commands.StomachCommand;
+import life.calgo.logic.commands.TrendCommand;
 import life.calgo.logic.commands.UpdateCommand;
 import life.calgo.logic.commands.VomitCommand;
 import life.calgo.logic.parser.exceptions.ParseException;
@@ -70,12 +72,18 @@ public class CalgoParser {
         case ExportCommand.COMMAND_WORD:
             return new ExportCommand();
 
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
         case ReportCommand.COMMAND_WORD:
             return new ReportCommandParser().parse(arguments);
 
         case GoalCommand.COMMAND_WORD:
             return new GoalCommandParser().parse(arguments);
 
+        case TrendCommand.COMMAND_WORD:
+            return new TrendCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -4,6 +4,8 @@ import static life.calgo.logic.parser.ParserUtil.arePrefixesPresent;
 
 import java.util.ArrayList;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import life.calgo.commons.core.Messages;
 import life.calgo.logic.commands.FindCommand;
@@ -13,11 +15,13 @@ import life.calgo.model.food.Carbohydrate;
 import life.calgo.model.food.Fat;
 import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
+import life.calgo.model.food.Nutrient;
 import life.calgo.model.food.Protein;
 import life.calgo.model.food.predicates.CalorieContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.CarbohydrateContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.FatContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.NameContainsKeywordsPredicate;
+import life.calgo.model.food.predicates.NutrientInRangePredicate;
 import life.calgo.model.food.predicates.ProteinContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.TagContainsKeywordsPredicate;
 import life.calgo.model.tag.Tag;
@@ -30,6 +34,14 @@ public class FindCommandParser implements Parser<FindCommand> {
     public static final String MESSAGE_EXCESS_FIND_FILTERS = "Please specify 1 and only 1 correct parameter for "
             + "filtering using the find command.";
 
+    public static final String MESSAGE_INVALID_RANGE = "Nutritional value ranges should be of the form <N, <=N, "
+            + ">N, >=N or MIN-MAX, where each value is a non-negative integer of at most 5 digits "
+            + "and MIN is not more than MAX.";
+
+    private static final String RANGE_VALUE_REGEX = "\\s*(\\d{1,5})\\s*";
+    private static final Pattern COMPARISON_RANGE_FORMAT = Pattern.compile("(<=|>=|<|>)" + RANGE_VALUE_REGEX);
+    private static final Pattern BOUNDED_RANGE_FORMAT = Pattern.compile(RANGE_VALUE_REGEX + "-" + RANGE_VALUE_REGEX);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand, returning a FindCommand object.
      *
@@ -91,22 +103,38 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         if (arePrefixesPresent(am, CliSyntax.PREFIX_CALORIES)) {
-            Calorie calorie = ParserUtil.parseCalorie(am.getValue(CliSyntax.PREFIX_CALORIES).get());
+            String value = am.getValue(CliSyntax.PREFIX_CALORIES).get();
+            if (isRange(value)) {
+                return parseNutrientRange(Nutrient.CALORIE, value);
+            }
+            Calorie calorie = ParserUtil.parseCalorie(value);
             return new CalorieContainsKeywordsPredicate(calorie);
         }
 
         if (arePrefixesPresent(am, CliSyntax.PREFIX_PROTEIN)) {
-            Protein protein = ParserUtil.parseProtein(am.getValue(CliSyntax.PREFIX_PROTEIN).get());
+            String value = am.getValue(CliSyntax.PREFIX_PROTEIN).get();
+            if (isRange(value)) {
+                return parseNutrientRange(Nutrient.PROTEIN, value);
+            }
+            Protein protein = ParserUtil.parseProtein(value);
             return new ProteinContainsKeywordsPredicate(protein);
         }
 
         if (arePrefixesPresent(am, CliSyntax.PREFIX_CARBOHYDRATE)) {
-            Carbohydrate carbohydrate = ParserUtil.parseCarbohydrate(am.getValue(CliSyntax.PREFIX_CARBOHYDRATE).get());
+            String value = am.getValue(CliSyntax.PREFIX_CARBOHYDRATE).get();
+            if (isRange(value)) {
+                return parseNutrientRange(Nutrient.CARBOHYDRATE, value);
+            }
+            Carbohydrate carbohydrate = ParserUtil.parseCarbohydrate(value);
             return new CarbohydrateContainsKeywordsPredicate(carbohydrate);
         }
 
         if (arePrefixesPresent(am, CliSyntax.PREFIX_FAT)) {
-            Fat fat = ParserUtil.parseFat(am.getValue(CliSyntax.PREFIX_FAT).get());
+            String value = am.getValue(CliSyntax.PREFIX_FAT).get();
+            if (isRange(value)) {
+                return parseNutrientRange(Nutrient.FAT, value);
+            }
+            Fat fat = ParserUtil.parseFat(value);
             return new FatContainsKeywordsPredicate(fat);
         }
 
@@ -125,4 +153,62 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     }
 
+    /**
+     * Returns true if {@code value} is written as a range rather than a single nutritional value.
+     */
+    private static boolean isRange(String value) {
+        String trimmedValue = value.trim();
+        return trimmedValue.startsWith("<") || trimmedValue.startsWith(">") || trimmedValue.contains("-");
+    }
+
+    /**
+     * Parses a range of values of the {@code nutrient}, such as {@code <300}, {@code >=20} or {@code 10-40},
+     * into a Predicate accepting Food whose amount of the nutrient lies within the range.
+     *
+     * @param nutrient the nutrient the range refers to.
+     * @param range the user input describing the range.
+     * @return the Predicate for the range.
+     * @throws ParseException when the range is malformed or empty.
+     */
+    private static NutrientInRangePredicate parseNutrientRange(Nutrient nutrient, String range)
+            throws ParseException {
+        String trimmedRange = range.trim();
+        int lowerBound;
+        int upperBound;
+
+        Matcher comparisonMatcher = COMPARISON_RANGE_FORMAT.matcher(trimmedRange);
+        Matcher boundedMatcher = BOUNDED_RANGE_FORMAT.matcher(trimmedRange);
+        if (comparisonMatcher.matches()) {
+            int value = Integer.parseInt(comparisonMatcher.group(2));
+            switch (comparisonMatcher.group(1)) {
+            case "<":
+                lowerBound = 0;
+                upperBound = value - 1;
+                break;
+            case "<=":
+                lowerBound = 0;
+                upperBound = value;
+                break;
+            case ">":
+                lowerBound = value + 1;
+                upperBound = Integer.MAX_VALUE;
+                break;
+            default:
+                lowerBound = value;
+                upperBound = Integer.MAX_VALUE;
+                break;
+            }
+        } else if (boundedMatcher.matches()) {
+            lowerBound = Integer.parseInt(boundedMatcher.group(1));
+            upperBound = Integer.parseInt(boundedMatcher.group(2));
+        } else {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+
+        if (lowerBound > upperBound) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new NutrientInRangePredicate(nutrient, lowerBound, upperBound);
+    }
+
 }
@@ -0,0 +1,56 @@
+package life.calgo.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import life.calgo.commons.core.Messages;
+import life.calgo.logic.commands.ImportCommand;
+import life.calgo.logic.parser.exceptions.ParseException;
+import life.calgo.storage.FoodImporter;
+
+/**
+ * Parses input arguments in order to create a new ImportCommand object.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_FILE_TYPE = "Only .csv and .jsonl files can be imported.";
+
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String JSON_LINES_EXTENSION = ".jsonl";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand.
+     *
+     * @param args A String of arguments provided by user, which should be a single file path.
+     * @return An ImportCommand object for execution.
+     * @throws ParseException If the file path is missing or invalid, or the file is of an unsupported type.
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path filePath;
+        try {
+            filePath = Paths.get(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportCommand.MESSAGE_USAGE), ipe);
+        }
+
+        String lowerCaseFileName = trimmedArgs.toLowerCase();
+        if (lowerCaseFileName.endsWith(CSV_EXTENSION)) {
+            return new ImportCommand(filePath, FoodImporter.Format.CSV);
+        }
+        if (lowerCaseFileName.endsWith(JSON_LINES_EXTENSION)) {
+            return new ImportCommand(filePath, FoodImporter.Format.JSON_LINES);
+        }
+        throw new ParseException(MESSAGE_UNSUPPORTED_FILE_TYPE);
+    }
+}
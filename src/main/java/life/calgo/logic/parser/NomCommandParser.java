@@ -15,11 +15,13 @@ import static life.calgo.logic.parser.CliSyntax.PREFIX_TAG;
 import java.util.Optional;
 
 import life.calgo.commons.core.Messages;
+import life.calgo.logic.commands.Command;
 import life.calgo.logic.commands.NomCommand;
 import life.calgo.logic.parser.exceptions.ParseException;
 import life.calgo.model.Model;
 import life.calgo.model.day.DailyFoodLog;
 import life.calgo.model.food.Food;
+import life.calgo.model.food.Name;
 
 /**
  * Parses input arguments in order to create a new NomCommand object.
@@ -105,13 +107,14 @@ public class NomCommandParser implements Parser<NomCommand> {
      *
      * @param argMultimap ArgumentMultimap containing prefix of food name mapped to its value.
      * @return Optional wrapped food object.
-     * @throws ParseException If food does not exist in Food Record.
+     * @throws ParseException If food does not exist in Food Record, suggesting similarly named food if any.
      */
     private Optional<Food> fixNomFood(ArgumentMultimap argMultimap) throws ParseException {
-        Optional<Food> optionalFood = model.getFoodByName(
-                ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
+        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
+        Optional<Food> optionalFood = model.getFoodByName(name);
         if (optionalFood.isEmpty()) {
-            throw new ParseException(MESSAGE_NONEXISTENT_FOOD);
+            throw new ParseException(MESSAGE_NONEXISTENT_FOOD
+                    + Command.getClosestNamesMessage(model, name, Command.MESSAGE_DID_YOU_MEAN));
         }
         return optionalFood;
     }
@@ -0,0 +1,67 @@
+package life.calgo.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Counts the versions of a record, and remembers the latest value of each of its keys that changed and the version
+ * it changed at, so that the changes since a version can be found without comparing the whole record.
+ * Only the latest change of each key is kept, so this holds at most one entry for every key ever changed.
+ *
+ * The tracker is maintained by the record it belongs to, which is the only class that may modify it.
+ */
+class ChangeTracker<K, V> {
+
+    private final TreeMap<Long, K> keysByVersion = new TreeMap<>();
+    private final HashMap<K, Long> versionsByKey = new HashMap<>();
+    // null for keys that were removed
+    private final HashMap<K, V> valuesByKey = new HashMap<>();
+    private long version;
+    // the changes up to this version are not known
+    private long resetVersion;
+
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Records that {@code key} now has {@code value}, or was removed if {@code value} is null, as a new version.
+     */
+    void change(K key, V value) {
+        version++;
+        Long oldVersion = versionsByKey.put(key, version);
+        if (oldVersion != null) {
+            keysByVersion.remove(oldVersion);
+        }
+        keysByVersion.put(version, key);
+        valuesByKey.put(key, value);
+    }
+
+    /**
+     * Records that any key may have changed, as a new version. The changes before it are forgotten.
+     */
+    void changeAll() {
+        version++;
+        keysByVersion.clear();
+        versionsByKey.clear();
+        valuesByKey.clear();
+        resetVersion = version;
+    }
+
+    /**
+     * Returns the latest value of each key changed since {@code sinceVersion}, with keys that were removed mapped to
+     * null, or an empty Optional if the changes since then are not known.
+     */
+    Optional<Map<K, V>> getChangesSince(long sinceVersion) {
+        if (sinceVersion < resetVersion || sinceVersion > version) {
+            return Optional.empty();
+        }
+        Map<K, V> changes = new HashMap<>();
+        for (K key : keysByVersion.tailMap(sinceVersion, false).values()) {
+            changes.put(key, valuesByKey.get(key));
+        }
+        return Optional.of(changes);
+    }
+}
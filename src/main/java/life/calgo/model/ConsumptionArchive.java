@@ -0,0 +1,42 @@
+package life.calgo.model;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailySummary;
+
+/**
+ * Holds the DailyFoodLog of days too old to be worth keeping in memory.
+ * The summary of every archived day can be read without reading the food consumed on it, and the full logs are
+ * only read when asked for.
+ */
+public interface ConsumptionArchive {
+
+    /**
+     * Returns the summary of every archived day.
+     *
+     * @throws DataConversionException If the archive is not in the expected format.
+     * @throws IOException If there was any problem when reading the archive.
+     */
+    List<DailySummary> readSummaries() throws DataConversionException, IOException;
+
+    /**
+     * Returns the archived logs dated from {@code from} to {@code to}, both inclusive, in date order.
+     *
+     * @throws DataConversionException If the archive is not in the expected format.
+     * @throws IOException If there was any problem when reading the archive.
+     */
+    List<DailyFoodLog> readLogs(LocalDate from, LocalDate to) throws DataConversionException, IOException;
+
+    /**
+     * Adds {@code logs} to the archive, replacing any archived log of the same date.
+     *
+     * @throws DataConversionException If the archive is not in the expected format.
+     * @throws IOException If there was any problem when reading or writing the archive.
+     */
+    void writeLogs(Collection<DailyFoodLog> logs) throws DataConversionException, IOException;
+}
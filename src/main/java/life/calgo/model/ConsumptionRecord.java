@@ -2,22 +2,38 @@ package life.calgo.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import life.calgo.commons.core.LogsCenter;
+import life.calgo.commons.exceptions.DataConversionException;
 import life.calgo.logic.commands.exceptions.CommandException;
+import life.calgo.model.day.ConsumptionTrends;
 import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.RollupBucket;
+import life.calgo.model.day.RollupPeriod;
 import life.calgo.model.day.UniqueDateToLogMap;
 import life.calgo.model.food.DisplayFood;
 import life.calgo.model.food.Food;
 
 /**
  * Wraps all data at the consumption record level.
+ * Days older than a horizon can be moved out to a {@link ConsumptionArchive}, so that only recent days are held in
+ * memory and saved with the record. Archived days are read back into the record when they are asked for.
  */
 public class ConsumptionRecord implements ReadOnlyConsumptionRecord {
+    private static final Logger logger = LogsCenter.getLogger(ConsumptionRecord.class);
+
     private final UniqueDateToLogMap dateToLogMap;
+    private final ChangeTracker<LocalDate, DailyFoodLog> changes = new ChangeTracker<>();
+    private ConsumptionArchive archive;
 
     {
         dateToLogMap = new UniqueDateToLogMap();
@@ -41,6 +57,7 @@ public class ConsumptionRecord implements ReadOnlyConsumptionRecord {
     public void resetData(ReadOnlyConsumptionRecord newData) {
         requireNonNull(newData);
         dateToLogMap.setDateToLogMap(newData.getDateToLogMap());
+        changes.changeAll();
     }
 
     @Override
@@ -50,16 +67,81 @@ public class ConsumptionRecord implements ReadOnlyConsumptionRecord {
 
     public void addLog(DailyFoodLog foodLog) {
         dateToLogMap.addLog(foodLog);
+        changes.change(foodLog.getLocalDate(), foodLog);
     }
 
     public boolean hasLogWithSameDate(DailyFoodLog foodLog) {
+        loadArchivedLogs(foodLog.getLocalDate(), foodLog.getLocalDate());
         return dateToLogMap.hasLogWithSameDate(foodLog);
     }
 
     public DailyFoodLog getLogByDate(LocalDate date) {
+        loadArchivedLogs(date, date);
         return dateToLogMap.getLogByDate(date);
     }
 
+    public NavigableMap<LocalDate, DailyFoodLog> logsBetween(LocalDate from, LocalDate to) {
+        loadArchivedLogs(from, to);
+        return dateToLogMap.logsBetween(from, to);
+    }
+
+    /**
+     * Sets the archive that old logs are moved to, and counts the days already in it towards the rollups.
+     *
+     * @throws DataConversionException If the archive is not in the expected format.
+     * @throws IOException If there was any problem when reading the archive.
+     */
+    public void setArchive(ConsumptionArchive archive) throws DataConversionException, IOException {
+        requireNonNull(archive);
+        dateToLogMap.addArchivedSummaries(archive.readSummaries());
+        this.archive = archive;
+    }
+
+    /**
+     * Moves every log dated before {@code horizon} to the archive.
+     * If the archive cannot be written, the logs are kept in this record.
+     *
+     * @throws DataConversionException If the archive is not in the expected format.
+     * @throws IOException If there was any problem when writing the archive.
+     */
+    public void archiveLogsBefore(LocalDate horizon) throws DataConversionException, IOException {
+        requireNonNull(horizon);
+        if (archive == null) {
+            throw new IllegalStateException("No archive has been set.");
+        }
+        List<DailyFoodLog> oldLogs = List.copyOf(dateToLogMap.logsBetween(LocalDate.MIN, horizon.minusDays(1))
+                .values());
+        if (oldLogs.isEmpty()) {
+            return;
+        }
+        archive.writeLogs(oldLogs);
+        for (DailyFoodLog foodLog : dateToLogMap.archiveLogsBefore(horizon)) {
+            changes.change(foodLog.getLocalDate(), null);
+        }
+        logger.info("Archived " + oldLogs.size() + " log(s) dated before " + horizon);
+    }
+
+    /**
+     * Reads the archived logs dated from {@code from} to {@code to}, both inclusive, back into this record.
+     * If the archive cannot be read, the days are left archived and treated as having no log.
+     */
+    private void loadArchivedLogs(LocalDate from, LocalDate to) {
+        if (archive == null || dateToLogMap.getArchivedDatesBetween(from, to).isEmpty()) {
+            return;
+        }
+        try {
+            for (DailyFoodLog foodLog : archive.readLogs(from, to)) {
+                if (!dateToLogMap.hasLogWithSameDate(foodLog)) {
+                    // the log is already saved in the archive, so reading it back changes no data
+                    dateToLogMap.addLog(foodLog);
+                }
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading archived logs from " + from + " to " + to + ": "
+                    + e.getMessage());
+        }
+    }
+
     /**
      * Updates a log in {@code dateToLogMap}, replacing it with {@code logAfterConsumption}.
      *
@@ -67,16 +149,48 @@ public class ConsumptionRecord implements ReadOnlyConsumptionRecord {
      */
     public void updateLog(DailyFoodLog logAfterConsumption) {
         dateToLogMap.updateLog(logAfterConsumption);
+        changes.change(logAfterConsumption.getLocalDate(), logAfterConsumption);
+    }
+
+    /**
+     * Updates a log in {@code dateToLogMap}, replacing it with {@code logAfterConsumption}, which differs from it
+     * only in {@code changedFood}.
+     *
+     * @param logAfterConsumption DailyFoodLog object reflecting the food recently consumed or vomited.
+     * @param changedFood The Food consumed or vomited.
+     */
+    public void updateLog(DailyFoodLog logAfterConsumption, Food changedFood) {
+        dateToLogMap.updateLog(logAfterConsumption, changedFood);
+        changes.change(logAfterConsumption.getLocalDate(), logAfterConsumption);
+    }
+
+    public List<RollupBucket> getRollups(RollupPeriod period, LocalDate from, LocalDate to) {
+        return dateToLogMap.getRollups(period, from, to);
+    }
+
+    public void setRollupGoal(int goalCalories) {
+        dateToLogMap.setRollupGoal(goalCalories);
+    }
+
+    public ConsumptionTrends getTrends(LocalDate today) {
+        return dateToLogMap.getTrends(today);
     }
 
     public void updateConsumedLists(Food food) {
-        dateToLogMap.updateMapWithFood(food);
+        for (DailyFoodLog foodLog : dateToLogMap.updateMapWithFood(food)) {
+            changes.change(foodLog.getLocalDate(), foodLog);
+        }
     }
 
     public void setDailyListDate(LocalDate date) throws CommandException {
+        loadArchivedLogs(date, date);
         dateToLogMap.setDailyListDate(date);
     }
 
+    public DailyFoodLog getDailyListLog() {
+        return dateToLogMap.getDailyListLog();
+    }
+
     @Override
     public ObservableList<DisplayFood> getDailyList() {
         return dateToLogMap.asUnmodifiableDailyList();
@@ -87,6 +201,16 @@ public class ConsumptionRecord implements ReadOnlyConsumptionRecord {
         return dateToLogMap.getDailyFoodLogs();
     }
 
+    @Override
+    public long getVersion() {
+        return changes.getVersion();
+    }
+
+    @Override
+    public Optional<Map<LocalDate, DailyFoodLog>> getChangesSince(long version) {
+        return changes.getChangesSince(version);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,301 @@
+package life.calgo.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import life.calgo.model.food.Food;
+
+/**
+ * A ternary search tree of the case-folded names of the Food in a {@code FoodRecord}, used for name completion and
+ * for suggesting names close to a misspelt one.
+ * Looking up a prefix takes time proportional to the length of the prefix and the number of results returned,
+ * independent of the number of Food in the tree.
+ *
+ * Names within some edit distance of a misspelt one are found by running the Levenshtein dynamic program down the
+ * tree, one row per character, so names sharing a prefix share the rows of that prefix. A branch is abandoned as soon
+ * as every entry of its row exceeds the edit distance, since no name below it can come closer. The number of nodes
+ * visited is bounded by the prefixes within that distance of a prefix of the misspelt name, which stops growing once
+ * the tree holds most of them, rather than growing with the number of names.
+ *
+ * Removing a name also removes the nodes it leaves behind that no longer lead to any name, so the size of the tree
+ * depends only on the names in it. The tree is rebuilt from scratch whenever the whole FoodRecord is replaced.
+ * The tree is maintained by {@code FoodRecord}, which is the only class that may modify it.
+ */
+public class FoodNameTrie {
+
+    /**
+     * A node of the tree, holding a single character of the names passing through it.
+     */
+    private static class Node {
+        private final char character;
+        private Node lower;
+        private Node equal;
+        private Node higher;
+        private Food food;
+
+        private Node(char character) {
+            this.character = character;
+        }
+    }
+
+    /**
+     * A Food found by a search, together with the edit distance of its name from the name searched for.
+     */
+    private static class Match {
+        private final int distance;
+        private final Food food;
+
+        private Match(int distance, Food food) {
+            this.distance = distance;
+            this.food = food;
+        }
+    }
+
+    /**
+     * A search for the names within {@code maxDistance} edits of {@code key}, which records the Food found and the
+     * number of nodes it visited.
+     */
+    static class ClosestNameSearch {
+        private final String key;
+        private final int maxDistance;
+        private final List<Match> matches = new ArrayList<>();
+        private int visitedNodes = 0;
+
+        private ClosestNameSearch(String key, int maxDistance) {
+            this.key = key;
+            this.maxDistance = maxDistance;
+        }
+
+        int getVisitedNodes() {
+            return visitedNodes;
+        }
+
+        /**
+         * Visits {@code node} and its siblings and descendants, where {@code previousRow} holds the edit distances
+         * between every prefix of the key and the name leading up to, but not including, the character of
+         * {@code node}.
+         */
+        private void visit(Node node, int[] previousRow) {
+            while (node != null) {
+                visitedNodes++;
+                visit(node.lower, previousRow);
+
+                int[] row = new int[previousRow.length];
+                row[0] = previousRow[0] + 1;
+                int smallest = row[0];
+                for (int j = 1; j < row.length; j++) {
+                    int substitution = previousRow[j - 1] + (key.charAt(j - 1) == node.character ? 0 : 1);
+                    row[j] = Math.min(substitution, Math.min(previousRow[j], row[j - 1]) + 1);
+                    smallest = Math.min(smallest, row[j]);
+                }
+                int distance = row[row.length - 1];
+                if (node.food != null && distance <= maxDistance) {
+                    matches.add(new Match(distance, node.food));
+                }
+                if (smallest <= maxDistance) {
+                    visit(node.equal, row);
+                }
+
+                // the higher sibling continues from the same prefix, so it is visited without recursing
+                node = node.higher;
+            }
+        }
+
+        private List<Food> getClosestFood(int limit) {
+            matches.sort(Comparator.<Match>comparingInt(match -> match.distance)
+                    .thenComparing(match -> match.food.getName().getKey()));
+            List<Food> result = new ArrayList<>();
+            for (int i = 0; i < matches.size() && i < limit; i++) {
+                result.add(matches.get(i).food);
+            }
+            return result;
+        }
+    }
+
+    private Node root;
+
+    /**
+     * Adds {@code food} under its case-folded name, replacing any Food with the same name.
+     */
+    void add(Food food) {
+        String key = food.getName().getKey();
+        if (root == null) {
+            root = new Node(key.charAt(0));
+        }
+        Node node = root;
+        int position = 0;
+        while (true) {
+            char character = key.charAt(position);
+            if (character < node.character) {
+                if (node.lower == null) {
+                    node.lower = new Node(character);
+                }
+                node = node.lower;
+            } else if (character > node.character) {
+                if (node.higher == null) {
+                    node.higher = new Node(character);
+                }
+                node = node.higher;
+            } else if (position + 1 < key.length()) {
+                position++;
+                if (node.equal == null) {
+                    node.equal = new Node(key.charAt(position));
+                }
+                node = node.equal;
+            } else {
+                node.food = food;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the Food with the same name as {@code food}.
+     */
+    void remove(Food food) {
+        root = remove(root, food.getName().getKey(), 0);
+    }
+
+    /**
+     * Returns true if the tree holds no names.
+     */
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Replaces the contents of the tree with {@code foods}.
+     */
+    void setAll(List<Food> foods) {
+        root = null;
+        foods.forEach(this::add);
+    }
+
+    /**
+     * Returns up to {@code limit} Food whose name starts with {@code input}, or whose whole name is itself
+     * a prefix of {@code input}, ignoring case. Results are in lexicographic order of their case-folded names,
+     * with the names that are a prefix of {@code input} first.
+     *
+     * @param input the partial name entered so far.
+     * @param limit the maximum number of Food to return.
+     * @return the Food with names similar to {@code input}.
+     */
+    public List<Food> getSimilarFood(String input, int limit) {
+        List<Food> result = new ArrayList<>();
+        String key = input.toLowerCase().trim();
+        if (key.isEmpty() || limit <= 0) {
+            return result;
+        }
+
+        // walk down the input, collecting the names that end along the way
+        Node node = root;
+        int position = 0;
+        while (node != null) {
+            char character = key.charAt(position);
+            if (character < node.character) {
+                node = node.lower;
+            } else if (character > node.character) {
+                node = node.higher;
+            } else if (position + 1 < key.length()) {
+                if (node.food != null && result.size() < limit) {
+                    result.add(node.food);
+                }
+                position++;
+                node = node.equal;
+            } else {
+                break;
+            }
+        }
+
+        if (node != null) {
+            // every name in the subtree below the end of the input starts with the input
+            if (node.food != null && result.size() < limit) {
+                result.add(node.food);
+            }
+            collect(node.equal, result, limit);
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} Food whose names are within {@code maxDistance} edits of {@code name},
+     * ignoring case, closest first. Food at the same distance are in lexicographic order of their names.
+     *
+     * @param name the possibly misspelt name to search for.
+     * @param maxDistance the maximum number of single-character insertions, deletions or substitutions allowed.
+     * @param limit the maximum number of Food to return.
+     * @return the Food with names closest to {@code name}.
+     */
+    public List<Food> getClosestFood(String name, int maxDistance, int limit) {
+        return searchClosest(name, maxDistance).getClosestFood(limit);
+    }
+
+    /**
+     * Returns the completed search for the names within {@code maxDistance} edits of {@code name}, ignoring case.
+     */
+    ClosestNameSearch searchClosest(String name, int maxDistance) {
+        String key = name.toLowerCase().trim();
+        ClosestNameSearch search = new ClosestNameSearch(key, maxDistance);
+        int[] emptyPrefixRow = new int[key.length() + 1];
+        for (int j = 0; j < emptyPrefixRow.length; j++) {
+            emptyPrefixRow[j] = j;
+        }
+        search.visit(root, emptyPrefixRow);
+        return search;
+    }
+
+    /**
+     * Removes {@code key} from the subtree rooted at {@code node}, whose nodes hold the character of {@code key} at
+     * {@code position}, and returns the root of what is left of the subtree.
+     * Every node on the path to {@code key} that no longer holds a Food or leads to one is removed on the way back up.
+     */
+    private static Node remove(Node node, String key, int position) {
+        if (node == null) {
+            return null;
+        }
+        char character = key.charAt(position);
+        if (character < node.character) {
+            node.lower = remove(node.lower, key, position);
+        } else if (character > node.character) {
+            node.higher = remove(node.higher, key, position);
+        } else if (position + 1 < key.length()) {
+            node.equal = remove(node.equal, key, position + 1);
+        } else {
+            node.food = null;
+        }
+        return node.food == null && node.equal == null ? join(node.lower, node.higher) : node;
+    }
+
+    /**
+     * Returns the root of a subtree holding the names of both {@code lower} and {@code higher}, where every node at
+     * the top level of {@code lower} holds a smaller character than those at the top level of {@code higher}.
+     */
+    private static Node join(Node lower, Node higher) {
+        if (lower == null) {
+            return higher;
+        }
+        Node highest = lower;
+        while (highest.higher != null) {
+            highest = highest.higher;
+        }
+        highest.higher = higher;
+        return lower;
+    }
+
+    /**
+     * Adds the Food in the subtree rooted at {@code node} to {@code result} in lexicographic order,
+     * until {@code result} holds {@code limit} Food.
+     */
+    private static void collect(Node node, List<Food> result, int limit) {
+        if (node == null || result.size() >= limit) {
+            return;
+        }
+        collect(node.lower, result, limit);
+        if (node.food != null && result.size() < limit) {
+            result.add(node.food);
+        }
+        collect(node.equal, result, limit);
+        collect(node.higher, result, limit);
+    }
+}
@@ -2,13 +2,21 @@ package life.calgo.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
+import life.calgo.model.food.Nutrient;
 import life.calgo.model.food.UniqueFoodList;
+import life.calgo.model.tag.Tag;
 
 /**
  * Contains all Food entries, ensuring they are in lexicographic order and without duplicates.
@@ -17,6 +25,19 @@ import life.calgo.model.food.UniqueFoodList;
 public class FoodRecord implements ReadOnlyFoodRecord {
 
     private final UniqueFoodList foodList;
+    private final NutrientTable nutrientTable = new NutrientTable();
+    private final EnumMap<Nutrient, SortedNutrientIndex> nutrientIndexes = new EnumMap<>(Nutrient.class);
+    private final FoodNameTrie nameTrie = new FoodNameTrie();
+    private final KeywordIndex nameIndex = new KeywordIndex(food ->
+            Arrays.asList(food.getName().fullName.split("\\s+")));
+    private final KeywordIndex tagIndex = new KeywordIndex(food -> {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : food.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+        return tagNames;
+    });
+    private final ChangeTracker<String, Food> changes = new ChangeTracker<>();
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -26,6 +47,9 @@ public class FoodRecord implements ReadOnlyFoodRecord {
      */
     {
         foodList = new UniqueFoodList();
+        for (Nutrient nutrient : Nutrient.values()) {
+            nutrientIndexes.put(nutrient, new SortedNutrientIndex(nutrient));
+        }
     }
 
     public FoodRecord() {}
@@ -45,7 +69,17 @@ public class FoodRecord implements ReadOnlyFoodRecord {
      * {@code foods} must not contain duplicate foods.
      */
     public void setFoodList(List<Food> foods) {
+        setAll(foods);
+        changes.changeAll();
+    }
+
+    private void setAll(List<Food> foods) {
         this.foodList.setFoods(foods);
+        nutrientTable.setAll(foods);
+        nutrientIndexes.values().forEach(index -> index.setAll(foods));
+        nameIndex.setAll(foods);
+        nameTrie.setAll(foods);
+        tagIndex.setAll(foods);
     }
 
     /**
@@ -58,6 +92,28 @@ public class FoodRecord implements ReadOnlyFoodRecord {
 
     // food-level operations
 
+    /**
+     * Adds all of {@code foods} to the FoodRecord in a single batch, replacing any Food with the same identity.
+     * {@code foods} must not contain duplicate foods.
+     * The food list is sorted and the indexes rebuilt once, rather than once per Food.
+     *
+     * @param foods the Food to add.
+     */
+    public void importFoods(List<Food> foods) {
+        requireNonNull(foods);
+        LinkedHashMap<String, Food> mergedFoods = new LinkedHashMap<>();
+        for (Food food : foodList) {
+            mergedFoods.put(food.getName().getKey(), food);
+        }
+        for (Food food : foods) {
+            mergedFoods.put(food.getName().getKey(), food);
+        }
+        setAll(new ArrayList<>(mergedFoods.values()));
+        for (Food food : foods) {
+            changes.change(food.getName().getKey(), food);
+        }
+    }
+
     /**
      * Returns true if a food with the same identity as {@code food} exists in the FoodRecord.
      *
@@ -77,6 +133,12 @@ public class FoodRecord implements ReadOnlyFoodRecord {
      */
     public void addFood(Food food) {
         foodList.add(food);
+        nutrientTable.add(food);
+        nutrientIndexes.values().forEach(index -> index.add(food));
+        nameIndex.add(food);
+        nameTrie.add(food);
+        tagIndex.add(food);
+        changes.change(food.getName().getKey(), food);
     }
 
     /**
@@ -91,6 +153,19 @@ public class FoodRecord implements ReadOnlyFoodRecord {
         requireNonNull(editedFood);
 
         foodList.setFood(target, editedFood);
+        nutrientTable.set(target, editedFood);
+        for (SortedNutrientIndex index : nutrientIndexes.values()) {
+            index.remove(target);
+            index.add(editedFood);
+        }
+        nameIndex.remove(target);
+        nameIndex.add(editedFood);
+        nameTrie.remove(target);
+        nameTrie.add(editedFood);
+        tagIndex.remove(target);
+        tagIndex.add(editedFood);
+        changes.change(target.getName().getKey(), null);
+        changes.change(editedFood.getName().getKey(), editedFood);
     }
 
     /**
@@ -101,6 +176,12 @@ public class FoodRecord implements ReadOnlyFoodRecord {
      */
     public void removeFood(Food key) {
         foodList.remove(key);
+        nutrientTable.remove(key);
+        nutrientIndexes.values().forEach(index -> index.remove(key));
+        nameIndex.remove(key);
+        nameTrie.remove(key);
+        tagIndex.remove(key);
+        changes.change(key.getName().getKey(), null);
     }
 
     /**
@@ -120,6 +201,80 @@ public class FoodRecord implements ReadOnlyFoodRecord {
         return foodList.getFoodByName(name);
     }
 
+    /**
+     * Returns the columnar view of the nutritional values of every Food in the FoodRecord.
+     * This is kept in sync with the food list and should be used for nutrient-only queries.
+     *
+     * @return the NutrientTable of the FoodRecord.
+     */
+    public NutrientTable getNutrientTable() {
+        return nutrientTable;
+    }
+
+    /**
+     * Returns all Food with between {@code lowerBound} and {@code upperBound} of the {@code nutrient},
+     * both inclusive, in ascending order of the nutrient.
+     * This uses a sorted index of the nutrient and does not scan the whole FoodRecord.
+     *
+     * @param nutrient the nutrient to search by.
+     * @param lowerBound the inclusive lower bound of the amount of the nutrient.
+     * @param upperBound the inclusive upper bound of the amount of the nutrient.
+     * @return the Food within the range.
+     */
+    public List<Food> getFoodsInRange(Nutrient nutrient, int lowerBound, int upperBound) {
+        requireNonNull(nutrient);
+        return nutrientIndexes.get(nutrient).getFoodsInRange(lowerBound, upperBound);
+    }
+
+    /**
+     * Returns all Food with a word in their Name containing any of the {@code keywords}, ignoring case.
+     * This uses an inverted index of the names and does not scan the whole FoodRecord.
+     *
+     * @param keywords the single-word keywords to search for.
+     * @return the Food whose Name matches at least one keyword.
+     */
+    public List<Food> getFoodsWithNameContaining(Collection<String> keywords) {
+        return nameIndex.getFoodsMatchingAny(keywords);
+    }
+
+    /**
+     * Returns all Food with a Tag containing any of the {@code keywords}, ignoring case.
+     * This uses an inverted index of the tags and does not scan the whole FoodRecord.
+     *
+     * @param keywords the single-word keywords to search for.
+     * @return the Food with a Tag matching at least one keyword.
+     */
+    public List<Food> getFoodsWithTagContaining(Collection<String> keywords) {
+        return tagIndex.getFoodsMatchingAny(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} Food whose Name starts with {@code foodName}, or is itself a prefix of
+     * {@code foodName}, ignoring case. This uses a prefix tree of the names and does not scan the whole FoodRecord.
+     *
+     * @param foodName the partial Name entered so far.
+     * @param limit the maximum number of Food to return.
+     * @return the Food with Names similar to {@code foodName}, in lexicographic order.
+     */
+    public List<Food> getSimilarFood(String foodName, int limit) {
+        requireNonNull(foodName);
+        return nameTrie.getSimilarFood(foodName, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} Food whose Names are within {@code maxDistance} edits of {@code foodName},
+     * ignoring case, closest first. This searches the prefix tree of the names and does not compare against every Food.
+     *
+     * @param foodName the possibly misspelt Name to search for.
+     * @param maxDistance the maximum edit distance allowed.
+     * @param limit the maximum number of Food to return.
+     * @return the Food with Names closest to {@code foodName}.
+     */
+    public List<Food> getClosestFood(String foodName, int maxDistance, int limit) {
+        requireNonNull(foodName);
+        return nameTrie.getClosestFood(foodName, maxDistance, limit);
+    }
+
     /**
      * Returns a line-by-line representation of the FoodRecord, displaying all its details.
      *
@@ -145,6 +300,16 @@ public class FoodRecord implements ReadOnlyFoodRecord {
         return foodList.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return changes.getVersion();
+    }
+
+    @Override
+    public Optional<Map<String, Food>> getChangesSince(long version) {
+        return changes.getChangesSince(version);
+    }
+
     /**
      * Checks for equivalence between 2 FoodRecords.
      *
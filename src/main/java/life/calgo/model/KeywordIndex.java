@@ -0,0 +1,149 @@
+package life.calgo.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import life.calgo.model.food.Food;
+
+/**
+ * An inverted index from the words of some text of each Food in a {@code FoodRecord} to the Food containing them.
+ * A keyword matches a Food if it appears, ignoring case, as part of any of the Food's words. This is the same
+ * matching rule as {@link life.calgo.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * Every substring of up to {@value #GRAM_LENGTH} characters of every word is indexed. Keywords no longer than that
+ * are answered by a single lookup, while longer keywords are answered by intersecting the postings of their grams
+ * and checking the few remaining candidates. Either way, the cost depends on the number of matches and not on the
+ * size of the FoodRecord.
+ *
+ * The index is maintained by {@code FoodRecord}, which is the only class that may modify it.
+ */
+public class KeywordIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<Food, List<String>> wordsOf;
+    private final HashMap<String, Set<String>> postings = new HashMap<>();
+    private final HashMap<String, Food> foodsByKey = new HashMap<>();
+    private final HashMap<String, List<String>> wordsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty index over the words returned by {@code wordsOf} for each Food.
+     */
+    KeywordIndex(Function<Food, List<String>> wordsOf) {
+        this.wordsOf = wordsOf;
+    }
+
+    /**
+     * Adds {@code food} to the index. A Food with the same identity must not already be in the index.
+     */
+    void add(Food food) {
+        String key = food.getName().getKey();
+        List<String> words = new ArrayList<>();
+        for (String word : wordsOf.apply(food)) {
+            words.add(word.toLowerCase());
+        }
+        foodsByKey.put(key, food);
+        wordsByKey.put(key, words);
+        for (String gram : gramsOf(words)) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes the Food with the same identity as {@code food} from the index.
+     */
+    void remove(Food food) {
+        String key = food.getName().getKey();
+        foodsByKey.remove(key);
+        List<String> words = wordsByKey.remove(key);
+        if (words == null) {
+            return;
+        }
+        for (String gram : gramsOf(words)) {
+            Set<String> posting = postings.get(gram);
+            posting.remove(key);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code foods}.
+     */
+    void setAll(List<Food> foods) {
+        postings.clear();
+        foodsByKey.clear();
+        wordsByKey.clear();
+        foods.forEach(this::add);
+    }
+
+    /**
+     * Returns all Food with a word containing any of the {@code keywords}, ignoring case.
+     *
+     * @param keywords the single-word keywords to search for.
+     * @return the Food matching at least one keyword.
+     */
+    public List<Food> getFoodsMatchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> matchingKeys = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            matchingKeys.addAll(getKeysMatching(keyword.trim().toLowerCase()));
+        }
+        List<Food> result = new ArrayList<>(matchingKeys.size());
+        for (String key : matchingKeys) {
+            result.add(foodsByKey.get(key));
+        }
+        return result;
+    }
+
+    private Set<String> getKeysMatching(String keyword) {
+        if (keyword.isEmpty()) {
+            return Collections.emptySet();
+        }
+        if (keyword.length() <= GRAM_LENGTH) {
+            return postings.getOrDefault(keyword, Collections.emptySet());
+        }
+
+        // start from the rarest gram so the candidate set is as small as possible
+        Set<String> smallestPosting = null;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            Set<String> posting = postings.get(keyword.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (smallestPosting == null || posting.size() < smallestPosting.size()) {
+                smallestPosting = posting;
+            }
+        }
+
+        Set<String> result = new HashSet<>();
+        for (String key : smallestPosting) {
+            if (wordsByKey.get(key).stream().anyMatch(word -> word.contains(keyword))) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> gramsOf(List<String> words) {
+        Set<String> grams = new HashSet<>();
+        for (String word : words) {
+            for (int start = 0; start < word.length(); start++) {
+                for (int end = start + 1; end <= Math.min(word.length(), start + GRAM_LENGTH); end++) {
+                    grams.add(word.substring(start, end));
+                }
+            }
+        }
+        return grams;
+    }
+}
@@ -1,19 +1,28 @@
 package life.calgo.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import life.calgo.commons.core.GuiSettings;
+import life.calgo.commons.exceptions.DataConversionException;
 import life.calgo.logic.commands.exceptions.CommandException;
+import life.calgo.model.day.ConsumptionTrends;
 import life.calgo.model.day.DailyFoodLog;
 import life.calgo.model.day.DailyGoal;
+import life.calgo.model.day.RollupBucket;
+import life.calgo.model.day.RollupPeriod;
 import life.calgo.model.food.DisplayFood;
 import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
+import life.calgo.model.food.Nutrient;
 
 /**
  * The API of the Model component.
@@ -68,6 +77,34 @@ public interface Model {
 
     Optional<Food> getFoodByName(Name parseName);
 
+    /**
+     * Returns all Food in FoodRecord with between {@code lowerBound} and {@code upperBound} of the
+     * {@code nutrient}, both inclusive.
+     */
+    List<Food> getFoodsInRange(Nutrient nutrient, int lowerBound, int upperBound);
+
+    /**
+     * Returns all Food in FoodRecord with a word in their Name containing any of the {@code keywords}, ignoring case.
+     */
+    List<Food> getFoodsWithNameContaining(Collection<String> keywords);
+
+    /**
+     * Returns all Food in FoodRecord with a Tag containing any of the {@code keywords}, ignoring case.
+     */
+    List<Food> getFoodsWithTagContaining(Collection<String> keywords);
+
+    /**
+     * Returns up to {@code limit} Food in FoodRecord whose Name starts with {@code foodName},
+     * or is itself a prefix of {@code foodName}, ignoring case.
+     */
+    List<Food> getSimilarFood(String foodName, int limit);
+
+    /**
+     * Returns up to {@code limit} Food in FoodRecord whose Names are within {@code maxDistance} edits of
+     * {@code foodName}, ignoring case, closest first.
+     */
+    List<Food> getClosestFood(String foodName, int maxDistance, int limit);
+
     /** Returns an unmodifiable view of the filtered food record. */
     ObservableList<Food> getFilteredFoodRecord();
 
@@ -89,6 +126,12 @@ public interface Model {
      */
     void addFood(Food food);
 
+    /**
+     * Adds all of the given foods in a single batch, replacing existing foods with the same identity.
+     * {@code foods} must not contain duplicate foods.
+     */
+    void importFoods(List<Food> foods);
+
     /**
      * Replaces the given food {@code target} with {@code editedFood}.
      * {@code target} must exist in the food record.
@@ -120,16 +163,49 @@ public interface Model {
 
     ArrayList<DailyFoodLog> getPastWeekLogs();
 
+    /**
+     * Returns an unmodifiable view of the DailyFoodLog objects dated from {@code from} to {@code to}, both inclusive,
+     * in date order. Its cost depends on the number of logs in the range, not the length of the history.
+     */
+    NavigableMap<LocalDate, DailyFoodLog> getLogsBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Returns the summaries of consumption in each week, month or year, as given by {@code period}, that overlaps
+     * the dates from {@code from} to {@code to}, both inclusive, in date order.
+     * Periods without food logged are left out. Its cost depends on the number of periods, not the number of days.
+     */
+    List<RollupBucket> getRollups(RollupPeriod period, LocalDate from, LocalDate to);
+
+    /**
+     * Returns the moving averages, goal streak and unusual days of consumption up to the current date.
+     * These are kept up to date as logs change, so this does not go through the logs.
+     */
+    ConsumptionTrends getConsumptionTrends();
+
     // Setter methods
 
     void addLog(DailyFoodLog foodLog);
 
-    void updateLog(DailyFoodLog logAfterConsumption);
+    /**
+     * Replaces the log of the same date with {@code logAfterConsumption}, which differs from it only in
+     * {@code changedFood}.
+     */
+    void updateLog(DailyFoodLog logAfterConsumption, Food changedFood);
 
     void updateCurrentFilteredDailyList(Predicate<DisplayFood> predicate, LocalDate date) throws CommandException;
 
     void updateConsumedLists(Food food);
 
+    /**
+     * Sets the archive that consumption history is kept in, and moves every log more than {@code horizonDays} days
+     * older than the current date into it. Archived logs are read back when they are asked for.
+     *
+     * @throws DataConversionException If the archive is not in the expected format.
+     * @throws IOException If there was any problem when reading or writing the archive.
+     */
+    void setConsumptionArchive(ConsumptionArchive archive, int horizonDays)
+            throws DataConversionException, IOException;
+
     // Utility methods
 
     boolean hasLogWithSameDate(DailyFoodLog foodLog);
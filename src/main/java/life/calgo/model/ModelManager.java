@@ -3,24 +3,36 @@ package life.calgo.model;
 import static java.util.Objects.requireNonNull;
 import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import life.calgo.commons.core.GuiSettings;
 import life.calgo.commons.core.LogsCenter;
+import life.calgo.commons.exceptions.DataConversionException;
 import life.calgo.logic.commands.exceptions.CommandException;
+import life.calgo.model.day.ConsumptionTrends;
 import life.calgo.model.day.DailyFoodLog;
 import life.calgo.model.day.DailyGoal;
+import life.calgo.model.day.RollupBucket;
+import life.calgo.model.day.RollupPeriod;
 import life.calgo.model.food.DisplayFood;
 import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
+import life.calgo.model.food.Nutrient;
+import life.calgo.model.food.predicates.IndexedFoodPredicate;
 
 /**
  * Represents the in-memory model of the food record data.
@@ -32,7 +44,11 @@ public class ModelManager implements Model {
     private final FoodRecord foodRecord;
     private final ConsumptionRecord consumptionRecord;
     private final UserPrefs userPrefs;
-    private final FilteredList<Food> filteredFoods;
+    // the Food satisfying filterPredicate, in the order of the food list, kept up to date by every change to it
+    private final ObservableList<Food> filteredFoods = FXCollections.observableArrayList();
+    private final ObservableList<Food> unmodifiableFilteredFoods =
+            FXCollections.unmodifiableObservableList(filteredFoods);
+    private Predicate<Food> filterPredicate = PREDICATE_SHOW_ALL_FOODS;
     private final FilteredList<DisplayFood> currentFilteredDailyList;
     private DailyGoal targetDailyCalories;
 
@@ -51,7 +67,8 @@ public class ModelManager implements Model {
         this.consumptionRecord = new ConsumptionRecord(readOnlyConsumptionRecord);
         this.userPrefs = new UserPrefs(userPrefs);
         this.targetDailyCalories = new DailyGoal(readOnlyGoal);
-        filteredFoods = new FilteredList<>(this.foodRecord.getFoodList());
+        this.consumptionRecord.setRollupGoal(this.targetDailyCalories.getGoal());
+        refreshFilteredFoods();
         currentFilteredDailyList = new FilteredList<>(this.consumptionRecord.getDailyList());
         refreshCurrentFilteredDailyList();
     }
@@ -102,6 +119,31 @@ public class ModelManager implements Model {
         return foodRecord.getFoodByName(name);
     }
 
+    @Override
+    public List<Food> getFoodsInRange(Nutrient nutrient, int lowerBound, int upperBound) {
+        return foodRecord.getFoodsInRange(nutrient, lowerBound, upperBound);
+    }
+
+    @Override
+    public List<Food> getFoodsWithNameContaining(Collection<String> keywords) {
+        return foodRecord.getFoodsWithNameContaining(keywords);
+    }
+
+    @Override
+    public List<Food> getFoodsWithTagContaining(Collection<String> keywords) {
+        return foodRecord.getFoodsWithTagContaining(keywords);
+    }
+
+    @Override
+    public List<Food> getSimilarFood(String foodName, int limit) {
+        return foodRecord.getSimilarFood(foodName, limit);
+    }
+
+    @Override
+    public List<Food> getClosestFood(String foodName, int maxDistance, int limit) {
+        return foodRecord.getClosestFood(foodName, maxDistance, limit);
+    }
+
     @Override
     public boolean hasLogWithSameDate(DailyFoodLog foodLog) {
         return consumptionRecord.hasLogWithSameDate(foodLog);
@@ -118,8 +160,8 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void updateLog(DailyFoodLog logToUpdate) {
-        consumptionRecord.updateLog(logToUpdate);
+    public void updateLog(DailyFoodLog logToUpdate, Food changedFood) {
+        consumptionRecord.updateLog(logToUpdate, changedFood);
     }
 
     @Override
@@ -128,7 +170,7 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Gets remaining calories after considering all food consumed in currentFilteredDailyList.
+     * Gets remaining calories after considering all food consumed on the date of currentFilteredDailyList.
      */
     @Override
     public double getRemainingCalories() {
@@ -136,13 +178,8 @@ public class ModelManager implements Model {
         if (goal == null) {
             return DailyGoal.DUMMY_VALUE;
         }
-        int currCaloriesConsumed = 0;
-        for (DisplayFood food : currentFilteredDailyList) {
-            double currCalories = Integer.parseInt(food.getCalorie().value);
-            double currPortion = food.getPortion();
-            currCaloriesConsumed += currCalories * currPortion;
-        }
-
+        DailyFoodLog dailyListLog = consumptionRecord.getDailyListLog();
+        double currCaloriesConsumed = dailyListLog == null ? 0 : dailyListLog.getTotalCalories();
         return goal.getGoal() - currCaloriesConsumed;
     }
 
@@ -157,6 +194,7 @@ public class ModelManager implements Model {
         } else {
             this.targetDailyCalories = new DailyGoal(targetDailyCalories);
         }
+        consumptionRecord.setRollupGoal(this.targetDailyCalories.getGoal());
     }
 
     /**
@@ -190,6 +228,7 @@ public class ModelManager implements Model {
     @Override
     public void setFoodRecord(ReadOnlyFoodRecord foodRecord) {
         this.foodRecord.resetData(foodRecord);
+        refreshFilteredFoods();
     }
 
     @Override
@@ -206,6 +245,7 @@ public class ModelManager implements Model {
     @Override
     public void deleteFood(Food target) {
         foodRecord.removeFood(target);
+        removeFromFilteredFoods(target);
     }
 
     @Override
@@ -214,28 +254,76 @@ public class ModelManager implements Model {
         updateFilteredFoodRecord(PREDICATE_SHOW_ALL_FOODS);
     }
 
+    @Override
+    public void importFoods(List<Food> foods) {
+        requireNonNull(foods);
+        foodRecord.importFoods(foods);
+        updateFilteredFoodRecord(PREDICATE_SHOW_ALL_FOODS);
+    }
+
     @Override
     public void setFood(Food target, Food editedFood) {
         requireAllNonNull(target, editedFood);
 
         foodRecord.setFood(target, editedFood);
+        removeFromFilteredFoods(target);
+        addToFilteredFoods(editedFood);
     }
 
     // Filtered Food Record Accessors
 
     /**
-     * Returns an unmodifiable view of the list of {@code Food} backed by the internal list of
-     * {@code versionedFoodRecord}.
+     * Returns an unmodifiable view of the Food in the food record satisfying the current predicate, in the same order.
      */
     @Override
     public ObservableList<Food> getFilteredFoodRecord() {
-        return filteredFoods;
+        return unmodifiableFilteredFoods;
     }
 
+    /**
+     * Updates the filter of the filtered food record to filter by the given {@code predicate}. The matches of an
+     * {@link IndexedFoodPredicate} are looked up in the indexes of the FoodRecord and become the filtered food record
+     * directly, without testing every Food. Afterwards, only the Food added or changed are tested by the predicate.
+     */
     @Override
     public void updateFilteredFoodRecord(Predicate<Food> predicate) {
         requireNonNull(predicate);
-        filteredFoods.setPredicate(predicate);
+        filterPredicate = predicate;
+        refreshFilteredFoods();
+    }
+
+    /**
+     * Replaces the contents of the filtered food record with the Food satisfying the current predicate.
+     */
+    private void refreshFilteredFoods() {
+        List<Food> matches;
+        if (filterPredicate instanceof IndexedFoodPredicate) {
+            matches = new ArrayList<>(((IndexedFoodPredicate) filterPredicate).findMatches(foodRecord));
+            // the food list is sorted in the natural order of Food
+            Collections.sort(matches);
+        } else {
+            matches = new ArrayList<>();
+            for (Food food : foodRecord.getFoodList()) {
+                if (filterPredicate.test(food)) {
+                    matches.add(food);
+                }
+            }
+        }
+        filteredFoods.setAll(matches);
+    }
+
+    private void addToFilteredFoods(Food food) {
+        if (filterPredicate.test(food)) {
+            int position = Collections.binarySearch(filteredFoods, food);
+            filteredFoods.add(position < 0 ? -position - 1 : position, food);
+        }
+    }
+
+    private void removeFromFilteredFoods(Food food) {
+        int position = Collections.binarySearch(filteredFoods, food);
+        if (position >= 0) {
+            filteredFoods.remove(position);
+        }
     }
 
     @Override
@@ -286,18 +374,26 @@ public class ModelManager implements Model {
     public ArrayList<DailyFoodLog> getPastWeekLogs() {
         ArrayList<DailyFoodLog> result = new ArrayList<>();
         LocalDate currentDate = getDate();
+        NavigableMap<LocalDate, DailyFoodLog> pastWeekLogs =
+                getLogsBetween(currentDate.minus(Period.ofDays(6)), currentDate);
         for (int i = 1; i <= 7; i++) {
-            if (consumptionRecord.getDateToLogMap().containsKey(currentDate)) {
-                result.add(consumptionRecord.getDateToLogMap().get(currentDate));
-            } else {
-                result.add(new DailyFoodLog());
-            }
-
+            DailyFoodLog foodLog = pastWeekLogs.get(currentDate);
+            result.add(foodLog == null ? new DailyFoodLog().setDate(currentDate) : foodLog);
             currentDate = currentDate.minus(Period.ofDays(1));
         }
         return result;
     }
 
+    @Override
+    public NavigableMap<LocalDate, DailyFoodLog> getLogsBetween(LocalDate from, LocalDate to) {
+        return consumptionRecord.logsBetween(from, to);
+    }
+
+    @Override
+    public List<RollupBucket> getRollups(RollupPeriod period, LocalDate from, LocalDate to) {
+        return consumptionRecord.getRollups(period, from, to);
+    }
+
     /**
      * Updates existing DisplayFood items having same name as {@code food} in consumption record for display.
      *
@@ -310,6 +406,19 @@ public class ModelManager implements Model {
         refreshCurrentFilteredDailyList();
     }
 
+    @Override
+    public ConsumptionTrends getConsumptionTrends() {
+        return consumptionRecord.getTrends(getDate());
+    }
+
+    @Override
+    public void setConsumptionArchive(ConsumptionArchive archive, int horizonDays)
+            throws DataConversionException, IOException {
+        requireNonNull(archive);
+        consumptionRecord.setArchive(archive);
+        consumptionRecord.archiveLogsBefore(getDate().minusDays(horizonDays));
+    }
+
     /**
      * Causes FilteredList to be updated to reflect latest changes.
      */
@@ -0,0 +1,223 @@
+package life.calgo.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
+
+/**
+ * A columnar copy of the nutritional values of every Food in a {@code FoodRecord}.
+ * Each nutrient is held in its own primitive array, and the Food in slot {@code i} of the table has its values
+ * in position {@code i} of every array. This lets nutrient-only queries run as plain loops over {@code int}
+ * arrays instead of visiting four wrapper objects per Food.
+ *
+ * Slots are not kept in any particular order. The table is maintained by {@code FoodRecord},
+ * which is the only class that may modify it.
+ */
+public class NutrientTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size = 0;
+    private Food[] foods = new Food[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[][] columns = new int[Nutrient.values().length][INITIAL_CAPACITY];
+    private final HashMap<String, Integer> slotsByName = new HashMap<>();
+
+    // Mutators used by FoodRecord
+
+    /**
+     * Adds the nutritional values of {@code food} to the table.
+     * A Food with the same identity must not already be in the table.
+     */
+    void add(Food food) {
+        requireNonNull(food);
+        ensureCapacity(size + 1);
+        writeSlot(size, food);
+        slotsByName.put(food.getName().getKey(), size);
+        size++;
+    }
+
+    /**
+     * Replaces the nutritional values of {@code target} with those of {@code editedFood}.
+     * {@code target} must be in the table.
+     */
+    void set(Food target, Food editedFood) {
+        requireNonNull(editedFood);
+        int slot = slotsByName.remove(target.getName().getKey());
+        writeSlot(slot, editedFood);
+        slotsByName.put(editedFood.getName().getKey(), slot);
+    }
+
+    /**
+     * Removes the nutritional values of {@code food} from the table.
+     * {@code food} must be in the table. The last slot is moved into the freed slot to keep the arrays dense.
+     */
+    void remove(Food food) {
+        int slot = slotsByName.remove(food.getName().getKey());
+        int last = size - 1;
+        if (slot != last) {
+            writeSlot(slot, foods[last]);
+            slotsByName.put(names[last], slot);
+        }
+        foods[last] = null;
+        names[last] = null;
+        size = last;
+    }
+
+    /**
+     * Replaces the contents of the table with the nutritional values of {@code newFoods}.
+     */
+    void setAll(List<Food> newFoods) {
+        Arrays.fill(foods, 0, size, null);
+        Arrays.fill(names, 0, size, null);
+        slotsByName.clear();
+        size = 0;
+        ensureCapacity(newFoods.size());
+        for (Food food : newFoods) {
+            add(food);
+        }
+    }
+
+    // Scans
+
+    /**
+     * Returns the number of Food in the table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns all Food whose amount of {@code nutrient} satisfies {@code condition}.
+     *
+     * @param nutrient the nutrient to test.
+     * @param condition the condition the amount of the nutrient must satisfy.
+     * @return the matching Food, in no particular order.
+     */
+    public List<Food> filter(Nutrient nutrient, IntPredicate condition) {
+        requireNonNull(condition);
+        int[] column = columns[nutrient.ordinal()];
+        List<Food> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (condition.test(column[i])) {
+                result.add(foods[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the total amount of {@code nutrient} over all Food in the table.
+     */
+    public long sum(Nutrient nutrient) {
+        int[] column = columns[nutrient.ordinal()];
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += column[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the smallest amount of {@code nutrient} in the table, or an empty OptionalInt if the table is empty.
+     */
+    public OptionalInt min(Nutrient nutrient) {
+        if (size == 0) {
+            return OptionalInt.empty();
+        }
+        int[] column = columns[nutrient.ordinal()];
+        int min = column[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, column[i]);
+        }
+        return OptionalInt.of(min);
+    }
+
+    /**
+     * Returns the largest amount of {@code nutrient} in the table, or an empty OptionalInt if the table is empty.
+     */
+    public OptionalInt max(Nutrient nutrient) {
+        if (size == 0) {
+            return OptionalInt.empty();
+        }
+        int[] column = columns[nutrient.ordinal()];
+        int max = column[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, column[i]);
+        }
+        return OptionalInt.of(max);
+    }
+
+    /**
+     * Returns up to {@code k} Food with the highest ratio of {@code numerator} to {@code denominator},
+     * e.g. the Food with the most protein per calorie. Food with none of the {@code denominator} are skipped.
+     *
+     * @param numerator the nutrient on top of the ratio.
+     * @param denominator the nutrient on the bottom of the ratio.
+     * @param k the maximum number of Food to return.
+     * @return the Food with the highest ratios, in descending order of ratio.
+     */
+    public List<Food> topByRatio(Nutrient numerator, Nutrient denominator, int k) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        int[] top = columns[numerator.ordinal()];
+        int[] bottom = columns[denominator.ordinal()];
+        int[] bestSlots = new int[k];
+        double[] bestRatios = new double[k];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (bottom[i] == 0) {
+                continue;
+            }
+            double ratio = (double) top[i] / bottom[i];
+            if (found == k && ratio <= bestRatios[k - 1]) {
+                continue;
+            }
+            // insertion into the descending arrays of the best ratios seen so far
+            int position = found < k ? found++ : k - 1;
+            while (position > 0 && bestRatios[position - 1] < ratio) {
+                bestRatios[position] = bestRatios[position - 1];
+                bestSlots[position] = bestSlots[position - 1];
+                position--;
+            }
+            bestRatios[position] = ratio;
+            bestSlots[position] = i;
+        }
+        List<Food> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            result.add(foods[bestSlots[i]]);
+        }
+        return result;
+    }
+
+    // Helpers
+
+    private void writeSlot(int slot, Food food) {
+        foods[slot] = food;
+        names[slot] = food.getName().getKey();
+        for (Nutrient nutrient : Nutrient.values()) {
+            columns[nutrient.ordinal()][slot] = nutrient.valueOf(food);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= foods.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, foods.length * 2);
+        foods = Arrays.copyOf(foods, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Arrays.copyOf(columns[i], newCapacity);
+        }
+    }
+}
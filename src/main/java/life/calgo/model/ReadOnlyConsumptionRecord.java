@@ -3,6 +3,8 @@ package life.calgo.model;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import life.calgo.model.day.DailyFoodLog;
@@ -26,4 +28,16 @@ public interface ReadOnlyConsumptionRecord {
     HashMap<LocalDate, DailyFoodLog> getDateToLogMap();
 
     List<DailyFoodLog> getDailyFoodLogs();
+
+    /**
+     * Returns a number that changes whenever the logs in the consumption record are modified, so that an unchanged
+     * consumption record can be recognised without comparing its contents.
+     */
+    long getVersion();
+
+    /**
+     * Returns the logs added or changed since {@code version} of this consumption record by date, with the dates of
+     * the logs removed since then mapped to null, or an empty Optional if the changes since then are not known.
+     */
+    Optional<Map<LocalDate, DailyFoodLog>> getChangesSince(long version);
 }
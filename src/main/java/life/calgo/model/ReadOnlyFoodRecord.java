@@ -1,5 +1,8 @@
 package life.calgo.model;
 
+import java.util.Map;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import life.calgo.model.food.Food;
 
@@ -14,4 +17,16 @@ public interface ReadOnlyFoodRecord {
      */
     ObservableList<Food> getFoodList();
 
+    /**
+     * Returns a number that changes whenever the FoodRecord is modified, so that an unchanged FoodRecord can be
+     * recognised without comparing its contents.
+     */
+    long getVersion();
+
+    /**
+     * Returns the Food added or edited since {@code version} of this FoodRecord by Name key, with the keys of the
+     * Food removed since then mapped to null, or an empty Optional if the changes since then are not known.
+     */
+    Optional<Map<String, Food>> getChangesSince(long version);
+
 }
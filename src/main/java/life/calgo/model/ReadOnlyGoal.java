@@ -9,4 +9,10 @@ public interface ReadOnlyGoal {
      * Returns an unmodifiable view of the daily caloric goal.
      */
     Integer getGoal();
+
+    /**
+     * Returns a number that changes whenever the goal is modified, so that an unchanged goal can be recognised
+     * without comparing it.
+     */
+    long getVersion();
 }
@@ -0,0 +1,132 @@
+package life.calgo.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
+
+/**
+ * An index of the Food in a {@code FoodRecord}, sorted by the amount of a single {@code Nutrient}.
+ * Food with equal amounts are ordered by their case-folded name, so every Food has exactly one position.
+ * Range lookups take O(log n + k) time for k results.
+ *
+ * The index is maintained by {@code FoodRecord}, which is the only class that may modify it.
+ */
+public class SortedNutrientIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Nutrient nutrient;
+    private int size = 0;
+    private int[] values = new int[INITIAL_CAPACITY];
+    private Food[] foods = new Food[INITIAL_CAPACITY];
+
+    SortedNutrientIndex(Nutrient nutrient) {
+        this.nutrient = nutrient;
+    }
+
+    /**
+     * Adds {@code food} at its sorted position.
+     * A Food with the same identity must not already be in the index.
+     */
+    void add(Food food) {
+        ensureCapacity(size + 1);
+        int value = nutrient.valueOf(food);
+        int position = -(search(value, food.getName().getKey()) + 1);
+        System.arraycopy(values, position, values, position + 1, size - position);
+        System.arraycopy(foods, position, foods, position + 1, size - position);
+        values[position] = value;
+        foods[position] = food;
+        size++;
+    }
+
+    /**
+     * Removes {@code food} from the index. {@code food} must be in the index.
+     */
+    void remove(Food food) {
+        int position = search(nutrient.valueOf(food), food.getName().getKey());
+        assert position >= 0 : "Food to remove is not in the index";
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        System.arraycopy(foods, position + 1, foods, position, size - position - 1);
+        size--;
+        foods[size] = null;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code newFoods}, sorting them once.
+     */
+    void setAll(List<Food> newFoods) {
+        Food[] sortedFoods = newFoods.toArray(new Food[0]);
+        Arrays.sort(sortedFoods, Comparator.<Food>comparingInt(nutrient::valueOf)
+                .thenComparing(food -> food.getName().getKey()));
+        Arrays.fill(foods, null);
+        size = 0;
+        ensureCapacity(sortedFoods.length);
+        for (Food food : sortedFoods) {
+            values[size] = nutrient.valueOf(food);
+            foods[size] = food;
+            size++;
+        }
+    }
+
+    /**
+     * Returns all Food with between {@code lowerBound} and {@code upperBound} of the nutrient, both inclusive,
+     * in ascending order of the nutrient.
+     */
+    public List<Food> getFoodsInRange(int lowerBound, int upperBound) {
+        List<Food> result = new ArrayList<>();
+        for (int i = firstPositionAtLeast(lowerBound); i < size && values[i] <= upperBound; i++) {
+            result.add(foods[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the Food with the given value and name key, or {@code -(insertion point) - 1}
+     * if there is no such Food, following the convention of {@link Arrays#binarySearch(int[], int)}.
+     */
+    private int search(int value, String nameKey) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = values[mid] != value
+                    ? Integer.compare(values[mid], value)
+                    : foods[mid].getName().getKey().compareTo(nameKey);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int firstPositionAtLeast(int value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= foods.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, foods.length * 2);
+        values = Arrays.copyOf(values, newCapacity);
+        foods = Arrays.copyOf(foods, newCapacity);
+    }
+}
@@ -13,9 +13,16 @@ import life.calgo.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_CONSUMPTION_ARCHIVE_HORIZON_DAYS = 90;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path foodRecordFilePath = Paths.get("data" , "foodrecord.json");
+    private Path foodRecordJournalFilePath = Paths.get("data", "foodrecord.journal");
     private Path consumptionRecordFilePath = Paths.get("data", "consumptionrecord.json");
+    private Path consumptionRecordJournalFilePath = Paths.get("data", "consumptionrecord.journal");
+    private Path consumptionRecordDirectoryPath = Paths.get("data", "consumption");
+    private Path consumptionArchiveFilePath = Paths.get("data", "consumptionarchive.json");
+    private int consumptionArchiveHorizonDays = DEFAULT_CONSUMPTION_ARCHIVE_HORIZON_DAYS;
     private Path goalFilePath = Paths.get("data", "goal.json");
 
     /**
@@ -85,6 +92,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.foodRecordFilePath = foodRecordFilePath;
     }
 
+    /**
+     * Obtains the file path of the journal of changes made to the FoodRecord since its json file was last written.
+     *
+     * @return The FoodRecord's journal file path.
+     */
+    public Path getFoodRecordJournalFilePath() {
+        return foodRecordJournalFilePath;
+    }
+
     /**
      * Obtains the ConsumptionRecord's json file path.
      * This path stores all relevant Food data in a certain format.
@@ -95,6 +111,45 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return consumptionRecordFilePath;
     }
 
+    /**
+     * Obtains the file path of the journal of changes made to the ConsumptionRecord since its json file was last
+     * written.
+     *
+     * @return The ConsumptionRecord's journal file path.
+     */
+    public Path getConsumptionRecordJournalFilePath() {
+        return consumptionRecordJournalFilePath;
+    }
+
+    /**
+     * Obtains the path of the directory holding the ConsumptionRecord as one json file per month.
+     * The ConsumptionRecord's json file and the consumption archive are only read to move them into this directory.
+     *
+     * @return The ConsumptionRecord's directory path.
+     */
+    public Path getConsumptionRecordDirectoryPath() {
+        return consumptionRecordDirectoryPath;
+    }
+
+    /**
+     * Obtains the json file path of the archive that old consumption history is moved to.
+     *
+     * @return The consumption archive's json file path.
+     */
+    public Path getConsumptionArchiveFilePath() {
+        return consumptionArchiveFilePath;
+    }
+
+    /**
+     * Obtains the number of days of consumption history kept in the ConsumptionRecord, before the current date.
+     * Older days are moved to the consumption archive at startup.
+     *
+     * @return The number of days of history kept out of the archive.
+     */
+    public int getConsumptionArchiveHorizonDays() {
+        return consumptionArchiveHorizonDays;
+    }
+
     /**
      * Obtains the json file path for the file representing the goal set by the user.
      * This path stores all relevant goal data in a certain format.
@@ -0,0 +1,127 @@
+package life.calgo.model.day;
+
+import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.TreeMap;
+
+import life.calgo.model.food.Nutrient;
+
+/**
+ * Keeps a RollupBucket for every calendar week, month and year with food logged, so that summaries over long
+ * stretches of history cost time proportional to the number of buckets rather than the number of days.
+ * Buckets are updated by the difference between the old and new version of a log whenever a log changes.
+ */
+public class ConsumptionRollup {
+
+    private final EnumMap<RollupPeriod, TreeMap<LocalDate, RollupBucket>> bucketsByPeriod =
+            new EnumMap<>(RollupPeriod.class);
+    private int goalCalories;
+
+    public ConsumptionRollup() {
+        for (RollupPeriod period : RollupPeriod.values()) {
+            bucketsByPeriod.put(period, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Updates every bucket containing the date of the logs for {@code oldLog} being replaced by {@code newLog}.
+     * Either log may be null, for a log being added or removed, but not both.
+     */
+    public void replace(DailyFoodLog oldLog, DailyFoodLog newLog) {
+        if (oldLog != null) {
+            remove(DailySummary.of(oldLog));
+        }
+        if (newLog != null) {
+            add(DailySummary.of(newLog));
+        }
+    }
+
+    /**
+     * Adds the day summarised by {@code summary} to every bucket containing its date.
+     */
+    public void add(DailySummary summary) {
+        apply(summary, 1);
+    }
+
+    /**
+     * Removes the day summarised by {@code summary}, which must have been added before, from every bucket
+     * containing its date.
+     */
+    public void remove(DailySummary summary) {
+        apply(summary, -1);
+    }
+
+    private void apply(DailySummary summary, int sign) {
+        if (summary.getNumberOfFoods() == 0) {
+            return;
+        }
+        boolean isWithinGoal = isWithinGoal(summary, goalCalories);
+        for (RollupPeriod period : RollupPeriod.values()) {
+            LocalDate start = period.startOf(summary.getLocalDate());
+            TreeMap<LocalDate, RollupBucket> buckets = bucketsByPeriod.get(period);
+            RollupBucket bucket = buckets.getOrDefault(start, RollupBucket.empty(period, start))
+                    .plus(summary, sign, isWithinGoal);
+            if (bucket.isEmpty()) {
+                // drops rounding error left over from removing every day's totals
+                buckets.remove(start);
+            } else {
+                buckets.put(start, bucket);
+            }
+        }
+    }
+
+    /**
+     * Sets the daily calorie goal that days are measured against, and recounts the days within the goal.
+     * A goal of 0 means there is no goal, and no day is within it.
+     * This takes time proportional to the number of days in {@code summaries}, which must summarise every day in
+     * the rollup.
+     */
+    public void setGoal(int goalCalories, Collection<DailySummary> summaries) {
+        if (goalCalories == this.goalCalories) {
+            return;
+        }
+        for (DailySummary summary : summaries) {
+            if (summary.getNumberOfFoods() == 0) {
+                continue;
+            }
+            int change = (isWithinGoal(summary, goalCalories) ? 1 : 0)
+                    - (isWithinGoal(summary, this.goalCalories) ? 1 : 0);
+            if (change != 0) {
+                for (RollupPeriod period : RollupPeriod.values()) {
+                    LocalDate start = period.startOf(summary.getLocalDate());
+                    bucketsByPeriod.get(period).computeIfPresent(start, (unused, bucket) ->
+                            bucket.withDaysWithinGoalChangedBy(change));
+                }
+            }
+        }
+        this.goalCalories = goalCalories;
+    }
+
+    /**
+     * Removes every bucket.
+     */
+    public void clear() {
+        bucketsByPeriod.values().forEach(TreeMap::clear);
+    }
+
+    /**
+     * Returns the buckets of length {@code period} that overlap the dates from {@code from} to {@code to},
+     * both inclusive, in date order. Periods without food logged are left out.
+     */
+    public List<RollupBucket> getBuckets(RollupPeriod period, LocalDate from, LocalDate to) {
+        requireAllNonNull(period, from, to);
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(bucketsByPeriod.get(period).subMap(period.startOf(from), true, to, true).values());
+    }
+
+    private static boolean isWithinGoal(DailySummary summary, int goalCalories) {
+        return goalCalories > 0 && summary.getTotal(Nutrient.CALORIE) <= goalCalories;
+    }
+}
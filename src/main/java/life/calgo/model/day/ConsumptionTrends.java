@@ -0,0 +1,98 @@
+package life.calgo.model.day;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import life.calgo.model.food.Nutrient;
+
+/**
+ * A snapshot of recent consumption trends, as computed by {@link RollingStatistics}: the mean daily amount of each
+ * Nutrient over the last 7, 30 and 90 days, the current run of days within or over the daily calorie goal, and the
+ * days whose calorie count was unusual compared to the days before them.
+ * Guarantees: immutable.
+ */
+public class ConsumptionTrends {
+
+    public static final List<Integer> WINDOW_LENGTHS = List.of(7, 30, 90);
+
+    private final LocalDate endDate;
+    // indexed by position in WINDOW_LENGTHS, then Nutrient ordinal
+    private final double[][] averages;
+    private final int[] daysLogged;
+    private final int streakLength;
+    private final boolean isStreakWithinGoal;
+    private final List<DailySummary> unusualDays;
+
+    ConsumptionTrends(LocalDate endDate, double[][] averages, int[] daysLogged, int streakLength,
+                      boolean isStreakWithinGoal, List<DailySummary> unusualDays) {
+        this.endDate = endDate;
+        this.averages = averages;
+        this.daysLogged = daysLogged;
+        this.streakLength = streakLength;
+        this.isStreakWithinGoal = isStreakWithinGoal;
+        this.unusualDays = List.copyOf(unusualDays);
+    }
+
+    /**
+     * Returns the last date covered by the windows.
+     */
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Returns the mean daily amount of {@code nutrient} over the days with food logged in the {@code windowLength}
+     * days up to the end date, or 0 if there are none.
+     *
+     * @throws IllegalArgumentException if {@code windowLength} is not one of {@link #WINDOW_LENGTHS}.
+     */
+    public double getAverage(int windowLength, Nutrient nutrient) {
+        return averages[indexOf(windowLength)][nutrient.ordinal()];
+    }
+
+    /**
+     * Returns the number of days with food logged in the {@code windowLength} days up to the end date.
+     *
+     * @throws IllegalArgumentException if {@code windowLength} is not one of {@link #WINDOW_LENGTHS}.
+     */
+    public int getDaysLogged(int windowLength) {
+        return daysLogged[indexOf(windowLength)];
+    }
+
+    /**
+     * Returns the number of consecutive days with food logged, ending on the end date or the day before it, that
+     * were all within the daily calorie goal or all over it. This is 0 if there is no goal.
+     */
+    public int getStreakLength() {
+        return streakLength;
+    }
+
+    /**
+     * Returns true if the days in the current streak were within the daily calorie goal, and false if they were
+     * over it.
+     */
+    public boolean isStreakWithinGoal() {
+        return isStreakWithinGoal;
+    }
+
+    /**
+     * Returns the days whose calorie count was unusual compared to the days before them, in date order.
+     */
+    public List<DailySummary> getUnusualDays() {
+        return unusualDays;
+    }
+
+    private static int indexOf(int windowLength) {
+        int index = WINDOW_LENGTHS.indexOf(windowLength);
+        if (index < 0) {
+            throw new IllegalArgumentException("Windows are " + WINDOW_LENGTHS + " days long.");
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d-day average: %.0f calories", WINDOW_LENGTHS.get(0),
+                getAverage(WINDOW_LENGTHS.get(0), Nutrient.CALORIE));
+    }
+}
@@ -3,46 +3,120 @@ package life.calgo.model.day;
 import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.Set;
 
 import life.calgo.model.food.Food;
+import life.calgo.model.food.FoodDictionary;
+import life.calgo.model.food.Nutrient;
 
 /**
  * A data structure that stores a map of Food to portion and Food to rating for a certain date where food is consumed.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Entries are held in a persistent vector in the order they were consumed, together with a persistent hash map from
+ * each Food's name to its position in the vector. Every update returns a new DailyFoodLog that copies only the path
+ * to the changed entry and shares everything else with this one, so consuming, vomiting or rating a Food costs
+ * time and allocation logarithmic in the number of entries rather than linear.
+ * Food are identified by name within a log, and each entry holds its Food as interned by {@link FoodDictionary},
+ * so logs share a single copy of every Food.
+ * Removing an entry leaves an empty slot behind instead of moving the entries after it, so no other entry is
+ * reindexed. The log is compacted once more than half of its slots are empty, which keeps removal logarithmic when
+ * averaged over many removals. Reading the entry at a position is logarithmic even with empty slots, since the
+ * vector counts the entries below each of its nodes and skips empty slots by those counts.
+ *
+ * The total of each Nutrient over all Food consumed is kept up to date by every update, so reading it takes
+ * constant time.
  */
-public class DailyFoodLog {
+public class DailyFoodLog implements Iterable<DailyFoodLog.Entry> {
     // Constants
     public static final int RATING_DUMMY_VALUE = -1;
 
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+
+    /**
+     * A Food consumed in the log, with its portion and ratings. Immutable.
+     */
+    public static class Entry {
+        private final Food food;
+        private final double portion;
+        private final RatingSummary ratings;
+
+        private Entry(Food food, double portion, RatingSummary ratings) {
+            this.food = FoodDictionary.intern(food);
+            this.portion = portion;
+            this.ratings = ratings;
+        }
+
+        public Food getFood() {
+            return food;
+        }
+
+        public double getPortion() {
+            return portion;
+        }
+
+        public RatingSummary getRatingSummary() {
+            return ratings;
+        }
+
+        /**
+         * Returns the rating to display for the Food, which is the mean of its ratings.
+         */
+        public double getRating() {
+            return ratings.getMean();
+        }
+    }
+
     // Data fields
-    private final LinkedHashMap<Food, Double> foods;
-    private final LinkedHashMap<Food, ArrayList<Integer>> ratings;
+    // removed entries leave a null slot behind, until there are enough of them to be worth compacting
+    private final PersistentVector<Entry> entries;
+    private final PersistentHashMap<String, Integer> slotsByName;
     private final LocalDate localDate;
+    // indexed by Nutrient ordinal, each the sum of that nutrient over every entry multiplied by its portion
+    private final double[] totals;
 
     public DailyFoodLog() {
-        foods = new LinkedHashMap<>();
-        ratings = new LinkedHashMap<>();
-        localDate = LocalDate.now();
+        this(PersistentVector.empty(), PersistentHashMap.empty(), LocalDate.now(), new double[NUTRIENTS.length]);
     }
 
     /**
      * Functions as constructor when you have attributes you wish to set.
      *
      * @param foods LinkedHashMap representing the mapping of Food to its portion.
-     * @param ratings LinkedHashMap representing the mapping of Food to its ratings.
+     * @param ratings LinkedHashMap representing the mapping of Food to a summary of its ratings.
      * @param localDate LocalDate associated to the DailyFoodLog.
      */
     public DailyFoodLog(LinkedHashMap<Food, Double> foods,
-                        LinkedHashMap<Food, ArrayList<Integer>> ratings, LocalDate localDate) {
+                        LinkedHashMap<Food, RatingSummary> ratings, LocalDate localDate) {
         requireAllNonNull(foods, ratings, localDate);
-        this.foods = foods;
+        PersistentVector<Entry> entries = PersistentVector.empty();
+        PersistentHashMap<String, Integer> slotsByName = PersistentHashMap.empty();
+        double[] totals = new double[NUTRIENTS.length];
+        for (Food food : foods.keySet()) {
+            RatingSummary foodRatings = ratings.getOrDefault(food, RatingSummary.EMPTY);
+            slotsByName = slotsByName.put(food.getName().getKey(), entries.size());
+            Entry entry = new Entry(food, foods.get(food), foodRatings);
+            entries = entries.append(entry);
+            addToTotals(totals, entry, 1);
+        }
+        this.entries = entries;
+        this.slotsByName = slotsByName;
+        this.localDate = localDate;
+        this.totals = totals;
+    }
+
+    private DailyFoodLog(PersistentVector<Entry> entries, PersistentHashMap<String, Integer> slotsByName,
+                         LocalDate localDate, double[] totals) {
+        this.entries = entries;
+        this.slotsByName = slotsByName;
         this.localDate = localDate;
-        this.ratings = ratings;
+        this.totals = totals;
     }
 
     public LocalDate getLocalDate() {
@@ -55,68 +129,53 @@ public class DailyFoodLog {
      * @return Replica of this DailyFoodLog, with different date.
      */
     public DailyFoodLog setDate(LocalDate date) {
-        return new DailyFoodLog(copyFoods(), copyRatings(), date);
+        return new DailyFoodLog(entries, slotsByName, date, totals);
     }
 
     /**
-     * Adds food into foods LinkedHashMap.
+     * Adds food into the log, or increases its portion if it has already been consumed.
      *
      * @param food Food that has been consumed.
      * @param quantity Number of portions of food that has been consumed.
      * @return Updated DailyFoodLog object.
      */
     public DailyFoodLog consume(Food food, double quantity) {
-        return new DailyFoodLog(this.add(food, quantity), copyRatings(), localDate);
-    }
-
-    /**
-     * Acts as a helper method to consume method.
-     *
-     * @param foodToAdd Food object to be added to LinkedHashMap as key.
-     * @param quantity Double representing portion, to be stored as value in LinkedHashMap.
-     * @return LinkedHashMap containing the Food and portion as key-value pairs.
-     */
-    private LinkedHashMap<Food, Double> add(Food foodToAdd, double quantity) {
-        LinkedHashMap<Food, Double> foods = copyFoods();
-        if (foods.containsKey(foodToAdd)) {
-            foods.put(foodToAdd, quantity + foods.get(foodToAdd));
-        } else {
-            foods.put(foodToAdd, quantity);
-            ratings.put(foodToAdd, new ArrayList<>());
+        Integer slot = slotsByName.get(food.getName().getKey());
+        if (slot != null) {
+            Entry entry = entries.get(slot);
+            return withEntry(slot, new Entry(food, entry.portion + quantity, entry.ratings));
         }
-        return foods;
+        Entry entry = new Entry(food, quantity, RatingSummary.EMPTY);
+        return new DailyFoodLog(entries.append(entry), slotsByName.put(food.getName().getKey(), entries.size()),
+                localDate, totalsWith(null, entry));
     }
 
     /**
-     * Decreases portion of food consumed in the key value pair, or totally remove the entry.
+     * Decreases portion of food consumed, or totally removes the entry along with its ratings.
      *
      * @param food Food that is to be removed.
-     * @param quantity Number of portions of food that should be removed.
+     * @param quantity Number of portions of food that should be removed, or empty to remove all of them.
      * @return Updated DailyFoodLog object.
+     * @throws IllegalArgumentException If the food has not been consumed in this log.
      */
     public DailyFoodLog vomit(Food food, OptionalDouble quantity) {
-        return new DailyFoodLog(this.remove(food, quantity), copyRatings(), localDate);
-    }
-
-    /**
-     * Acts as a helper method to vomit method.
-     *
-     * @param foodToRemove Food object to be possibly removed LinkedHashMap's key.
-     * @param quantity Double representing portion to reduce by.
-     * @return LinkedHashMap containing the Food and portion as key-value pairs.
-     */
-    private LinkedHashMap<Food, Double> remove(Food foodToRemove, OptionalDouble quantity) {
-        LinkedHashMap<Food, Double> foods = copyFoods();
-        boolean shouldRemoveCompletely = quantity.isEmpty() || quantity.getAsDouble() >= foods.get(foodToRemove);
-        if (!foods.containsKey(foodToRemove)) {
+        String key = food.getName().getKey();
+        Integer slot = slotsByName.get(key);
+        if (slot == null) {
             throw new IllegalArgumentException();
-        } else if (shouldRemoveCompletely) {
-            foods.remove(foodToRemove);
-            ratings.put(foodToRemove, new ArrayList<>());
-        } else {
-            foods.put(foodToRemove, foods.get(foodToRemove) - quantity.getAsDouble());
         }
-        return foods;
+        Entry entry = entries.get(slot);
+        boolean shouldRemoveCompletely = quantity.isEmpty() || quantity.getAsDouble() >= entry.portion;
+        if (!shouldRemoveCompletely) {
+            return withEntry(slot, new Entry(entry.food, entry.portion - quantity.getAsDouble(), entry.ratings));
+        }
+
+        PersistentVector<Entry> newEntries = slot == entries.size() - 1
+                ? entries.removeLast()
+                : entries.set(slot, null);
+        DailyFoodLog result = new DailyFoodLog(newEntries, slotsByName.remove(key), localDate,
+                totalsWith(entry, null));
+        return result.getRemovedCount() > result.slotsByName.size() ? result.compact() : result;
     }
 
     /**
@@ -126,48 +185,101 @@ public class DailyFoodLog {
      * @return Updated DailyFoodLog object.
      */
     public DailyFoodLog updateFoodWithSameName(Food newFood) {
-        LinkedHashMap<Food, Double> foods = copyFoods();
-        LinkedHashMap<Food, ArrayList<Integer>> ratings = copyRatings();
-        OptionalDouble portion = OptionalDouble.empty();
-        ArrayList<Integer> rating = new ArrayList<>();
-        for (Food food: this.foods.keySet()) {
-            if (food.isSameFood(newFood)) {
-                portion = OptionalDouble.of(foods.remove(food));
-                rating = new ArrayList<>(this.ratings.get(food));
-                ratings.remove(food);
-            }
+        Integer slot = slotsByName.get(newFood.getName().getKey());
+        if (slot == null) {
+            return this;
         }
-        if (portion.isPresent()) {
-            foods.put(newFood, portion.getAsDouble());
-            ratings.put(newFood, rating);
-        }
-        return new DailyFoodLog(foods, ratings, localDate);
+        Entry entry = entries.get(slot);
+        Entry newEntry = new Entry(newFood, entry.portion, entry.ratings);
+        return newEntry.food == entry.food ? this : withEntry(slot, newEntry);
     }
 
     /**
      * Acts as an accessor method to get the set of food objects in the data structure.
      *
-     * @return Set of food objects.
+     * @return Set of food objects, in the order they were first consumed.
      */
     public Set<Food> getFoods() {
-        LinkedHashMap<Food, Double> foods = new LinkedHashMap<>();
-        for (Food food: this.foods.keySet()) {
-            foods.put(food, this.foods.get(food));
+        Set<Food> foods = new LinkedHashSet<>();
+        for (Entry entry : this) {
+            foods.add(entry.getFood());
         }
-        return foods.keySet();
+        return foods;
     }
 
     /**
-     * Retrieves a Food object by its position in the LinkedHashMap.
+     * Returns the number of different food objects consumed in this DailyFoodLog.
+     */
+    public int getNumberOfFoods() {
+        return slotsByName.size();
+    }
+
+    /**
+     * Retrieves a Food object by its position in the log.
      *
      * @param index Zero based index of the food object.
      * @return Food object within an optional wrapper.
      * @throws IndexOutOfBoundsException If given index is invalid.
      */
     public Optional<Food> getFoodByIndex(int index) throws IndexOutOfBoundsException {
-        ArrayList<Food> temp = new ArrayList<>(foods.keySet());
-        Food food = (Food) temp.get(index);
-        return Optional.of(food);
+        return Optional.of(getEntryAt(index).getFood());
+    }
+
+    /**
+     * Retrieves an entry by its position in the log.
+     *
+     * @param index Zero based index of the entry.
+     * @return Entry at that position.
+     * @throws IndexOutOfBoundsException If given index is invalid.
+     */
+    public Entry getEntryAt(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= slotsByName.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + slotsByName.size());
+        }
+        return getRemovedCount() == 0 ? entries.get(index) : entries.getNonNull(index);
+    }
+
+    /**
+     * Returns an iterator over the entries of this DailyFoodLog, in the order they were first consumed.
+     */
+    @Override
+    public Iterator<Entry> iterator() {
+        Iterator<Entry> slots = entries.iterator();
+        return new Iterator<>() {
+            private Entry next = advance();
+
+            private Entry advance() {
+                while (slots.hasNext()) {
+                    Entry entry = slots.next();
+                    if (entry != null) {
+                        return entry;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Entry next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Entry entry = next;
+                next = advance();
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * Returns true if a food with the same identity as {@code food} was consumed in this DailyFoodLog.
+     */
+    public boolean hasFood(Food food) {
+        return getEntry(food) != null;
     }
 
     /**
@@ -177,36 +289,71 @@ public class DailyFoodLog {
      * @return Portion of food consumed in DailyFoodLog.
      */
     public double getPortion(Food food) {
-        if (!foods.containsKey(food)) {
-            return 0.0;
-        }
-        return foods.get(food);
+        Entry entry = getEntry(food);
+        return entry == null ? 0.0 : entry.portion;
     }
 
     /**
-     * Calculates the total number of calories consumed based on all food objects stored in DailyFoodLog object.
+     * Returns the total number of calories consumed, over all food objects stored in DailyFoodLog object.
      *
      * @return total number of calories consumed in this DailyFoodLog object.
      */
     public double getTotalCalories() {
-        double totalCalories = 0.0;
-        for (Food food : foods.keySet()) {
-            totalCalories += Integer.parseInt(food.getCalorie().value) * foods.get(food);
-        }
-        return totalCalories;
+        return getTotal(Nutrient.CALORIE);
+    }
+
+    /**
+     * Returns the total grams of protein consumed, over all food objects stored in DailyFoodLog object.
+     *
+     * @return total grams of protein consumed in this DailyFoodLog object.
+     */
+    public double getTotalProteins() {
+        return getTotal(Nutrient.PROTEIN);
+    }
+
+    /**
+     * Returns the total grams of carbohydrate consumed, over all food objects stored in DailyFoodLog object.
+     *
+     * @return total grams of carbohydrate consumed in this DailyFoodLog object.
+     */
+    public double getTotalCarbohydrates() {
+        return getTotal(Nutrient.CARBOHYDRATE);
     }
 
     /**
-     * Adds an Integer into the list of ratings related to a Food object.
+     * Returns the total grams of fat consumed, over all food objects stored in DailyFoodLog object.
+     *
+     * @return total grams of fat consumed in this DailyFoodLog object.
+     */
+    public double getTotalFats() {
+        return getTotal(Nutrient.FAT);
+    }
+
+    /**
+     * Returns the total amount of {@code nutrient} consumed, over all food objects stored in DailyFoodLog object.
+     *
+     * @param nutrient Nutrient to total.
+     * @return total amount of the nutrient consumed in this DailyFoodLog object.
+     */
+    public double getTotal(Nutrient nutrient) {
+        return totals[nutrient.ordinal()];
+    }
+
+    /**
+     * Adds a rating to the ratings related to a Food object.
      *
      * @param food Food that receives rating.
      * @param rating Rating given to the food.
      * @return DailyFoodLog object with rating added.
+     * @throws IllegalArgumentException If the food has not been consumed in this log, or the rating is invalid.
      */
     public DailyFoodLog addRating(Food food, int rating) {
-        LinkedHashMap<Food, ArrayList<Integer>> ratings = copyRatings();
-        ratings.get(food).add(rating);
-        return new DailyFoodLog(copyFoods(), ratings, localDate);
+        Integer slot = slotsByName.get(food.getName().getKey());
+        if (slot == null) {
+            throw new IllegalArgumentException();
+        }
+        Entry entry = entries.get(slot);
+        return withEntry(slot, new Entry(entry.food, entry.portion, entry.ratings.add(rating)));
     }
 
     /**
@@ -216,39 +363,27 @@ public class DailyFoodLog {
      * @return Double representing the rating to display.
      */
     public double getRating(Food food) {
-        return getMeanRating(food);
+        return getRatingSummary(food).getMean();
     }
 
     /**
-     * Acts as a helper method to consume method.
+     * Acts as accessor method to get a summary of all ratings given to a food object.
      *
-     * @param foodToAdd Food object to be added to LinkedHashMap as key.
-     * @param quantity Double representing portion, to be stored as value in LinkedHashMap.
-     * @return LinkedHashMap containing the Food and portion as key-value pairs.
+     * @param food Food that ratings are for.
+     * @return RatingSummary of the ratings of the food, which is empty if it has not been consumed.
      */
-
-    /**
-     * Acts as a helper method to calculate mean rating for getRating method.
-     *
-     * @param food Food that you want rating of.
-     * @return Double which is the average rating of food, calculated based on it's ratings array.
-     */
-    private double getMeanRating(Food food) {
-        OptionalDouble average = ratings.get(food).stream().mapToInt(i -> i).average();
-        if (average.isEmpty()) {
-            return RATING_DUMMY_VALUE;
-        } else {
-            return average.getAsDouble();
-        }
+    public RatingSummary getRatingSummary(Food food) {
+        Entry entry = getEntry(food);
+        return entry == null ? RatingSummary.EMPTY : entry.ratings;
     }
 
     /**
      * Returns a copy of this DailyFoodLog's ratings.
      */
-    public LinkedHashMap<Food, ArrayList<Integer>> copyRatings() {
-        LinkedHashMap<Food, ArrayList<Integer>> ratings = new LinkedHashMap<>();
-        for (Food food: this.ratings.keySet()) {
-            ratings.put(food.copy(), new ArrayList<>(this.ratings.get(food)));
+    public LinkedHashMap<Food, RatingSummary> copyRatings() {
+        LinkedHashMap<Food, RatingSummary> ratings = new LinkedHashMap<>();
+        for (Entry entry : this) {
+            ratings.put(entry.getFood(), entry.ratings);
         }
         return ratings;
     }
@@ -258,14 +393,69 @@ public class DailyFoodLog {
      */
     public LinkedHashMap<Food, Double> copyFoods() {
         LinkedHashMap<Food, Double> foods = new LinkedHashMap<>();
-        for (Food food: this.foods.keySet()) {
-            foods.put(food.copy(), this.foods.get(food));
+        for (Entry entry : this) {
+            foods.put(entry.getFood(), entry.portion);
         }
         return foods;
     }
 
+    /**
+     * Returns this DailyFoodLog, since it is immutable and can be shared freely.
+     */
     public DailyFoodLog copy() {
-        return new DailyFoodLog(copyFoods(), copyRatings(), localDate);
+        return this;
+    }
+
+    private int getRemovedCount() {
+        return entries.size() - slotsByName.size();
+    }
+
+    /**
+     * Returns an equivalent DailyFoodLog without the slots left behind by removed entries.
+     */
+    private DailyFoodLog compact() {
+        PersistentVector<Entry> compactEntries = PersistentVector.empty();
+        PersistentHashMap<String, Integer> compactSlotsByName = PersistentHashMap.empty();
+        for (Entry entry : this) {
+            compactSlotsByName = compactSlotsByName.put(entry.getFood().getName().getKey(), compactEntries.size());
+            compactEntries = compactEntries.append(entry);
+        }
+        return new DailyFoodLog(compactEntries, compactSlotsByName, localDate, totals);
+    }
+
+    private Entry getEntry(Food food) {
+        Integer slot = slotsByName.get(food.getName().getKey());
+        return slot == null ? null : entries.get(slot);
+    }
+
+    private DailyFoodLog withEntry(int slot, Entry entry) {
+        return new DailyFoodLog(entries.set(slot, entry), slotsByName, localDate,
+                totalsWith(entries.get(slot), entry));
+    }
+
+    /**
+     * Returns the totals after replacing {@code oldEntry} with {@code newEntry}, either of which may be null.
+     */
+    private double[] totalsWith(Entry oldEntry, Entry newEntry) {
+        if (newEntry == null && slotsByName.size() == 1) {
+            // the log becomes empty, so drop any rounding error accumulated by earlier updates
+            return new double[NUTRIENTS.length];
+        }
+        double[] newTotals = totals.clone();
+        if (oldEntry != null) {
+            addToTotals(newTotals, oldEntry, -1);
+        }
+        if (newEntry != null) {
+            addToTotals(newTotals, newEntry, 1);
+        }
+        return newTotals;
+    }
+
+    private static void addToTotals(double[] totals, Entry entry, int sign) {
+        Food food = entry.getFood();
+        for (Nutrient nutrient : NUTRIENTS) {
+            totals[nutrient.ordinal()] += sign * nutrient.valueOf(food) * entry.portion;
+        }
     }
 
     @Override
@@ -279,10 +469,20 @@ public class DailyFoodLog {
         }
 
         DailyFoodLog otherFoodLog = (DailyFoodLog) other;
-
-        return otherFoodLog.getLocalDate().equals(getLocalDate())
-                && otherFoodLog.copyFoods().equals(copyFoods())
-                && otherFoodLog.copyRatings().equals(copyRatings());
+        if (!otherFoodLog.getLocalDate().equals(getLocalDate())
+                || otherFoodLog.slotsByName.size() != slotsByName.size()) {
+            return false;
+        }
+        for (Entry entry : this) {
+            Entry otherEntry = otherFoodLog.getEntry(entry.getFood());
+            if (otherEntry == null
+                    || !otherEntry.food.equals(entry.food)
+                    || otherEntry.portion != entry.portion
+                    || !otherEntry.ratings.equals(entry.ratings)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
@@ -19,22 +19,32 @@ public class DailyGoal implements ReadOnlyGoal {
     // Default value, when user does not input a goal.
     public static final int DUMMY_VALUE = 0;
 
-    private int targetDailyCalories;
+    private static final String MESSAGE_INVALID_GOAL = "An inadmissible value of daily goal has been given";
+
+    private final int targetDailyCalories;
+    private final long version;
 
     public DailyGoal(Integer numCalories) throws IllegalArgumentException {
-        requireNonNull(numCalories);
-        if (!isValidGoal(numCalories)) {
-            throw new IllegalArgumentException("An inadmissible value of daily goal has been given");
-        }
-        this.targetDailyCalories = numCalories;
+        this(numCalories, 0);
     }
 
     public DailyGoal(ReadOnlyGoal readOnlyGoal) {
         this.targetDailyCalories = readOnlyGoal.getGoal();
+        this.version = readOnlyGoal.getVersion();
     }
 
     public DailyGoal() {
         this.targetDailyCalories = DUMMY_VALUE;
+        this.version = 0;
+    }
+
+    private DailyGoal(Integer numCalories, long version) throws IllegalArgumentException {
+        requireNonNull(numCalories);
+        if (!isValidGoal(numCalories)) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_GOAL);
+        }
+        this.targetDailyCalories = numCalories;
+        this.version = version;
     }
 
     // Getter method
@@ -43,6 +53,11 @@ public class DailyGoal implements ReadOnlyGoal {
         return targetDailyCalories;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     // Setter method
 
     /**
@@ -52,7 +67,7 @@ public class DailyGoal implements ReadOnlyGoal {
      * @return Updated DailyGoal object.
      */
     public DailyGoal updateDailyGoal(Integer newTarget) {
-        return new DailyGoal(newTarget);
+        return new DailyGoal(newTarget, version + 1);
     }
 
     // Utility methods
@@ -0,0 +1,98 @@
+package life.calgo.model.day;
+
+import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import life.calgo.model.food.Nutrient;
+
+/**
+ * Summarises a DailyFoodLog by the total of each Nutrient consumed and the number of different food consumed,
+ * without the food themselves. Archived days are kept in memory only as summaries.
+ * Guarantees: immutable.
+ */
+public class DailySummary {
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+
+    private final LocalDate localDate;
+    // indexed by Nutrient ordinal
+    private final double[] totals;
+    private final int numberOfFoods;
+
+    /**
+     * Creates a DailySummary of the given details.
+     *
+     * @param totals The total of each Nutrient, indexed by Nutrient ordinal.
+     * @throws IllegalArgumentException if there is not one total per Nutrient, or the number of foods is negative.
+     */
+    public DailySummary(LocalDate localDate, double[] totals, int numberOfFoods) {
+        requireAllNonNull(localDate, totals);
+        if (totals.length != NUTRIENTS.length || numberOfFoods < 0) {
+            throw new IllegalArgumentException("A summary needs one total per nutrient and a number of foods "
+                    + "that is not negative.");
+        }
+        this.localDate = localDate;
+        this.totals = totals.clone();
+        this.numberOfFoods = numberOfFoods;
+    }
+
+    /**
+     * Returns the DailySummary of {@code foodLog}.
+     */
+    public static DailySummary of(DailyFoodLog foodLog) {
+        double[] totals = new double[NUTRIENTS.length];
+        for (Nutrient nutrient : NUTRIENTS) {
+            totals[nutrient.ordinal()] = foodLog.getTotal(nutrient);
+        }
+        return new DailySummary(foodLog.getLocalDate(), totals, foodLog.getNumberOfFoods());
+    }
+
+    public LocalDate getLocalDate() {
+        return localDate;
+    }
+
+    /**
+     * Returns the total amount of {@code nutrient} consumed on the day.
+     */
+    public double getTotal(Nutrient nutrient) {
+        return totals[nutrient.ordinal()];
+    }
+
+    /**
+     * Returns the total of each Nutrient, indexed by Nutrient ordinal.
+     */
+    public double[] getTotals() {
+        return totals.clone();
+    }
+
+    public int getNumberOfFoods() {
+        return numberOfFoods;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DailySummary)) {
+            return false;
+        }
+        DailySummary otherSummary = (DailySummary) other;
+        return otherSummary.localDate.equals(localDate)
+                && Arrays.equals(otherSummary.totals, totals)
+                && otherSummary.numberOfFoods == numberOfFoods;
+    }
+
+    @Override
+    public int hashCode() {
+        return localDate.hashCode() * 31 + Arrays.hashCode(totals);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.0f calories from %d food(s)", localDate, getTotal(Nutrient.CALORIE),
+                numberOfFoods);
+    }
+}
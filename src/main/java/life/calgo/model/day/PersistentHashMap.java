@@ -0,0 +1,271 @@
+package life.calgo.model.day;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable hash map, stored as a hash array mapped trie.
+ * Each level of the trie consumes 5 bits of the key's hash, and only holds entries for the hash fragments present,
+ * so an update copies only the small arrays on the path to the changed key and shares the rest with the previous
+ * version. Keys and values must not be null.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+final class PersistentHashMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    /**
+     * A node of the trie. Updates return a new node, or the same node if nothing changed.
+     */
+    private interface Node {
+        Object find(int shift, int hash, Object key);
+
+        Node put(int shift, int hash, Object key, Object value, boolean[] isAdded);
+
+        /** Returns the node without {@code key}, or null if the node would be empty. */
+        Node remove(int shift, int hash, Object key);
+    }
+
+    /**
+     * A node holding up to 32 children, one per 5-bit hash fragment, in a compressed array.
+     * Each child takes two slots: a key and its value, or null and a sub-node.
+     */
+    private static final class BitmapNode implements Node {
+        private static final BitmapNode EMPTY_NODE = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        private BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int indexOf(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int index = indexOf(bit);
+            Object keyOrNull = array[index];
+            if (keyOrNull == null) {
+                return ((Node) array[index + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(keyOrNull) ? array[index + 1] : null;
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] isAdded) {
+            int bit = bitFor(hash, shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, index);
+                newArray[index] = key;
+                newArray[index + 1] = value;
+                System.arraycopy(array, index, newArray, index + 2, array.length - index);
+                isAdded[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            Object keyOrNull = array[index];
+            Object valueOrNode = array[index + 1];
+            if (keyOrNull == null) {
+                Node newChild = ((Node) valueOrNode).put(shift + BITS, hash, key, value, isAdded);
+                return newChild == valueOrNode ? this : withSlots(index, null, newChild);
+            }
+            if (key.equals(keyOrNull)) {
+                return value == valueOrNode ? this : withSlots(index, keyOrNull, value);
+            }
+            isAdded[0] = true;
+            return withSlots(index, null, createNode(shift + BITS, keyOrNull, valueOrNode, hash, key, value));
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = indexOf(bit);
+            Object keyOrNull = array[index];
+            if (keyOrNull == null) {
+                Node child = (Node) array[index + 1];
+                Node newChild = child.remove(shift + BITS, hash, key);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    return withSlots(index, null, newChild);
+                }
+            } else if (!key.equals(keyOrNull)) {
+                return this;
+            }
+
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+
+        private BitmapNode withSlots(int index, Object keyOrNull, Object valueOrNode) {
+            Object[] newArray = array.clone();
+            newArray[index] = keyOrNull;
+            newArray[index + 1] = valueOrNode;
+            return new BitmapNode(bitmap, newArray);
+        }
+    }
+
+    /**
+     * A node holding keys whose hashes are identical, as a flat array of keys and values.
+     */
+    private static final class CollisionNode implements Node {
+        private final int hash;
+        private final Object[] array;
+
+        private CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object find(int shift, int hash, Object key) {
+            int index = indexOf(key);
+            return index < 0 ? null : array[index + 1];
+        }
+
+        @Override
+        public Node put(int shift, int hash, Object key, Object value, boolean[] isAdded) {
+            if (hash != this.hash) {
+                // nest this node under a bitmap node, where the two hashes can be told apart
+                return new BitmapNode(bitFor(this.hash, shift), new Object[] {null, this})
+                        .put(shift, hash, key, value, isAdded);
+            }
+            int index = indexOf(key);
+            if (index >= 0) {
+                if (array[index + 1] == value) {
+                    return this;
+                }
+                Object[] newArray = array.clone();
+                newArray[index + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+            Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            isAdded[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        public Node remove(int shift, int hash, Object key) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+            return new CollisionNode(hash, newArray);
+        }
+    }
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map does not contain it.
+     */
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        requireNonNull(key);
+        return root == null ? null : (V) root.find(0, hash(key), key);
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}.
+     */
+    PersistentHashMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        boolean[] isAdded = new boolean[1];
+        Node oldRoot = root == null ? BitmapNode.EMPTY_NODE : root;
+        Node newRoot = oldRoot.put(0, hash(key), key, value, isAdded);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, isAdded[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without {@code key}.
+     */
+    PersistentHashMap<K, V> remove(K key) {
+        requireNonNull(key);
+        if (root == null) {
+            return this;
+        }
+        Node newRoot = root.remove(0, hash(key), key);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Creates a node holding two entries whose keys differ.
+     */
+    private static Node createNode(int shift, Object firstKey, Object firstValue,
+                                   int secondHash, Object secondKey, Object secondValue) {
+        int firstHash = hash(firstKey);
+        if (firstHash == secondHash) {
+            return new CollisionNode(firstHash, new Object[] {firstKey, firstValue, secondKey, secondValue});
+        }
+        boolean[] isAdded = new boolean[1];
+        return BitmapNode.EMPTY_NODE
+                .put(shift, firstHash, firstKey, firstValue, isAdded)
+                .put(shift, secondHash, secondKey, secondValue, isAdded);
+    }
+}
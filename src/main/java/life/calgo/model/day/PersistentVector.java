@@ -0,0 +1,216 @@
+package life.calgo.model.day;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable list supporting indexed reads, replacement, appending and removing the last element.
+ * It is stored as a tree of 32-element arrays, so an update copies only the arrays on the path from the root to
+ * the changed element, and the rest of the tree is shared with the previous version.
+ *
+ * Elements may be null, and every internal node counts the non-null elements below each of its children, so the
+ * non-null element at a given rank can be found in logarithmic time however many null elements come before it.
+ *
+ * @param <T> the type of the elements.
+ */
+final class PersistentVector<T> implements Iterable<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, 0, new Object[WIDTH]);
+
+    /**
+     * An internal node of the tree, holding its children and the number of non-null elements below each of them.
+     * Children are {@code Branch} one level above the leaves, and leaf arrays of elements on the level above those.
+     */
+    private static final class Branch {
+        private final Object[] children;
+        private final int[] counts;
+        private final int count;
+
+        private Branch(Object[] children, int[] counts) {
+            this.children = children;
+            this.counts = counts;
+            int count = 0;
+            for (int childCount : counts) {
+                count += childCount;
+            }
+            this.count = count;
+        }
+    }
+
+    private final int size;
+    private final int shift;
+    // a leaf array of elements if shift is 0, and a Branch otherwise
+    private final Object root;
+
+    private PersistentVector(int size, int shift, Object root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of non-null elements.
+     */
+    int nonNullCount() {
+        return countOf(root);
+    }
+
+    /**
+     * Returns the non-null element with {@code rank} non-null elements before it.
+     *
+     * @throws IndexOutOfBoundsException if there are not more than {@code rank} non-null elements.
+     */
+    @SuppressWarnings("unchecked")
+    T getNonNull(int rank) {
+        Objects.checkIndex(rank, nonNullCount());
+        Object node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            Branch branch = (Branch) node;
+            int child = 0;
+            while (rank >= branch.counts[child]) {
+                rank -= branch.counts[child];
+                child++;
+            }
+            node = branch.children[child];
+        }
+        for (Object element : (Object[]) node) {
+            if (element != null && rank-- == 0) {
+                return (T) element;
+            }
+        }
+        throw new AssertionError("counts of non-null elements are out of date");
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} replaced by {@code value}.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    PersistentVector<T> set(int index, T value) {
+        Objects.checkIndex(index, size);
+        return new PersistentVector<>(size, shift, assoc(root, shift, index, value));
+    }
+
+    /**
+     * Returns a vector with {@code value} added after the last element.
+     */
+    PersistentVector<T> append(T value) {
+        if (size == 1 << (shift + BITS)) {
+            // the tree is full, so it gains a level with the current tree as its first child
+            Object[] children = new Object[WIDTH];
+            int[] counts = new int[WIDTH];
+            children[0] = root;
+            counts[0] = countOf(root);
+            Branch newRoot = new Branch(children, counts);
+            return new PersistentVector<>(size + 1, shift + BITS, assoc(newRoot, shift + BITS, size, value));
+        }
+        return new PersistentVector<>(size + 1, shift, assoc(root, shift, size, value));
+    }
+
+    /**
+     * Returns a vector without its last element.
+     *
+     * @throws IndexOutOfBoundsException if the vector is empty.
+     */
+    PersistentVector<T> removeLast() {
+        Objects.checkIndex(0, size);
+        // the tree keeps its shape, so appending again reuses the emptied slot
+        return new PersistentVector<>(size - 1, shift, assoc(root, shift, size - 1, null));
+    }
+
+    /**
+     * Returns an iterator over the elements in index order, which reads each leaf array once.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int index = 0;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    private Object[] leafFor(int index) {
+        Object node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = ((Branch) node).children[(index >>> level) & MASK];
+        }
+        return (Object[]) node;
+    }
+
+    /**
+     * Returns a copy of the subtree {@code node} at {@code level}, which may be null, with the element at
+     * {@code index} replaced by {@code value}.
+     */
+    private static Object assoc(Object node, int level, int index, Object value) {
+        if (level == 0) {
+            Object[] leaf = node == null ? new Object[WIDTH] : ((Object[]) node).clone();
+            leaf[index & MASK] = value;
+            return leaf;
+        }
+        Branch branch = (Branch) node;
+        Object[] children = branch == null ? new Object[WIDTH] : branch.children.clone();
+        int[] counts = branch == null ? new int[WIDTH] : branch.counts.clone();
+        int child = (index >>> level) & MASK;
+        children[child] = assoc(children[child], level - BITS, index, value);
+        counts[child] = countOf(children[child]);
+        return new Branch(children, counts);
+    }
+
+    /**
+     * Returns the number of non-null elements in the subtree {@code node}.
+     */
+    private static int countOf(Object node) {
+        if (node instanceof Branch) {
+            return ((Branch) node).count;
+        }
+        int count = 0;
+        for (Object element : (Object[]) node) {
+            if (element != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,161 @@
+package life.calgo.model.day;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents all the ratings given to a Food in a DailyFoodLog, as the number of times each rating was given.
+ * This takes the same space however many ratings there are, and answers count, mean and percentile queries without
+ * going through the individual ratings.
+ * Guarantees: immutable; every rating is valid as declared in {@link #isValidRating(int)}
+ */
+public class RatingSummary {
+
+    public static final int MINIMUM_RATING = 0;
+    public static final int MAXIMUM_RATING = 10;
+
+    public static final String MESSAGE_CONSTRAINTS = "Ratings should be integers from " + MINIMUM_RATING
+            + " to " + MAXIMUM_RATING + ".";
+
+    public static final RatingSummary EMPTY = new RatingSummary(new int[MAXIMUM_RATING - MINIMUM_RATING + 1]);
+
+    // number of times each rating was given, indexed by rating minus MINIMUM_RATING
+    private final int[] histogram;
+    private final int count;
+    private final int sum;
+
+    private RatingSummary(int[] histogram) {
+        this.histogram = histogram;
+        int count = 0;
+        int sum = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            count += histogram[i];
+            sum += histogram[i] * (i + MINIMUM_RATING);
+        }
+        this.count = count;
+        this.sum = sum;
+    }
+
+    /**
+     * Returns a RatingSummary of the given {@code ratings}.
+     *
+     * @throws IllegalArgumentException if any rating is invalid.
+     */
+    public static RatingSummary of(List<Integer> ratings) {
+        int[] histogram = new int[EMPTY.histogram.length];
+        for (int rating : ratings) {
+            checkRating(rating);
+            histogram[rating - MINIMUM_RATING]++;
+        }
+        return new RatingSummary(histogram);
+    }
+
+    /**
+     * Returns a RatingSummary where each rating was given the number of times in {@code histogram}, indexed by
+     * rating.
+     *
+     * @throws IllegalArgumentException if the histogram has the wrong length or a negative count.
+     */
+    public static RatingSummary fromHistogram(int[] histogram) {
+        if (histogram.length != EMPTY.histogram.length || Arrays.stream(histogram).anyMatch(i -> i < 0)) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return new RatingSummary(histogram.clone());
+    }
+
+    /**
+     * Returns true if {@code rating} is a valid rating.
+     */
+    public static boolean isValidRating(int rating) {
+        return rating >= MINIMUM_RATING && rating <= MAXIMUM_RATING;
+    }
+
+    private static void checkRating(int rating) {
+        if (!isValidRating(rating)) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Returns a RatingSummary with {@code rating} given once more.
+     *
+     * @throws IllegalArgumentException if the rating is invalid.
+     */
+    public RatingSummary add(int rating) {
+        checkRating(rating);
+        int[] newHistogram = histogram.clone();
+        newHistogram[rating - MINIMUM_RATING]++;
+        return new RatingSummary(newHistogram);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the number of times {@code rating} was given.
+     */
+    public int getCount(int rating) {
+        checkRating(rating);
+        return histogram[rating - MINIMUM_RATING];
+    }
+
+    /**
+     * Returns the number of times each rating was given, indexed by rating.
+     */
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Returns the mean rating, or {@link DailyFoodLog#RATING_DUMMY_VALUE} if there are no ratings.
+     */
+    public double getMean() {
+        return count == 0 ? DailyFoodLog.RATING_DUMMY_VALUE : (double) sum / count;
+    }
+
+    /**
+     * Returns the smallest rating that at least {@code percent} percent of the ratings are at most,
+     * or {@link DailyFoodLog#RATING_DUMMY_VALUE} if there are no ratings.
+     *
+     * @param percent A number from 0 to 100.
+     */
+    public int getPercentile(double percent) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Percentile should be from 0 to 100.");
+        }
+        if (count == 0) {
+            return DailyFoodLog.RATING_DUMMY_VALUE;
+        }
+        double rank = Math.max(1, Math.ceil(percent / 100 * count));
+        int seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return i + MINIMUM_RATING;
+            }
+        }
+        return MAXIMUM_RATING;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RatingSummary // instanceof handles nulls
+                && Arrays.equals(histogram, ((RatingSummary) other).histogram));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(histogram);
+    }
+
+    @Override
+    public String toString() {
+        return count == 0 ? "No ratings" : String.format("%.1f from %d rating(s)", getMean(), count);
+    }
+}
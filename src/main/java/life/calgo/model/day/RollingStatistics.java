@@ -0,0 +1,274 @@
+package life.calgo.model.day;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import life.calgo.model.food.Nutrient;
+
+/**
+ * Keeps moving totals of each Nutrient over the last 7, 30 and 90 days of consumption, so that recent trends can be
+ * read on every command without going through the logs.
+ *
+ * The totals of the last 90 days are held in a ring buffer indexed by date, ending on the end date given to
+ * {@link #advanceTo(LocalDate)}. Setting a day's totals adjusts each window containing it by the difference, and
+ * moving the end date forward drops the days that fall out of each window, so both cost constant time per day. Days
+ * after the end date are kept aside, and only enter the ring buffer once the end date reaches them. Streaks and
+ * unusual days are worked out from the ring buffer when {@link #getTrends()} is called after a change, and so are
+ * limited to the last 90 days.
+ *
+ * Unusual days are found with exponentially weighted moving estimates of the mean and variance of daily calories:
+ * a day is unusual if it is more than {@value #UNUSUAL_DEVIATIONS} standard deviations from the estimated mean of
+ * the days before it, once there are at least {@value #MINIMUM_HISTORY} such days.
+ */
+public class RollingStatistics {
+
+    static final double SMOOTHING_FACTOR = 0.2;
+    static final double UNUSUAL_DEVIATIONS = 3;
+    static final int MINIMUM_HISTORY = 7;
+    // stops a flat history from making every small change unusual, as a fraction of the estimated mean
+    static final double MINIMUM_RELATIVE_DEVIATION = 0.1;
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+    static final int CAPACITY = Collections.max(ConsumptionTrends.WINDOW_LENGTHS);
+
+    // indexed by epoch day modulo CAPACITY, then Nutrient ordinal
+    private final double[][] dayTotals = new double[CAPACITY][NUTRIENTS.length];
+    private final int[] foodCounts = new int[CAPACITY];
+    // indexed by position in ConsumptionTrends.WINDOW_LENGTHS, then Nutrient ordinal
+    private final double[][] windowTotals = new double[ConsumptionTrends.WINDOW_LENGTHS.size()][NUTRIENTS.length];
+    private final int[] windowDaysLogged = new int[ConsumptionTrends.WINDOW_LENGTHS.size()];
+    private final TreeMap<LocalDate, DailySummary> laterDays = new TreeMap<>();
+    private LocalDate endDate;
+    private int goalCalories;
+    private ConsumptionTrends trends;
+
+    /**
+     * Sets the totals of the day summarised by {@code summary}, replacing any totals set for that day before.
+     * A summary dated after the end date, or given before there is an end date, is kept aside until the end date
+     * reaches it. Days more than 90 days before the end date are ignored.
+     */
+    public void update(DailySummary summary) {
+        requireNonNull(summary);
+        LocalDate date = summary.getLocalDate();
+        if (endDate == null || date.isAfter(endDate)) {
+            laterDays.put(date, summary);
+            return;
+        }
+        int age = (int) Math.min(ChronoUnit.DAYS.between(date, endDate), CAPACITY);
+        if (age >= CAPACITY) {
+            return;
+        }
+        int slot = slotOf(date);
+        addToWindows(slot, age, -1);
+        for (Nutrient nutrient : NUTRIENTS) {
+            dayTotals[slot][nutrient.ordinal()] = summary.getTotal(nutrient);
+        }
+        foodCounts[slot] = summary.getNumberOfFoods();
+        addToWindows(slot, age, 1);
+        trends = null;
+    }
+
+    /**
+     * Moves the end date forward to {@code date}, if it is later, dropping the days that fall out of each window
+     * and adding the days kept aside that are now within it.
+     */
+    public void advanceTo(LocalDate date) {
+        requireNonNull(date);
+        if (endDate == null) {
+            endDate = date;
+            addLaterDays();
+            return;
+        }
+        long steps = ChronoUnit.DAYS.between(endDate, date);
+        if (steps <= 0) {
+            return;
+        }
+        if (steps >= CAPACITY) {
+            clearWindows();
+            endDate = date;
+            addLaterDays();
+            return;
+        }
+        for (long step = 0; step < steps; step++) {
+            endDate = endDate.plusDays(1);
+            for (int window = 0; window < windowTotals.length; window++) {
+                int length = ConsumptionTrends.WINDOW_LENGTHS.get(window);
+                int leavingSlot = slotOf(endDate.minusDays(length));
+                addToWindow(window, leavingSlot, -1);
+            }
+            // the new end date reuses the slot of the day that just left the longest window
+            int slot = slotOf(endDate);
+            dayTotals[slot] = new double[NUTRIENTS.length];
+            foodCounts[slot] = 0;
+        }
+        addLaterDays();
+        trends = null;
+    }
+
+    private void addLaterDays() {
+        NavigableMap<LocalDate, DailySummary> reachedDays = laterDays.headMap(endDate, true);
+        for (Map.Entry<LocalDate, DailySummary> day : List.copyOf(reachedDays.entrySet())) {
+            reachedDays.remove(day.getKey());
+            update(day.getValue());
+        }
+        trends = null;
+    }
+
+    /**
+     * Sets the daily calorie goal that streaks are measured against, where 0 means there is no goal.
+     */
+    public void setGoal(int goalCalories) {
+        if (goalCalories != this.goalCalories) {
+            this.goalCalories = goalCalories;
+            trends = null;
+        }
+    }
+
+    /**
+     * Removes every day, including those kept aside, keeping the end date and goal.
+     */
+    public void clear() {
+        laterDays.clear();
+        clearWindows();
+    }
+
+    /**
+     * Removes every day and moves the end date to {@code date}, which may be earlier than the current end date.
+     */
+    public void reset(LocalDate date) {
+        requireNonNull(date);
+        clear();
+        endDate = date;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    private void clearWindows() {
+        for (int slot = 0; slot < CAPACITY; slot++) {
+            dayTotals[slot] = new double[NUTRIENTS.length];
+            foodCounts[slot] = 0;
+        }
+        for (int window = 0; window < windowTotals.length; window++) {
+            windowTotals[window] = new double[NUTRIENTS.length];
+            windowDaysLogged[window] = 0;
+        }
+        trends = null;
+    }
+
+    /**
+     * Returns the trends up to the end date, or today if there is no end date yet.
+     */
+    public ConsumptionTrends getTrends() {
+        if (endDate == null) {
+            advanceTo(LocalDate.now());
+        }
+        if (trends == null) {
+            trends = computeTrends();
+        }
+        return trends;
+    }
+
+    private ConsumptionTrends computeTrends() {
+        double[][] averages = new double[windowTotals.length][NUTRIENTS.length];
+        for (int window = 0; window < windowTotals.length; window++) {
+            for (Nutrient nutrient : NUTRIENTS) {
+                averages[window][nutrient.ordinal()] = windowDaysLogged[window] == 0
+                        ? 0 : windowTotals[window][nutrient.ordinal()] / windowDaysLogged[window];
+            }
+        }
+
+        int streakLength = 0;
+        boolean isStreakWithinGoal = false;
+        if (goalCalories > 0) {
+            // today may not be over yet, so an unlogged end date does not break the streak
+            int age = isLogged(slotOf(endDate)) ? 0 : 1;
+            if (age < CAPACITY && isLogged(slotOf(endDate.minusDays(age)))) {
+                isStreakWithinGoal = isWithinGoal(slotOf(endDate.minusDays(age)));
+                while (age < CAPACITY && isLogged(slotOf(endDate.minusDays(age)))
+                        && isWithinGoal(slotOf(endDate.minusDays(age))) == isStreakWithinGoal) {
+                    streakLength++;
+                    age++;
+                }
+            }
+        }
+
+        return new ConsumptionTrends(endDate, averages, windowDaysLogged.clone(), streakLength, isStreakWithinGoal,
+                findUnusualDays());
+    }
+
+    private List<DailySummary> findUnusualDays() {
+        List<DailySummary> unusualDays = new ArrayList<>();
+        double mean = 0;
+        double variance = 0;
+        int history = 0;
+        for (int age = CAPACITY - 1; age >= 0; age--) {
+            LocalDate date = endDate.minusDays(age);
+            int slot = slotOf(date);
+            if (!isLogged(slot)) {
+                continue;
+            }
+            double calories = dayTotals[slot][Nutrient.CALORIE.ordinal()];
+            double deviation = calories - mean;
+            if (history >= MINIMUM_HISTORY) {
+                double standardDeviation = Math.max(Math.sqrt(variance), MINIMUM_RELATIVE_DEVIATION * Math.abs(mean));
+                if (Math.abs(deviation) > UNUSUAL_DEVIATIONS * standardDeviation) {
+                    unusualDays.add(new DailySummary(date, dayTotals[slot], foodCounts[slot]));
+                }
+            }
+            if (history == 0) {
+                mean = calories;
+            } else {
+                double increment = SMOOTHING_FACTOR * deviation;
+                mean += increment;
+                variance = (1 - SMOOTHING_FACTOR) * (variance + deviation * increment);
+            }
+            history++;
+        }
+        return unusualDays;
+    }
+
+    private boolean isLogged(int slot) {
+        return foodCounts[slot] > 0;
+    }
+
+    private boolean isWithinGoal(int slot) {
+        return dayTotals[slot][Nutrient.CALORIE.ordinal()] <= goalCalories;
+    }
+
+    /**
+     * Adds the day in {@code slot}, which is {@code age} days before the end date, to every window containing it,
+     * or removes it if {@code sign} is -1.
+     */
+    private void addToWindows(int slot, int age, int sign) {
+        for (int window = 0; window < windowTotals.length; window++) {
+            if (age < ConsumptionTrends.WINDOW_LENGTHS.get(window)) {
+                addToWindow(window, slot, sign);
+            }
+        }
+    }
+
+    private void addToWindow(int window, int slot, int sign) {
+        for (Nutrient nutrient : NUTRIENTS) {
+            windowTotals[window][nutrient.ordinal()] += sign * dayTotals[slot][nutrient.ordinal()];
+        }
+        windowDaysLogged[window] += isLogged(slot) ? sign : 0;
+        if (windowDaysLogged[window] == 0) {
+            // drops rounding error left over from removing every day's totals
+            windowTotals[window] = new double[NUTRIENTS.length];
+        }
+    }
+
+    private static int slotOf(LocalDate date) {
+        return (int) Math.floorMod(date.toEpochDay(), (long) CAPACITY);
+    }
+}
@@ -0,0 +1,139 @@
+package life.calgo.model.day;
+
+import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import life.calgo.model.food.Nutrient;
+
+/**
+ * Summarises consumption over one calendar week, month or year: the total of each Nutrient, the number of food
+ * entries, the number of days with food logged and how many of those days were within the daily calorie goal.
+ * Guarantees: immutable.
+ */
+public class RollupBucket {
+
+    private static final Nutrient[] NUTRIENTS = Nutrient.values();
+
+    private final RollupPeriod period;
+    private final LocalDate start;
+    // indexed by Nutrient ordinal
+    private final double[] totals;
+    private final int itemCount;
+    private final int daysLogged;
+    private final int daysWithinGoal;
+
+    private RollupBucket(RollupPeriod period, LocalDate start, double[] totals, int itemCount, int daysLogged,
+                         int daysWithinGoal) {
+        this.period = period;
+        this.start = start;
+        this.totals = totals;
+        this.itemCount = itemCount;
+        this.daysLogged = daysLogged;
+        this.daysWithinGoal = daysWithinGoal;
+    }
+
+    /**
+     * Returns an empty bucket for the period of length {@code period} starting on {@code start}.
+     */
+    static RollupBucket empty(RollupPeriod period, LocalDate start) {
+        requireAllNonNull(period, start);
+        return new RollupBucket(period, start, new double[NUTRIENTS.length], 0, 0, 0);
+    }
+
+    /**
+     * Returns this bucket with the contribution of the day summarised by {@code summary} added, or removed if
+     * {@code sign} is -1.
+     *
+     * @param isWithinGoal Whether the day counts as a day within the daily calorie goal.
+     */
+    RollupBucket plus(DailySummary summary, int sign, boolean isWithinGoal) {
+        double[] newTotals = totals.clone();
+        for (Nutrient nutrient : NUTRIENTS) {
+            newTotals[nutrient.ordinal()] += sign * summary.getTotal(nutrient);
+        }
+        return new RollupBucket(period, start, newTotals, itemCount + sign * summary.getNumberOfFoods(),
+                daysLogged + sign, daysWithinGoal + (isWithinGoal ? sign : 0));
+    }
+
+    /**
+     * Returns this bucket with the number of days within the goal changed by {@code change}.
+     */
+    RollupBucket withDaysWithinGoalChangedBy(int change) {
+        return new RollupBucket(period, start, totals, itemCount, daysLogged, daysWithinGoal + change);
+    }
+
+    boolean isEmpty() {
+        return daysLogged == 0;
+    }
+
+    public RollupPeriod getPeriod() {
+        return period;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return period.endOf(start);
+    }
+
+    /**
+     * Returns the total amount of {@code nutrient} consumed over the period.
+     */
+    public double getTotal(Nutrient nutrient) {
+        return totals[nutrient.ordinal()];
+    }
+
+    /**
+     * Returns the mean daily amount of {@code nutrient} consumed, over the days in the period with food logged.
+     */
+    public double getDailyAverage(Nutrient nutrient) {
+        return daysLogged == 0 ? 0 : getTotal(nutrient) / daysLogged;
+    }
+
+    /**
+     * Returns the number of food entries over the period, counting a food once for every day it was consumed.
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getDaysLogged() {
+        return daysLogged;
+    }
+
+    public int getDaysWithinGoal() {
+        return daysWithinGoal;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RollupBucket)) {
+            return false;
+        }
+        RollupBucket otherBucket = (RollupBucket) other;
+        return otherBucket.period == period
+                && otherBucket.start.equals(start)
+                && Arrays.equals(otherBucket.totals, totals)
+                && otherBucket.itemCount == itemCount
+                && otherBucket.daysLogged == daysLogged
+                && otherBucket.daysWithinGoal == daysWithinGoal;
+    }
+
+    @Override
+    public int hashCode() {
+        return start.hashCode() * 31 + period.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s from %s: %.0f calories over %d day(s), %d within goal", period, start,
+                getTotal(Nutrient.CALORIE), daysLogged, daysWithinGoal);
+    }
+}
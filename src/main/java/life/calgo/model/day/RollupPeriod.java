@@ -0,0 +1,45 @@
+package life.calgo.model.day;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Represents the length of the calendar periods that consumption is summarised over.
+ * Weeks start on Monday.
+ */
+public enum RollupPeriod {
+    WEEK, MONTH, YEAR;
+
+    /**
+     * Returns the first day of the period of this length that contains {@code date}.
+     */
+    public LocalDate startOf(LocalDate date) {
+        switch (this) {
+        case WEEK:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTH:
+            return date.withDayOfMonth(1);
+        case YEAR:
+            return date.withDayOfYear(1);
+        default:
+            throw new AssertionError(this);
+        }
+    }
+
+    /**
+     * Returns the last day of the period of this length that starts on {@code start}.
+     */
+    public LocalDate endOf(LocalDate start) {
+        switch (this) {
+        case WEEK:
+            return start.plusWeeks(1).minusDays(1);
+        case MONTH:
+            return start.plusMonths(1).minusDays(1);
+        case YEAR:
+            return start.plusYears(1).minusDays(1);
+        default:
+            throw new AssertionError(this);
+        }
+    }
+}
@@ -4,9 +4,14 @@ import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,13 +21,25 @@ import life.calgo.model.food.Food;
 
 /**
  * A data structure to hold date keys which have corresponding food consumed as their values.
+ * Logs are kept sorted by date, so the logs in a range of dates can be viewed without copying the whole history.
+ * It also indexes the dates on which each Food was consumed, by the Food's name, so that updating a Food only
+ * touches the logs that contain it, and keeps a {@link ConsumptionRollup} and {@link RollingStatistics} of the
+ * logs up to date.
+ *
+ * Logs can be moved out to an archive, after which only their {@link DailySummary} is kept here. Archived days still
+ * count towards the rollup and statistics, until a log of the same date is put back.
  */
 public class UniqueDateToLogMap {
 
-    private final HashMap<LocalDate, DailyFoodLog> internalMap = new HashMap<>();
+    private final TreeMap<LocalDate, DailyFoodLog> internalMap = new TreeMap<>();
+    private final HashMap<String, Set<LocalDate>> datesByFoodName = new HashMap<>();
+    private final TreeMap<LocalDate, DailySummary> archivedSummaries = new TreeMap<>();
+    private final ConsumptionRollup rollup = new ConsumptionRollup();
+    private final RollingStatistics rollingStatistics = new RollingStatistics();
     private final ObservableList<DisplayFood> internalList = FXCollections.observableArrayList();
     private final ObservableList<DisplayFood> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private LocalDate dailyListDate;
 
     public DailyFoodLog getLogByDate(LocalDate date) {
         return internalMap.get(date);
@@ -32,6 +49,15 @@ public class UniqueDateToLogMap {
         return new ArrayList<>(internalMap.values());
     }
 
+    /**
+     * Returns an unmodifiable view of the logs dated from {@code from} to {@code to}, both inclusive, in date order.
+     * The view reflects later changes to this map.
+     */
+    public NavigableMap<LocalDate, DailyFoodLog> logsBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        return Collections.unmodifiableNavigableMap(internalMap.subMap(from, true, to, true));
+    }
+
     /**
      * Checks if internalMap has an existing DailyFoodLog with same date.
      *
@@ -49,8 +75,12 @@ public class UniqueDateToLogMap {
      */
     public void setDateToLogMap(HashMap<LocalDate, DailyFoodLog> dateToLogMap) {
         internalMap.clear();
+        datesByFoodName.clear();
+        archivedSummaries.clear();
+        rollup.clear();
+        rollingStatistics.clear();
         for (DailyFoodLog dailyFoodLog : dateToLogMap.values()) {
-            internalMap.put(dailyFoodLog.getLocalDate() , dailyFoodLog.copy());
+            putLog(dailyFoodLog.copy());
         }
     }
 
@@ -66,18 +96,87 @@ public class UniqueDateToLogMap {
     }
 
     /**
-     * Updates every food with same name in each DailyFoodLog in internalMap.
+     * Updates every food with same name in each DailyFoodLog in internalMap that contains it.
      *
      * @param food Food that is most up-to-date with Food Record.
+     * @return The DailyFoodLog that changed.
      */
-    public void updateMapWithFood(Food food) {
-        for (DailyFoodLog log: internalMap.values()) {
-            internalMap.put(log.getLocalDate(), log.updateFoodWithSameName(food));
+    public List<DailyFoodLog> updateMapWithFood(Food food) {
+        Set<LocalDate> dates = datesByFoodName.get(food.getName().getKey());
+        if (dates == null) {
+            return List.of();
+        }
+        List<DailyFoodLog> updatedLogs = new ArrayList<>();
+        for (LocalDate date : List.copyOf(dates)) {
+            DailyFoodLog foodLog = internalMap.get(date);
+            DailyFoodLog updatedLog = foodLog.updateFoodWithSameName(food);
+            if (updatedLog != foodLog) {
+                putLog(updatedLog, food);
+                updatedLogs.add(updatedLog);
+            }
         }
+        return updatedLogs;
+    }
+
+    /**
+     * Returns the dates of every DailyFoodLog in internalMap that contains a food with the same name as {@code food}.
+     */
+    public Set<LocalDate> getDatesWithFood(Food food) {
+        Set<LocalDate> dates = datesByFoodName.get(food.getName().getKey());
+        return dates == null ? Set.of() : Set.copyOf(dates);
     }
 
     public void addLog(DailyFoodLog foodLog) {
-        internalMap.put(foodLog.getLocalDate(), foodLog);
+        putLog(foodLog);
+    }
+
+    /**
+     * Records that the days summarised by {@code summaries} are archived, counting them towards the rollup.
+     * Summaries of days that have a log in internalMap are ignored, since the log is the more recent version.
+     */
+    public void addArchivedSummaries(Collection<DailySummary> summaries) {
+        for (DailySummary summary : summaries) {
+            LocalDate date = summary.getLocalDate();
+            if (internalMap.containsKey(date)) {
+                continue;
+            }
+            DailySummary oldSummary = archivedSummaries.put(date, summary);
+            if (oldSummary != null) {
+                rollup.remove(oldSummary);
+            }
+            rollup.add(summary);
+            rollingStatistics.update(summary);
+        }
+    }
+
+    /**
+     * Removes every log dated before {@code date} from internalMap, keeping only its summary as an archived day.
+     *
+     * @return The logs removed, in date order.
+     */
+    public List<DailyFoodLog> archiveLogsBefore(LocalDate date) {
+        NavigableMap<LocalDate, DailyFoodLog> oldLogs = internalMap.headMap(date, false);
+        List<DailyFoodLog> archivedLogs = new ArrayList<>(oldLogs.values());
+        for (DailyFoodLog foodLog : archivedLogs) {
+            for (DailyFoodLog.Entry entry : foodLog) {
+                removeFromFoodNameIndex(foodLog.getLocalDate(), entry.getFood());
+            }
+            archivedSummaries.put(foodLog.getLocalDate(), DailySummary.of(foodLog));
+        }
+        oldLogs.clear();
+        return archivedLogs;
+    }
+
+    /**
+     * Returns the archived days dated from {@code from} to {@code to}, both inclusive, whose logs are not in
+     * internalMap.
+     */
+    public Set<LocalDate> getArchivedDatesBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return Set.of();
+        }
+        return Set.copyOf(archivedSummaries.subMap(from, true, to, true).keySet());
     }
 
     /**
@@ -87,7 +186,126 @@ public class UniqueDateToLogMap {
      */
     public void updateLog(DailyFoodLog logAfterConsumption) {
         requireAllNonNull(logAfterConsumption);
-        internalMap.put(logAfterConsumption.getLocalDate(), logAfterConsumption);
+        putLog(logAfterConsumption);
+    }
+
+    /**
+     * Updates internal key-value pair by updating the value of the given date key, where the updated log differs
+     * from the current log of its date only in {@code changedFood}. Only that Food is reindexed.
+     *
+     * @param logAfterConsumption The updated day object after consuming or vomiting {@code changedFood}.
+     * @param changedFood The Food consumed or vomited.
+     */
+    public void updateLog(DailyFoodLog logAfterConsumption, Food changedFood) {
+        requireAllNonNull(logAfterConsumption, changedFood);
+        putLog(logAfterConsumption, changedFood);
+    }
+
+    /**
+     * Puts {@code foodLog} into internalMap, replacing any log of the same date, and updates the index of dates
+     * by food name to match by looking up every Food of either log in the other.
+     */
+    private void putLog(DailyFoodLog foodLog) {
+        LocalDate date = foodLog.getLocalDate();
+        DailyFoodLog oldLog = replaceLog(foodLog);
+        if (oldLog != null) {
+            for (DailyFoodLog.Entry entry : oldLog) {
+                if (!foodLog.hasFood(entry.getFood())) {
+                    removeFromFoodNameIndex(date, entry.getFood());
+                }
+            }
+        }
+        for (DailyFoodLog.Entry entry : foodLog) {
+            if (oldLog == null || !oldLog.hasFood(entry.getFood())) {
+                addToFoodNameIndex(date, entry.getFood());
+            }
+        }
+    }
+
+    /**
+     * Puts {@code foodLog} into internalMap, replacing the log of the same date that it differs from only in
+     * {@code changedFood}, and updates the index of dates by food name for that Food alone.
+     */
+    private void putLog(DailyFoodLog foodLog, Food changedFood) {
+        replaceLog(foodLog);
+        if (foodLog.hasFood(changedFood)) {
+            addToFoodNameIndex(foodLog.getLocalDate(), changedFood);
+        } else {
+            removeFromFoodNameIndex(foodLog.getLocalDate(), changedFood);
+        }
+    }
+
+    /**
+     * Puts {@code foodLog} into internalMap and updates the rollup and statistics, but not the index of dates by
+     * food name.
+     *
+     * @return The log of the same date that was replaced, or null if there was none.
+     */
+    private DailyFoodLog replaceLog(DailyFoodLog foodLog) {
+        LocalDate date = foodLog.getLocalDate();
+        DailyFoodLog oldLog = internalMap.put(date, foodLog);
+        DailySummary archivedSummary = archivedSummaries.remove(date);
+        if (archivedSummary != null) {
+            rollup.remove(archivedSummary);
+        }
+        rollup.replace(oldLog, foodLog);
+        rollingStatistics.update(DailySummary.of(foodLog));
+        return oldLog;
+    }
+
+    private void addToFoodNameIndex(LocalDate date, Food food) {
+        datesByFoodName.computeIfAbsent(food.getName().getKey(), unused -> new HashSet<>()).add(date);
+    }
+
+    private void removeFromFoodNameIndex(LocalDate date, Food food) {
+        Set<LocalDate> dates = datesByFoodName.get(food.getName().getKey());
+        if (dates == null) {
+            return;
+        }
+        dates.remove(date);
+        if (dates.isEmpty()) {
+            datesByFoodName.remove(food.getName().getKey());
+        }
+    }
+
+    /**
+     * Returns the rollup buckets of length {@code period} that overlap the dates from {@code from} to {@code to},
+     * both inclusive, in date order.
+     */
+    public List<RollupBucket> getRollups(RollupPeriod period, LocalDate from, LocalDate to) {
+        return rollup.getBuckets(period, from, to);
+    }
+
+    /**
+     * Sets the daily calorie goal that the rollup counts days within and streaks are measured against, where 0
+     * means there is no goal.
+     */
+    public void setRollupGoal(int goalCalories) {
+        List<DailySummary> summaries = new ArrayList<>(archivedSummaries.values());
+        for (DailyFoodLog foodLog : internalMap.values()) {
+            summaries.add(DailySummary.of(foodLog));
+        }
+        rollup.setGoal(goalCalories, summaries);
+        rollingStatistics.setGoal(goalCalories);
+    }
+
+    /**
+     * Returns the consumption trends over the days up to {@code today}. Logs dated after {@code today} are left out.
+     */
+    public ConsumptionTrends getTrends(LocalDate today) {
+        requireAllNonNull(today);
+        LocalDate endDate = rollingStatistics.getEndDate();
+        if (endDate != null && today.isBefore(endDate)) {
+            // the windows only move forward, so they are refilled from the days that can still be in them
+            LocalDate from = today.minusDays(RollingStatistics.CAPACITY);
+            rollingStatistics.reset(today);
+            archivedSummaries.tailMap(from, false).values().forEach(rollingStatistics::update);
+            internalMap.tailMap(from, false).values()
+                    .forEach(foodLog -> rollingStatistics.update(DailySummary.of(foodLog)));
+        } else {
+            rollingStatistics.advanceTo(today);
+        }
+        return rollingStatistics.getTrends();
     }
 
     /**
@@ -98,20 +316,24 @@ public class UniqueDateToLogMap {
      */
     public void setDailyListDate(LocalDate date) throws CommandException {
         internalList.clear();
+        dailyListDate = date;
         if (!internalMap.containsKey(date)) {
             throw new CommandException(
                     String.format("Your consumption record is empty because you have not consumed food "
                     + "on %s before", date));
         }
-        Set<Food> foods = internalMap.get(date).getFoods();
-        if (!foods.isEmpty()) {
-            for (Food food : foods) {
-                DailyFoodLog foodLog = internalMap.get(date);
-                double portion = foodLog.getPortion(food);
-                double rating = foodLog.getRating(food);
-                internalList.add(new DisplayFood(food, portion, rating, date));
-            }
+        List<DisplayFood> displayFoods = new ArrayList<>();
+        for (DailyFoodLog.Entry entry : internalMap.get(date)) {
+            displayFoods.add(new DisplayFood(entry.getFood(), entry.getPortion(), entry.getRating(), date));
         }
+        internalList.setAll(displayFoods);
+    }
+
+    /**
+     * Returns the DailyFoodLog of the date that internalList was last set to reflect, or null if there is none.
+     */
+    public DailyFoodLog getDailyListLog() {
+        return dailyListDate == null ? null : internalMap.get(dailyListDate);
     }
 
     /**
@@ -12,8 +12,10 @@ public class Calorie {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Calorie should only contain non-negative integers within 5 digits and it should not be blank.";
-    public static final String VALIDATION_REGEX = "[0-9]+(?=$|\\s)";
+    // at most 9 digits after any leading zeros, so that every valid value fits in an int
+    public static final String VALIDATION_REGEX = "0*[0-9]{1,9}";
     public final String value;
+    private final int numericValue;
 
     /**
      * Constructs a {@code Calorie}.
@@ -24,6 +26,7 @@ public class Calorie {
         requireNonNull(caloricValue);
         AppUtil.checkArgument(isValidCalorie(caloricValue), MESSAGE_CONSTRAINTS);
         value = caloricValue;
+        numericValue = Integer.parseInt(caloricValue);
     }
 
     /**
@@ -36,6 +39,15 @@ public class Calorie {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the numeric value of the Calorie, parsed once at construction.
+     *
+     * @return the numeric value of the Calorie.
+     */
+    public int getNumericValue() {
+        return numericValue;
+    }
+
     /**
      * Returns the String representation of the Calorie's value.
      *
@@ -56,7 +68,7 @@ public class Calorie {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof Calorie
-                && value.equals(((Calorie) other).value));
+                && numericValue == ((Calorie) other).numericValue);
     }
 
     /**
@@ -66,7 +78,7 @@ public class Calorie {
      */
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(numericValue);
     }
 
 }
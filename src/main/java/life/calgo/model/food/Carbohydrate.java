@@ -12,8 +12,10 @@ public class Carbohydrate {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Carbohydrate should only contain non-negative integers within 5 digits and it should not be blank.";
-    public static final String VALIDATION_REGEX = "[0-9]+(?=$|\\s)";
+    // at most 9 digits after any leading zeros, so that every valid value fits in an int
+    public static final String VALIDATION_REGEX = "0*[0-9]{1,9}";
     public final String value;
+    private final int numericValue;
 
     /**
      * Constructs a {@code Carbohydrate}.
@@ -24,6 +26,7 @@ public class Carbohydrate {
         requireNonNull(carbohydrateGrams);
         AppUtil.checkArgument(isValidCarbohydrate(carbohydrateGrams), MESSAGE_CONSTRAINTS);
         value = carbohydrateGrams;
+        numericValue = Integer.parseInt(carbohydrateGrams);
     }
 
     /**
@@ -36,6 +39,15 @@ public class Carbohydrate {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the numeric value of the Carbohydrate, parsed once at construction.
+     *
+     * @return the numeric value of the Carbohydrate.
+     */
+    public int getNumericValue() {
+        return numericValue;
+    }
+
     /**
      * Returns the String representation of the Carbohydrate's value.
      *
@@ -56,7 +68,7 @@ public class Carbohydrate {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Carbohydrate // instanceof handles nulls
-                && value.equals(((Carbohydrate) other).value)); // state check
+                && numericValue == ((Carbohydrate) other).numericValue); // state check
     }
 
     /**
@@ -66,7 +78,7 @@ public class Carbohydrate {
      */
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(numericValue);
     }
 
 }
@@ -13,8 +13,10 @@ public class Fat {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Fat should only contain non-negative integers within 5 digits and it should not be blank.";
-    public static final String VALIDATION_REGEX = "[0-9]+(?=$|\\s)";
+    // at most 9 digits after any leading zeros, so that every valid value fits in an int
+    public static final String VALIDATION_REGEX = "0*[0-9]{1,9}";
     public final String value;
+    private final int numericValue;
 
     /**
      * Constructs a {@code Fat}.
@@ -25,6 +27,7 @@ public class Fat {
         requireNonNull(fatGrams);
         AppUtil.checkArgument(isValidFat(fatGrams), MESSAGE_CONSTRAINTS);
         value = fatGrams;
+        numericValue = Integer.parseInt(fatGrams);
     }
 
     /**
@@ -37,6 +40,15 @@ public class Fat {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the numeric value of the Fat, parsed once at construction.
+     *
+     * @return the numeric value of the Fat.
+     */
+    public int getNumericValue() {
+        return numericValue;
+    }
+
     /**
      * Returns the String representation of the Fat's value.
      *
@@ -57,7 +69,7 @@ public class Fat {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof Fat
-                && value.equals(((Fat) other).value));
+                && numericValue == ((Fat) other).numericValue);
     }
 
     /**
@@ -67,7 +79,7 @@ public class Fat {
      */
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(numericValue);
     }
 
 }
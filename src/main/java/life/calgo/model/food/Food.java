@@ -1,12 +1,15 @@
 package life.calgo.model.food;
 
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 
 import life.calgo.commons.util.CollectionUtil;
 import life.calgo.model.tag.Tag;
+import life.calgo.model.tag.TagDictionary;
 
 /**
  * Represents a Food in the food record.
@@ -20,8 +23,11 @@ public class Food implements Comparable<Food> {
     private final Carbohydrate carbohydrate;
     private final Fat fat;
 
-    // Can be left empty by user
-    private final Set<Tag> tags = new HashSet<>();
+    // Can be left empty by user. Holds the Tags as interned by the TagDictionary, which keeps their IDs valid,
+    // in order of their IDs.
+    private final Set<Tag> tags;
+    // The IDs of the Tags in the TagDictionary, which must not be modified.
+    private final BitSet tagIds;
 
     /**
      * Every field except for Tags must be present and not null.
@@ -33,7 +39,28 @@ public class Food implements Comparable<Food> {
         this.protein = protein;
         this.carbohydrate = carbohydrate;
         this.fat = fat;
-        this.tags.addAll(tags);
+        TreeMap<Integer, Tag> tagsById = new TreeMap<>();
+        for (Tag tag : tags) {
+            Tag internedTag = TagDictionary.intern(tag);
+            tagsById.put(TagDictionary.getId(internedTag), internedTag);
+        }
+        this.tags = Collections.unmodifiableSet(new LinkedHashSet<>(tagsById.values()));
+        this.tagIds = new BitSet();
+        tagsById.keySet().forEach(tagIds::set);
+    }
+
+    /**
+     * Creates a Food sharing the Tags of an existing Food.
+     */
+    private Food(Name name, Calorie calorie, Protein protein, Carbohydrate carbohydrate, Fat fat, Set<Tag> tags,
+                 BitSet tagIds) {
+        this.name = name;
+        this.calorie = calorie;
+        this.protein = protein;
+        this.carbohydrate = carbohydrate;
+        this.fat = fat;
+        this.tags = tags;
+        this.tagIds = tagIds;
     }
 
     public Name getName() {
@@ -57,7 +84,7 @@ public class Food implements Comparable<Food> {
     }
 
     public Food copy() {
-        return new Food(name, calorie, protein, carbohydrate, fat, tags);
+        return new Food(name, calorie, protein, carbohydrate, fat, tags, tagIds);
     }
 
     /**
@@ -65,7 +92,17 @@ public class Food implements Comparable<Food> {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns true if the Food has any of the Tags with the given IDs in the {@code TagDictionary}.
+     *
+     * @param otherTagIds the IDs of the Tags to look for.
+     * @return whether the Food has at least one of the Tags.
+     */
+    public boolean hasAnyTag(BitSet otherTagIds) {
+        return tagIds.intersects(otherTagIds);
     }
 
     /**
@@ -114,7 +151,7 @@ public class Food implements Comparable<Food> {
                 && otherFood.getProtein().equals(getProtein())
                 && otherFood.getCarbohydrate().equals(getCarbohydrate())
                 && otherFood.getFat().equals(getFat())
-                && otherFood.getTags().equals(getTags());
+                && otherFood.tagIds.equals(tagIds);
 
     }
 
@@ -126,7 +163,7 @@ public class Food implements Comparable<Food> {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, calorie, protein, carbohydrate, fat, tags);
+        return Objects.hash(name, calorie, protein, carbohydrate, fat, tagIds);
     }
 
     /**
@@ -137,7 +174,7 @@ public class Food implements Comparable<Food> {
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
-        int numTags = getTags().size();
+        int numTags = tagIds.cardinality();
 
         builder.append(getName())
                 .append(" Calories: ")
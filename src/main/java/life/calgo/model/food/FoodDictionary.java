@@ -0,0 +1,37 @@
+package life.calgo.model.food;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * Interns Food, so that equal Food share a single instance across the whole application.
+ * Consumption logs hold the interned instance of every Food consumed rather than their own copies, so a Food eaten
+ * on many days is stored once, and a past version of a Food is only kept apart from the current one if its details
+ * differ.
+ *
+ * The dictionary holds its Food only weakly, so a Food that no log refers to any more is dropped from it by the
+ * garbage collector. Food may be interned from several threads at once, so interning is synchronized, but logs read
+ * the Food they hold directly, without going through the dictionary.
+ */
+public class FoodDictionary {
+
+    private static final WeakHashMap<Food, WeakReference<Food>> internedFoods = new WeakHashMap<>();
+
+    private FoodDictionary() {}
+
+    /**
+     * Returns the interned Food equal to {@code food}, which is {@code food} itself if no equal Food is interned.
+     */
+    public static synchronized Food intern(Food food) {
+        requireNonNull(food);
+        WeakReference<Food> reference = internedFoods.get(food);
+        Food interned = reference == null ? null : reference.get();
+        if (interned == null) {
+            internedFoods.put(food, new WeakReference<>(food));
+            interned = food;
+        }
+        return interned;
+    }
+}
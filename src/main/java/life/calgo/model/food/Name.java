@@ -21,6 +21,12 @@ public class Name {
 
     public final String fullName;
 
+    /*
+     * Canonical case-folded form of fullName, which identifies the Name for equality and hashing.
+     * It is interned so that equal keys are usually the same String instance and compare by reference.
+     */
+    private final String key;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -30,6 +36,7 @@ public class Name {
         requireNonNull(name);
         AppUtil.checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        key = name.toLowerCase().intern();
     }
 
     /**
@@ -42,6 +49,15 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Obtains the case-folded key of the Name, which is equal for Names that differ only in casing.
+     *
+     * @return the case-folded key of the Name.
+     */
+    public String getKey() {
+        return key;
+    }
+
     /**
      * Obtains the String representation of the Name.
      *
@@ -62,17 +78,17 @@ public class Name {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof Name
-                && fullName.toLowerCase().equals(((Name) other).fullName.toLowerCase()));
+                && key.equals(((Name) other).key));
     }
 
     /**
-     * Provides hashcode for the current Name object.
+     * Provides hashcode for the current Name object, consistent with {@link #equals(Object)}.
      *
      * @return hashcode for the current Name object.
      */
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return key.hashCode();
     }
 
 }
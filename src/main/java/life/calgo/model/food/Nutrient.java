@@ -0,0 +1,29 @@
+package life.calgo.model.food;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents one of the nutritional values that every Food in the food record has.
+ */
+public enum Nutrient {
+    CALORIE(food -> food.getCalorie().getNumericValue()),
+    PROTEIN(food -> food.getProtein().getNumericValue()),
+    CARBOHYDRATE(food -> food.getCarbohydrate().getNumericValue()),
+    FAT(food -> food.getFat().getNumericValue());
+
+    private final ToIntFunction<Food> extractor;
+
+    Nutrient(ToIntFunction<Food> extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * Returns the amount of this nutrient in the given Food.
+     *
+     * @param food the Food to read the nutrient from.
+     * @return the amount of this nutrient in the Food.
+     */
+    public int valueOf(Food food) {
+        return extractor.applyAsInt(food);
+    }
+}
@@ -13,9 +13,11 @@ public class Protein {
     public static final String MESSAGE_CONSTRAINTS =
             "Protein should only contain non-negative integers within 5 digits and it should not be blank.";
 
-    public static final String VALIDATION_REGEX = "[0-9]+(?=$|\\s)";
+    // at most 9 digits after any leading zeros, so that every valid value fits in an int
+    public static final String VALIDATION_REGEX = "0*[0-9]{1,9}";
 
     public final String value;
+    private final int numericValue;
 
     /**
      * Constructs an {@code Protein}.
@@ -26,6 +28,7 @@ public class Protein {
         requireNonNull(proteinGrams);
         AppUtil.checkArgument(isValidProtein(proteinGrams), MESSAGE_CONSTRAINTS);
         value = proteinGrams;
+        numericValue = Integer.parseInt(proteinGrams);
     }
 
     /**
@@ -38,6 +41,15 @@ public class Protein {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the numeric value of the Protein, parsed once at construction.
+     *
+     * @return the numeric value of the Protein.
+     */
+    public int getNumericValue() {
+        return numericValue;
+    }
+
     /**
      * Returns the String representation of the Protein's value.
      *
@@ -58,7 +70,7 @@ public class Protein {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Protein // instanceof handles nulls
-                && value.equals(((Protein) other).value)); // state check
+                && numericValue == ((Protein) other).numericValue); // state check
     }
 
     /**
@@ -68,7 +80,7 @@ public class Protein {
      */
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(numericValue);
     }
 
 }
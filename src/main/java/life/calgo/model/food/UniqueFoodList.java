@@ -2,7 +2,9 @@ package life.calgo.model.food;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +23,9 @@ import life.calgo.model.food.exceptions.FoodNotFoundException;
  * unique in terms of identity in the UniqueFoodList. However, the removal of a food uses Food#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The list is kept in lexicographic order at all times, and a case-folded name to food index is maintained
+ * alongside it so that identity lookups do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Food#isSameFood(Food)
@@ -30,13 +35,14 @@ public class UniqueFoodList implements Iterable<Food> {
     private final ObservableList<Food> internalList = FXCollections.observableArrayList();
     private final ObservableList<Food> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final HashMap<String, Food> nameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent food as the given argument.
      */
     public boolean contains(Food toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFood);
+        return nameIndex.containsKey(toKey(toCheck.getName()));
     }
 
     /**
@@ -48,11 +54,10 @@ public class UniqueFoodList implements Iterable<Food> {
         if (contains(toAdd)) {
             throw new DuplicateFoodException();
         }
-        internalList.add(toAdd);
-        sortInternalList();
+        internalList.add(findInsertionIndex(toAdd), toAdd);
+        nameIndex.put(toKey(toAdd.getName()), toAdd);
     }
 
-
     /**
      * Replaces the food {@code target} in the list with {@code editedFood}.
      * {@code target} must exist in the list.
@@ -61,7 +66,7 @@ public class UniqueFoodList implements Iterable<Food> {
     public void setFood(Food target, Food editedFood) {
         CollectionUtil.requireAllNonNull(target, editedFood);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new FoodNotFoundException();
         }
@@ -70,7 +75,14 @@ public class UniqueFoodList implements Iterable<Food> {
             throw new DuplicateFoodException();
         }
 
-        internalList.set(index, editedFood);
+        nameIndex.remove(toKey(target.getName()));
+        nameIndex.put(toKey(editedFood.getName()), editedFood);
+        if (target.compareTo(editedFood) == 0) {
+            internalList.set(index, editedFood);
+        } else {
+            internalList.remove(index);
+            internalList.add(findInsertionIndex(editedFood), editedFood);
+        }
     }
 
     /**
@@ -79,9 +91,12 @@ public class UniqueFoodList implements Iterable<Food> {
      */
     public void remove(Food toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new FoodNotFoundException();
         }
+        internalList.remove(index);
+        nameIndex.remove(toKey(toRemove.getName()));
     }
 
     /**
@@ -92,7 +107,8 @@ public class UniqueFoodList implements Iterable<Food> {
     public void setFoods(UniqueFoodList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
-        sortInternalList();
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
     }
 
     /**
@@ -101,21 +117,27 @@ public class UniqueFoodList implements Iterable<Food> {
      */
     public void setFoods(List<Food> foods) {
         CollectionUtil.requireAllNonNull(foods);
-        if (!foodsAreUnique(foods)) {
+        HashMap<String, Food> replacementIndex = indexFoods(foods);
+        if (replacementIndex == null) {
             throw new DuplicateFoodException();
         }
 
-        internalList.setAll(foods);
-        sortInternalList();
+        Food[] sortedFoods = foods.toArray(new Food[0]);
+        Arrays.sort(sortedFoods);
+        internalList.setAll(sortedFoods);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
     }
 
+    /**
+     * Returns the Food in the list with the given Name, if any.
+     *
+     * @param name the Name of the Food to look for.
+     * @return the Food with the given Name wrapped in an Optional, or an empty Optional if there is none.
+     */
     public Optional<Food> getFoodByName(Name name) {
-        for (Food food:internalList) {
-            if (food.hasName(name)) {
-                return Optional.of(food);
-            }
-        }
-        return Optional.empty();
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(toKey(name)));
     }
 
     /**
@@ -123,7 +145,11 @@ public class UniqueFoodList implements Iterable<Food> {
      * The food must currently exist in the list.
      */
     public Food getExistingFood(Food toGet) {
-        return internalList.stream().filter(toGet::isSameFood).findFirst().get();
+        Food existingFood = nameIndex.get(toKey(toGet.getName()));
+        if (existingFood == null) {
+            throw new FoodNotFoundException();
+        }
+        return existingFood;
     }
 
     /**
@@ -135,7 +161,7 @@ public class UniqueFoodList implements Iterable<Food> {
 
     @Override
     public Iterator<Food> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -151,24 +177,49 @@ public class UniqueFoodList implements Iterable<Food> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Builds the name index for {@code foods}.
+     *
+     * @param foods the foods to index.
+     * @return the case-folded name to food index, or null if {@code foods} contains duplicate foods.
      */
-    private boolean foodsAreUnique(List<Food> foods) {
-        for (int i = 0; i < foods.size() - 1; i++) {
-            for (int j = i + 1; j < foods.size(); j++) {
-                if (foods.get(i).isSameFood(foods.get(j))) {
-                    return false;
-                }
+    private static HashMap<String, Food> indexFoods(List<Food> foods) {
+        HashMap<String, Food> index = new HashMap<>();
+        for (Food food : foods) {
+            if (index.putIfAbsent(toKey(food.getName()), food) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns the position of a food equal to {@code toFind} in the list, or -1 if there is none.
+     * The food in the list is found through the name index, since its name may differ from that of {@code toFind}
+     * in casing, and then located by its own name, relying on the list being sorted in the order specified for the
+     * Food objects.
+     */
+    private int indexOf(Food toFind) {
+        Food existingFood = nameIndex.get(toKey(toFind.getName()));
+        if (existingFood == null || !existingFood.equals(toFind)) {
+            return -1;
+        }
+        return Collections.binarySearch(internalList, existingFood);
+    }
+
+    /**
+     * Returns the position at which {@code toInsert} should be added to keep the list sorted according to
+     * the order specified for the Food objects. As of v1.4, it is the lexicographical order.
+     */
+    private int findInsertionIndex(Food toInsert) {
+        int index = Collections.binarySearch(internalList, toInsert);
+        return index < 0 ? -(index + 1) : index;
     }
 
     /**
-     * Sorts the UniqueFoodList according to the order specified for the Food objects.
-     * As of v1.4, it is the lexicographical order.
+     * Returns the key used to identify a Food in the name index, which ignores casing just like
+     * {@code Name#equals(Object)}.
      */
-    private void sortInternalList() {
-        Collections.sort(internalList);
+    private static String toKey(Name name) {
+        return name.getKey();
     }
 }
@@ -1,19 +1,20 @@
 package life.calgo.model.food.predicates;
 
-import java.util.function.Predicate;
+import java.util.List;
 
-import life.calgo.commons.util.StringUtil;
+import life.calgo.model.FoodRecord;
 import life.calgo.model.food.Calorie;
 import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
 
 /**
  * Tests that a {@code Food}'s {@code Calorie} matches the {@code Calorie} keyword given.
  */
-public class CalorieContainsKeywordsPredicate implements Predicate<Food> {
-    private final String keyword;
+public class CalorieContainsKeywordsPredicate implements IndexedFoodPredicate {
+    private final int keyword;
 
     public CalorieContainsKeywordsPredicate(Calorie calorie) {
-        this.keyword = calorie.value;
+        this.keyword = calorie.getNumericValue();
     }
 
     /**
@@ -24,7 +25,12 @@ public class CalorieContainsKeywordsPredicate implements Predicate<Food> {
      */
     @Override
     public boolean test(Food food) {
-        return StringUtil.containsNutritionalValueEqualTo(food.getCalorie().value, keyword);
+        return food.getCalorie().getNumericValue() == keyword;
+    }
+
+    @Override
+    public List<Food> findMatches(FoodRecord foodRecord) {
+        return foodRecord.getFoodsInRange(Nutrient.CALORIE, keyword, keyword);
     }
 
     /**
@@ -37,7 +43,7 @@ public class CalorieContainsKeywordsPredicate implements Predicate<Food> {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof CalorieContainsKeywordsPredicate
-                && keyword.equals(((CalorieContainsKeywordsPredicate) other).keyword));
+                && keyword == ((CalorieContainsKeywordsPredicate) other).keyword);
     }
 
 }
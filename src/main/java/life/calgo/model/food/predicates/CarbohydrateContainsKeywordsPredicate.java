@@ -1,19 +1,20 @@
 package life.calgo.model.food.predicates;
 
-import java.util.function.Predicate;
+import java.util.List;
 
-import life.calgo.commons.util.StringUtil;
+import life.calgo.model.FoodRecord;
 import life.calgo.model.food.Carbohydrate;
 import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
 
 /**
  * Tests that a {@code Food}'s {@code Carbohydrate} matches the {@code Carbohydrate} keyword given.
  */
-public class CarbohydrateContainsKeywordsPredicate implements Predicate<Food> {
-    private final String keyword;
+public class CarbohydrateContainsKeywordsPredicate implements IndexedFoodPredicate {
+    private final int keyword;
 
     public CarbohydrateContainsKeywordsPredicate(Carbohydrate carbohydrate) {
-        this.keyword = carbohydrate.value;
+        this.keyword = carbohydrate.getNumericValue();
     }
 
     /**
@@ -24,7 +25,12 @@ public class CarbohydrateContainsKeywordsPredicate implements Predicate<Food> {
      */
     @Override
     public boolean test(Food food) {
-        return StringUtil.containsNutritionalValueEqualTo(food.getCarbohydrate().value, keyword);
+        return food.getCarbohydrate().getNumericValue() == keyword;
+    }
+
+    @Override
+    public List<Food> findMatches(FoodRecord foodRecord) {
+        return foodRecord.getFoodsInRange(Nutrient.CARBOHYDRATE, keyword, keyword);
     }
 
     /**
@@ -37,7 +43,7 @@ public class CarbohydrateContainsKeywordsPredicate implements Predicate<Food> {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof CarbohydrateContainsKeywordsPredicate
-                && keyword.equals(((CarbohydrateContainsKeywordsPredicate) other).keyword));
+                && keyword == ((CarbohydrateContainsKeywordsPredicate) other).keyword);
     }
 
 }
@@ -1,19 +1,20 @@
 package life.calgo.model.food.predicates;
 
-import java.util.function.Predicate;
+import java.util.List;
 
-import life.calgo.commons.util.StringUtil;
+import life.calgo.model.FoodRecord;
 import life.calgo.model.food.Fat;
 import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
 
 /**
  * Tests that a {@code Food}'s {@code Fat} matches the {@code Fat} keyword given.
  */
-public class FatContainsKeywordsPredicate implements Predicate<Food> {
-    private final String keyword;
+public class FatContainsKeywordsPredicate implements IndexedFoodPredicate {
+    private final int keyword;
 
     public FatContainsKeywordsPredicate(Fat fat) {
-        this.keyword = fat.value;
+        this.keyword = fat.getNumericValue();
     }
 
     /**
@@ -24,7 +25,12 @@ public class FatContainsKeywordsPredicate implements Predicate<Food> {
      */
     @Override
     public boolean test(Food food) {
-        return StringUtil.containsNutritionalValueEqualTo(food.getFat().value, keyword);
+        return food.getFat().getNumericValue() == keyword;
+    }
+
+    @Override
+    public List<Food> findMatches(FoodRecord foodRecord) {
+        return foodRecord.getFoodsInRange(Nutrient.FAT, keyword, keyword);
     }
 
 
@@ -38,7 +44,7 @@ public class FatContainsKeywordsPredicate implements Predicate<Food> {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof FatContainsKeywordsPredicate
-                && keyword.equals(((FatContainsKeywordsPredicate) other).keyword));
+                && keyword == ((FatContainsKeywordsPredicate) other).keyword);
     }
 
 }
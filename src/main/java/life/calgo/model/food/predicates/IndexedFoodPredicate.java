@@ -0,0 +1,22 @@
+package life.calgo.model.food.predicates;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import life.calgo.model.FoodRecord;
+import life.calgo.model.food.Food;
+
+/**
+ * A Predicate on Food whose matches can also be looked up in the indexes of a {@code FoodRecord}, without testing
+ * every Food in it. The lookup must return exactly the Food that the predicate accepts.
+ */
+public interface IndexedFoodPredicate extends Predicate<Food> {
+
+    /**
+     * Returns the Food in {@code foodRecord} satisfying this predicate, found through its indexes.
+     *
+     * @param foodRecord the FoodRecord to search.
+     * @return the Food satisfying this predicate.
+     */
+    List<Food> findMatches(FoodRecord foodRecord);
+}
@@ -3,16 +3,16 @@ package life.calgo.model.food.predicates;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 
 import life.calgo.commons.util.StringUtil;
+import life.calgo.model.FoodRecord;
 import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
 
 /**
  * Tests that a {@code Food}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Food> {
+public class NameContainsKeywordsPredicate implements IndexedFoodPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(Name name) {
@@ -21,6 +21,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Food> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     /**
      * Checks if the Food specified contains the keyword(s) in any part of its Name.
      *
@@ -33,6 +37,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Food> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(food.getName().fullName, keyword));
     }
 
+    @Override
+    public List<Food> findMatches(FoodRecord foodRecord) {
+        return foodRecord.getFoodsWithNameContaining(keywords);
+    }
+
     /**
      * Checks for equality between the current and the other predicate, using their keywords, or identity.
      *
@@ -0,0 +1,74 @@
+package life.calgo.model.food.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import life.calgo.model.FoodRecord;
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
+
+/**
+ * Tests that the amount of a {@code Nutrient} in a {@code Food} lies within an inclusive range.
+ */
+public class NutrientInRangePredicate implements IndexedFoodPredicate {
+    private final Nutrient nutrient;
+    private final int lowerBound;
+    private final int upperBound;
+
+    /**
+     * Constructs a predicate accepting Food with between {@code lowerBound} and {@code upperBound} of the
+     * {@code nutrient}, both inclusive.
+     */
+    public NutrientInRangePredicate(Nutrient nutrient, int lowerBound, int upperBound) {
+        requireNonNull(nutrient);
+        this.nutrient = nutrient;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public Nutrient getNutrient() {
+        return nutrient;
+    }
+
+    public int getLowerBound() {
+        return lowerBound;
+    }
+
+    public int getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Checks if the amount of the nutrient in the Food specified lies within the range.
+     *
+     * @param food the Food to check against.
+     * @return whether the amount of the nutrient in the Food lies within the range.
+     */
+    @Override
+    public boolean test(Food food) {
+        int value = nutrient.valueOf(food);
+        return value >= lowerBound && value <= upperBound;
+    }
+
+    @Override
+    public List<Food> findMatches(FoodRecord foodRecord) {
+        return foodRecord.getFoodsInRange(nutrient, lowerBound, upperBound);
+    }
+
+    /**
+     * Checks for equality between the current and the other predicate, using their nutrient and bounds, or identity.
+     *
+     * @param other the other predicate to check against.
+     * @return whether the current and the other predicate can be considered equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof NutrientInRangePredicate
+                && nutrient == ((NutrientInRangePredicate) other).nutrient
+                && lowerBound == ((NutrientInRangePredicate) other).lowerBound
+                && upperBound == ((NutrientInRangePredicate) other).upperBound);
+    }
+
+}
@@ -1,19 +1,20 @@
 package life.calgo.model.food.predicates;
 
-import java.util.function.Predicate;
+import java.util.List;
 
-import life.calgo.commons.util.StringUtil;
+import life.calgo.model.FoodRecord;
 import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
 import life.calgo.model.food.Protein;
 
 /**
  * Tests that a {@code Food}'s {@code Protein} matches the {@code Protein} keyword given.
  */
-public class ProteinContainsKeywordsPredicate implements Predicate<Food> {
-    private final String keyword;
+public class ProteinContainsKeywordsPredicate implements IndexedFoodPredicate {
+    private final int keyword;
 
     public ProteinContainsKeywordsPredicate(Protein protein) {
-        this.keyword = protein.value;
+        this.keyword = protein.getNumericValue();
     }
 
     /**
@@ -24,7 +25,12 @@ public class ProteinContainsKeywordsPredicate implements Predicate<Food> {
      */
     @Override
     public boolean test(Food food) {
-        return StringUtil.containsNutritionalValueEqualTo(food.getProtein().value, keyword);
+        return food.getProtein().getNumericValue() == keyword;
+    }
+
+    @Override
+    public List<Food> findMatches(FoodRecord foodRecord) {
+        return foodRecord.getFoodsInRange(Nutrient.PROTEIN, keyword, keyword);
     }
 
     /**
@@ -37,7 +43,7 @@ public class ProteinContainsKeywordsPredicate implements Predicate<Food> {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof ProteinContainsKeywordsPredicate
-                && keyword.equals(((ProteinContainsKeywordsPredicate) other).keyword));
+                && keyword == ((ProteinContainsKeywordsPredicate) other).keyword);
     }
 
 }
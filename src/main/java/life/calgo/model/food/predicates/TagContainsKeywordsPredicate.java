@@ -1,19 +1,24 @@
 package life.calgo.model.food.predicates;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
 
-import life.calgo.commons.util.StringUtil;
+import life.calgo.model.FoodRecord;
 import life.calgo.model.food.Food;
 import life.calgo.model.tag.Tag;
+import life.calgo.model.tag.TagDictionary;
 
 /**
  * Tests that any of a {@code Food}'s {@code Tag} matches any of the {@code Tag} keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Food> {
+public class TagContainsKeywordsPredicate implements IndexedFoodPredicate {
     private final List<String> keywords;
 
+    // IDs of the Tags matching any keyword, recomputed whenever the TagDictionary has assigned an ID to a new Tag
+    private BitSet matchingTagIds;
+    private int dictionaryModificationCountWhenMatched = -1;
+
     public TagContainsKeywordsPredicate(List<Tag> tagList) {
         this.keywords = new ArrayList<>();
         for (Tag t : tagList) {
@@ -21,6 +26,10 @@ public class TagContainsKeywordsPredicate implements Predicate<Food> {
         }
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     /**
      * Returns true if the keyword(s) mentioned appear as part of any Tag of the Food.
      *
@@ -29,11 +38,25 @@ public class TagContainsKeywordsPredicate implements Predicate<Food> {
      */
     @Override
     public boolean test(Food food) {
-        return keywords.stream().anyMatch(keyword ->
-            food.getTags().stream().anyMatch(singleTag ->
-                StringUtil.containsWordIgnoreCase(singleTag.tagName, keyword)
-            )
-        );
+        return food.hasAnyTag(getMatchingTagIds());
+    }
+
+    @Override
+    public List<Food> findMatches(FoodRecord foodRecord) {
+        return foodRecord.getFoodsWithTagContaining(keywords);
+    }
+
+    private BitSet getMatchingTagIds() {
+        int dictionaryModificationCount = TagDictionary.getModificationCount();
+        if (dictionaryModificationCount != dictionaryModificationCountWhenMatched) {
+            BitSet tagIds = new BitSet();
+            for (String keyword : keywords) {
+                tagIds.or(TagDictionary.getIdsContaining(keyword));
+            }
+            matchingTagIds = tagIds;
+            dictionaryModificationCountWhenMatched = dictionaryModificationCount;
+        }
+        return matchingTagIds;
     }
 
     /**
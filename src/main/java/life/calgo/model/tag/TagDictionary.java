@@ -0,0 +1,128 @@
+package life.calgo.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Assigns every distinct Tag name in use a small integer ID, shared by the whole application.
+ * Food hold the IDs of their Tags in a {@code BitSet} alongside the interned Tags themselves, so each Tag is stored
+ * once however many Food carry it, and Tag queries become bitwise operations.
+ *
+ * The dictionary holds its Tags only weakly. Once no Food holds a Tag any more, the garbage collector drops it from
+ * the dictionary and its ID is reused for the next new Tag, so the dictionary only grows with the Tags in use.
+ * An ID is only reused after every Food that held it is gone, so the IDs held by a Food stay valid for its lifetime.
+ * Food may be created from several threads at once, so all methods are synchronized.
+ */
+public class TagDictionary {
+
+    /**
+     * A weak reference to an interned Tag, which remembers the ID and name of the Tag after it has been collected.
+     */
+    private static class TagReference extends WeakReference<Tag> {
+        private final int id;
+        private final String name;
+        private final String caseFoldedName;
+
+        private TagReference(Tag tag, int id) {
+            super(tag, collectedTags);
+            this.id = id;
+            this.name = tag.tagName;
+            this.caseFoldedName = tag.tagName.toLowerCase();
+        }
+    }
+
+    private static final ReferenceQueue<Tag> collectedTags = new ReferenceQueue<>();
+    private static final HashMap<String, TagReference> referencesByName = new HashMap<>();
+    // indexed by ID, null for IDs that are free to be reused
+    private static final List<TagReference> referencesById = new ArrayList<>();
+    private static final BitSet freeIds = new BitSet();
+    private static int modificationCount = 0;
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the interned Tag with the same name as {@code tag}, interning {@code tag} itself if there is none.
+     * The ID of the interned Tag stays valid for as long as the caller holds it.
+     */
+    public static synchronized Tag intern(Tag tag) {
+        requireNonNull(tag);
+        expungeCollectedTags();
+        TagReference reference = referencesByName.get(tag.tagName);
+        Tag interned = reference == null ? null : reference.get();
+        if (interned != null) {
+            return interned;
+        }
+        if (reference != null) {
+            // collected, but not yet enqueued
+            release(reference);
+        }
+
+        int id = freeIds.isEmpty() ? referencesById.size() : freeIds.nextSetBit(0);
+        reference = new TagReference(tag, id);
+        if (id == referencesById.size()) {
+            referencesById.add(reference);
+        } else {
+            referencesById.set(id, reference);
+            freeIds.clear(id);
+        }
+        referencesByName.put(tag.tagName, reference);
+        modificationCount++;
+        return tag;
+    }
+
+    /**
+     * Returns the ID of {@code tag}, interning it if no Tag with the same name is in use.
+     * The ID only stays valid while the interned Tag is held, see {@link #intern(Tag)}.
+     */
+    public static synchronized int getId(Tag tag) {
+        return referencesByName.get(intern(tag).tagName).id;
+    }
+
+    /**
+     * Returns the IDs of all Tags in use whose names contain {@code keyword}, ignoring case.
+     */
+    public static synchronized BitSet getIdsContaining(String keyword) {
+        expungeCollectedTags();
+        String caseFoldedKeyword = keyword.trim().toLowerCase();
+        BitSet ids = new BitSet();
+        for (TagReference reference : referencesById) {
+            if (reference != null && reference.caseFoldedName.contains(caseFoldedKeyword)) {
+                ids.set(reference.id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of times an ID has been assigned to a Tag, which changes whenever a new Tag comes into use.
+     */
+    public static synchronized int getModificationCount() {
+        return modificationCount;
+    }
+
+    private static void expungeCollectedTags() {
+        for (Reference<? extends Tag> reference = collectedTags.poll(); reference != null;
+                reference = collectedTags.poll()) {
+            release((TagReference) reference);
+        }
+    }
+
+    /**
+     * Frees the ID of a collected Tag, unless it has been released already.
+     */
+    private static void release(TagReference reference) {
+        if (referencesById.get(reference.id) != reference) {
+            return;
+        }
+        referencesById.set(reference.id, null);
+        freeIds.set(reference.id);
+        referencesByName.remove(reference.name, reference);
+    }
+}
@@ -0,0 +1,112 @@
+package life.calgo.storage;
+
+import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import life.calgo.commons.core.LogsCenter;
+
+/**
+ * Writes data files on a single background thread, so that callers do not wait for the disk.
+ * Each write is submitted under the name of the data file it writes. A write that has not started yet is replaced
+ * by a later write of the same data file, so back-to-back saves of a data file write it only once.
+ *
+ * A write that fails is reported by throwing its IOException from the next call to {@link #submit} or
+ * {@link #flush()}.
+ */
+class BackgroundWriter {
+
+    /**
+     * A write of a data file.
+     */
+    @FunctionalInterface
+    interface Write {
+        void run() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundWriter.class);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        // the writer never keeps the application running; flush() waits for outstanding writes instead
+        thread.setDaemon(true);
+        return thread;
+    });
+    // guarded by this; writes waiting to start by the name of their data file, in the order first submitted
+    private final Map<String, Write> pendingWrites = new LinkedHashMap<>();
+    // guarded by this
+    private boolean isDrainScheduled;
+    // guarded by this
+    private IOException failure;
+
+    /**
+     * Schedules {@code write} of the data file named {@code fileName}, replacing any write of it not started yet.
+     *
+     * @throws IOException If an earlier write failed.
+     */
+    synchronized void submit(String fileName, Write write) throws IOException {
+        requireAllNonNull(fileName, write);
+        throwFailure();
+        pendingWrites.put(fileName, write);
+        if (!isDrainScheduled) {
+            isDrainScheduled = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Waits until every write submitted so far has finished.
+     *
+     * @throws IOException If any write failed.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data files to be written", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        synchronized (this) {
+            throwFailure();
+        }
+    }
+
+    private void drain() {
+        List<Write> writes;
+        synchronized (this) {
+            writes = new ArrayList<>(pendingWrites.values());
+            pendingWrites.clear();
+            isDrainScheduled = false;
+        }
+        for (Write write : writes) {
+            try {
+                write.run();
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Problem while writing data file in the background: " + e);
+                synchronized (this) {
+                    if (failure == null) {
+                        failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void throwFailure() throws IOException {
+        if (failure != null) {
+            IOException reportedFailure = failure;
+            failure = null;
+            throw reportedFailure;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package life.calgo.storage;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import life.calgo.model.ReadOnlyConsumptionRecord;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.food.DisplayFood;
+
+/**
+ * A copy of the logs in a consumption record at one moment, which can be written to disk while the consumption
+ * record changes. DailyFoodLog are immutable, so only references are copied. Where the version of the consumption
+ * record last written is known, only the logs changed since then are copied, and the copy has no list of logs.
+ * The daily list is not part of the saved data, so the copy has none.
+ */
+class ConsumptionRecordSnapshot implements ReadOnlyConsumptionRecord {
+
+    private final ReadOnlyConsumptionRecord source;
+    private final long version;
+    // null if only the changes were copied
+    private final List<DailyFoodLog> logs;
+    // the version the changes are since, and null changes if they were not copied
+    private final long baseVersion;
+    private final Map<LocalDate, DailyFoodLog> changes;
+
+    private ConsumptionRecordSnapshot(ReadOnlyConsumptionRecord source, long version, List<DailyFoodLog> logs,
+                                      long baseVersion, Map<LocalDate, DailyFoodLog> changes) {
+        this.source = source;
+        this.version = version;
+        this.logs = logs;
+        this.baseVersion = baseVersion;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a copy of {@code source} that holds only the changes since {@code baseVersion} of it, if they are
+     * known, or every log otherwise.
+     */
+    static ConsumptionRecordSnapshot of(ReadOnlyConsumptionRecord source, OptionalLong baseVersion) {
+        Optional<Map<LocalDate, DailyFoodLog>> changes = baseVersion.isPresent()
+                ? source.getChangesSince(baseVersion.getAsLong())
+                : Optional.empty();
+        if (changes.isPresent()) {
+            return new ConsumptionRecordSnapshot(source, source.getVersion(), null, baseVersion.getAsLong(),
+                    changes.get());
+        }
+        return new ConsumptionRecordSnapshot(source, source.getVersion(), List.copyOf(source.getDailyFoodLogs()),
+                0, null);
+    }
+
+    /**
+     * Returns a consumption record of {@code logs} alone, which has no changes.
+     */
+    static ConsumptionRecordSnapshot of(Collection<DailyFoodLog> logs) {
+        return new ConsumptionRecordSnapshot(null, 0, List.copyOf(logs), 0, null);
+    }
+
+    /**
+     * Returns the consumption record that {@code consumptionRecord} is a copy of, or {@code consumptionRecord}
+     * itself if it is not a copy.
+     */
+    static ReadOnlyConsumptionRecord sourceOf(ReadOnlyConsumptionRecord consumptionRecord) {
+        return consumptionRecord instanceof ConsumptionRecordSnapshot
+                ? ((ConsumptionRecordSnapshot) consumptionRecord).source
+                : consumptionRecord;
+    }
+
+    @Override
+    public ObservableList<DisplayFood> getDailyList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList());
+    }
+
+    @Override
+    public HashMap<LocalDate, DailyFoodLog> getDateToLogMap() {
+        HashMap<LocalDate, DailyFoodLog> dateToLogMap = new HashMap<>();
+        for (DailyFoodLog foodLog : getDailyFoodLogs()) {
+            dateToLogMap.put(foodLog.getLocalDate(), foodLog);
+        }
+        return dateToLogMap;
+    }
+
+    /**
+     * Returns every log in the copy.
+     *
+     * @throws IllegalStateException If only the changes were copied.
+     */
+    @Override
+    public List<DailyFoodLog> getDailyFoodLogs() {
+        if (logs == null) {
+            throw new IllegalStateException("Only the changes since version " + baseVersion + " were copied.");
+        }
+        return logs;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes copied, which include every change since {@code version} if it is not before the version
+     * they were copied since. Changes already made again are harmless to make, so a later version gets them all.
+     */
+    @Override
+    public Optional<Map<LocalDate, DailyFoodLog>> getChangesSince(long version) {
+        if (changes == null || version < baseVersion || version > this.version) {
+            return Optional.empty();
+        }
+        return Optional.of(changes);
+    }
+}
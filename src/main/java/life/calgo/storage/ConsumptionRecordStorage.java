@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.model.ConsumptionArchive;
 import life.calgo.model.ReadOnlyConsumptionRecord;
 
 /**
@@ -17,6 +18,11 @@ public interface ConsumptionRecordStorage {
      */
     Path getConsumptionRecordFilePath();
 
+    /**
+     * Returns the archive that consumption history too old to keep in the data file is moved to.
+     */
+    ConsumptionArchive getConsumptionArchive();
+
     /**
      * Returns ConsumptionRecord data as a {@link ReadOnlyConsumptionRecord}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -40,6 +46,15 @@ public interface ConsumptionRecordStorage {
      */
     void saveConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord) throws IOException;
 
+    /**
+     * Records that {@code consumptionRecord} holds the same logs as the storage file last read by
+     * {@link #readConsumptionRecord()}, so that saving it only needs to write what changed in it since.
+     * Does nothing by default.
+     *
+     * @param consumptionRecord The copy of the ReadOnlyConsumptionRecord read, which cannot be null.
+     */
+    default void setSavedConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord) {}
+
     /**
      * @see #saveConsumptionRecord(ReadOnlyConsumptionRecord, Path)
      */
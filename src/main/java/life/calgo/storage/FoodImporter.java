@@ -0,0 +1,189 @@
+package life.calgo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import life.calgo.commons.core.LogsCenter;
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.commons.util.JsonUtil;
+import life.calgo.model.food.Food;
+
+/**
+ * Reads Food entries from a CSV or JSON-lines file for bulk import into the FoodRecord.
+ *
+ * CSV rows are of the form {@code NAME,CALORIE,PROTEIN,CARBOHYDRATE,FAT[,TAGS]}, with Tags separated by spaces or
+ * semicolons, and an optional header row starting with {@code name}. JSON-lines rows are Food objects in the same
+ * format as the food record data file. Each row is validated on its own, so an invalid or repeated row is reported
+ * and skipped without affecting the others.
+ *
+ * The file is read in batches of lines, and every batch is validated in parallel before the next one is read.
+ */
+public class FoodImporter {
+
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_WRONG_COLUMN_COUNT = "expected 5 or 6 comma-separated values but found %1$d";
+    public static final String MESSAGE_INVALID_JSON = "not a valid JSON food object";
+    public static final String MESSAGE_DUPLICATE_ROW = "%1$s is a duplicate of row %2$d";
+
+    private static final int BATCH_SIZE = 4096;
+    private static final String CSV_HEADER_START = "name";
+    private static final int CSV_MINIMUM_COLUMNS = 5;
+    private static final int CSV_MAXIMUM_COLUMNS = 6;
+
+    private static final Logger logger = LogsCenter.getLogger(FoodImporter.class);
+
+    /**
+     * The formats of files that can be imported.
+     */
+    public enum Format {
+        CSV, JSON_LINES
+    }
+
+    /**
+     * The outcome of validating a single row, holding either the Food or the reason the row is invalid.
+     */
+    private static class Row {
+        private final int number;
+        private final Food food;
+        private final String error;
+
+        private Row(int number, Food food, String error) {
+            this.number = number;
+            this.food = food;
+            this.error = error;
+        }
+    }
+
+    private final Path filePath;
+    private final Format format;
+    private final List<Food> foods = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private final HashMap<String, Integer> rowNumbersByName = new HashMap<>();
+
+    /**
+     * Creates a FoodImporter for the file at {@code filePath}, which is in the given {@code format}.
+     */
+    public FoodImporter(Path filePath, Format format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    /**
+     * Reads and validates every row of the file. Valid Food are available from {@link #getFoods()} in the order
+     * they appear in the file, and a description of every skipped row from {@link #getErrors()}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public void read() throws IOException {
+        logger.info("Importing food from " + filePath);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            int firstRowNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch.add(line);
+                if (batch.size() == BATCH_SIZE) {
+                    addRows(validateBatch(batch, firstRowNumber));
+                    firstRowNumber += batch.size();
+                    batch.clear();
+                }
+            }
+            addRows(validateBatch(batch, firstRowNumber));
+        }
+        logger.info(String.format("Read %d food and skipped %d rows from %s", foods.size(), errors.size(), filePath));
+    }
+
+    public List<Food> getFoods() {
+        return foods;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Validates the rows of {@code batch} in parallel, skipping blank lines and the CSV header.
+     */
+    private List<Row> validateBatch(List<String> batch, int firstRowNumber) {
+        return IntStream.range(0, batch.size())
+                .parallel()
+                .filter(i -> !batch.get(i).isBlank() && !isHeader(batch.get(i), firstRowNumber + i))
+                .mapToObj(i -> validateRow(batch.get(i), firstRowNumber + i))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Records the rows of a validated batch in order, rejecting Food already read from an earlier row.
+     */
+    private void addRows(List<Row> rows) {
+        for (Row row : rows) {
+            if (row.error != null) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, row.number, row.error));
+                continue;
+            }
+            Integer firstRowNumber = rowNumbersByName.putIfAbsent(row.food.getName().getKey(), row.number);
+            if (firstRowNumber != null) {
+                errors.add(String.format(MESSAGE_ROW_ERROR, row.number,
+                        String.format(MESSAGE_DUPLICATE_ROW, row.food.getName(), firstRowNumber)));
+                continue;
+            }
+            foods.add(row.food);
+        }
+    }
+
+    private boolean isHeader(String line, int rowNumber) {
+        return format == Format.CSV && rowNumber == 1
+                && line.trim().toLowerCase().startsWith(CSV_HEADER_START);
+    }
+
+    private Row validateRow(String line, int rowNumber) {
+        try {
+            JsonAdaptedFood adaptedFood = format == Format.CSV ? fromCsv(line) : fromJson(line);
+            return new Row(rowNumber, adaptedFood.toModelType(), null);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            return new Row(rowNumber, null, e.getMessage());
+        }
+    }
+
+    private static JsonAdaptedFood fromCsv(String line) throws IllegalValueException {
+        String[] values = line.split(",", -1);
+        if (values.length < CSV_MINIMUM_COLUMNS || values.length > CSV_MAXIMUM_COLUMNS) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_COLUMN_COUNT, values.length));
+        }
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        if (values.length == CSV_MAXIMUM_COLUMNS) {
+            Arrays.stream(values[5].trim().split("[;\\s]+"))
+                    .filter(tagName -> !tagName.isEmpty())
+                    .forEach(tagName -> tags.add(new JsonAdaptedTag(tagName)));
+        }
+        return new JsonAdaptedFood(values[0].trim(), values[1].trim(), values[2].trim(), values[3].trim(),
+                values[4].trim(), tags);
+    }
+
+    private static JsonAdaptedFood fromJson(String line) throws IllegalValueException {
+        JsonAdaptedFood adaptedFood;
+        try {
+            adaptedFood = JsonUtil.fromJsonString(line, JsonAdaptedFood.class);
+        } catch (IOException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_JSON);
+        }
+        if (adaptedFood == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_JSON);
+        }
+        return adaptedFood;
+    }
+}
@@ -0,0 +1,98 @@
+package life.calgo.storage;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import life.calgo.model.ReadOnlyFoodRecord;
+import life.calgo.model.food.Food;
+
+/**
+ * A copy of a FoodRecord at one moment, which can be written to disk while the FoodRecord changes.
+ * Food are immutable, so only references are copied. Where the version of the FoodRecord last written is known, only
+ * the Food changed since then are copied, and the copy has no food list.
+ */
+class FoodRecordSnapshot implements ReadOnlyFoodRecord {
+
+    private final ReadOnlyFoodRecord source;
+    private final long version;
+    // null if only the changes were copied
+    private final ObservableList<Food> foods;
+    // the version the changes are since, and null changes if they were not copied
+    private final long baseVersion;
+    private final Map<String, Food> changes;
+
+    private FoodRecordSnapshot(ReadOnlyFoodRecord source, long version, ObservableList<Food> foods,
+                               long baseVersion, Map<String, Food> changes) {
+        this.source = source;
+        this.version = version;
+        this.foods = foods;
+        this.baseVersion = baseVersion;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a copy of {@code source} that holds only the changes since {@code baseVersion} of it, if they are
+     * known, or every Food otherwise.
+     */
+    static FoodRecordSnapshot of(ReadOnlyFoodRecord source, OptionalLong baseVersion) {
+        Optional<Map<String, Food>> changes = baseVersion.isPresent()
+                ? source.getChangesSince(baseVersion.getAsLong())
+                : Optional.empty();
+        if (changes.isPresent()) {
+            return new FoodRecordSnapshot(source, source.getVersion(), null, baseVersion.getAsLong(), changes.get());
+        }
+        return new FoodRecordSnapshot(source, source.getVersion(), copyOf(source.getFoodList()), 0, null);
+    }
+
+    /**
+     * Returns a FoodRecord of {@code foods} alone, which has no changes.
+     */
+    static FoodRecordSnapshot of(Collection<Food> foods) {
+        return new FoodRecordSnapshot(null, 0, copyOf(foods), 0, null);
+    }
+
+    /**
+     * Returns the FoodRecord that {@code foodRecord} is a copy of, or {@code foodRecord} itself if it is not a copy.
+     */
+    static ReadOnlyFoodRecord sourceOf(ReadOnlyFoodRecord foodRecord) {
+        return foodRecord instanceof FoodRecordSnapshot ? ((FoodRecordSnapshot) foodRecord).source : foodRecord;
+    }
+
+    private static ObservableList<Food> copyOf(Collection<Food> foods) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(foods));
+    }
+
+    /**
+     * Returns every Food in the copy.
+     *
+     * @throws IllegalStateException If only the changes were copied.
+     */
+    @Override
+    public ObservableList<Food> getFoodList() {
+        if (foods == null) {
+            throw new IllegalStateException("Only the changes since version " + baseVersion + " were copied.");
+        }
+        return foods;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes copied, which include every change since {@code version} if it is not before the version
+     * they were copied since. Changes already made again are harmless to make, so a later version gets them all.
+     */
+    @Override
+    public Optional<Map<String, Food>> getChangesSince(long version) {
+        if (changes == null || version < baseVersion || version > this.version) {
+            return Optional.empty();
+        }
+        return Optional.of(changes);
+    }
+}
@@ -46,6 +46,14 @@ public interface FoodRecordStorage {
      */
     void saveFoodRecord(ReadOnlyFoodRecord foodRecord) throws IOException;
 
+    /**
+     * Records that {@code foodRecord} holds the same Food as the storage file last read by {@link #readFoodRecord()},
+     * so that saving it only needs to write what changed in it since. Does nothing by default.
+     *
+     * @param foodRecord the copy of the ReadOnlyFoodRecord read, which cannot be null.
+     */
+    default void setSavedFoodRecord(ReadOnlyFoodRecord foodRecord) {}
+
     /**
      * Saves the given {@link ReadOnlyFoodRecord} to the storage at a specified Path.
      *
@@ -0,0 +1,194 @@
+package life.calgo.storage;
+
+import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import life.calgo.commons.core.LogsCenter;
+import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.commons.util.FileUtil;
+import life.calgo.commons.util.JsonUtil;
+
+/**
+ * An append-only file of changes made to a data file since it was last written in full. The first line is a header
+ * holding the time the first entry was appended, and each line after it is one json entry.
+ * Appending a change costs time proportional to the change, however large the data file is.
+ *
+ * An entry cut short by a crash can only be the last line of the journal. Such a line is dropped when the journal
+ * is read, and any other line that cannot be read, including a missing header, means the journal is not in the
+ * expected format. The journal is due for compaction into its data file once it reaches a size, or once it has been
+ * kept for a while. How long it has been kept is measured from the time in the header, so that the interval is not
+ * restarted every time the app is launched.
+ *
+ * @param <E> the Jackson-friendly type of the entries.
+ */
+class Journal<E> {
+
+    public static final long DEFAULT_COMPACTION_SIZE = 1 << 20;
+    public static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofDays(1);
+    public static final String HEADER_PREFIX = "# created ";
+
+    private static final Logger logger = LogsCenter.getLogger(Journal.class);
+
+    private final Path filePath;
+    private final Class<E> entryClass;
+    private final long compactionSize;
+    private final Duration compactionInterval;
+    private final Clock clock;
+    // the time the first entry was appended to the journal, or null if it has not been read from the journal yet
+    private Instant startTime;
+
+    Journal(Path filePath, Class<E> entryClass) {
+        this(filePath, entryClass, DEFAULT_COMPACTION_SIZE, DEFAULT_COMPACTION_INTERVAL, Clock.systemUTC());
+    }
+
+    Journal(Path filePath, Class<E> entryClass, long compactionSize, Duration compactionInterval, Clock clock) {
+        requireAllNonNull(filePath, entryClass, compactionInterval, clock);
+        this.filePath = filePath;
+        this.entryClass = entryClass;
+        this.compactionSize = compactionSize;
+        this.compactionInterval = compactionInterval;
+        this.clock = clock;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the entries in the journal in the order they were appended, or none if there is no journal.
+     *
+     * @throws DataConversionException If an entry other than the last cannot be read.
+     * @throws IOException If there was any problem when reading the journal.
+     */
+    List<E> readEntries() throws DataConversionException, IOException {
+        List<E> entries = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return entries;
+        }
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        long validLength = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            try {
+                if (i == 0) {
+                    startTime = parseHeader(line);
+                } else if (!line.isBlank()) {
+                    entries.add(JsonUtil.fromJsonString(line, entryClass));
+                }
+            } catch (IOException | DateTimeParseException e) {
+                if (i < lines.size() - 1) {
+                    logger.warning("Unreadable entry in journal " + filePath + ": " + e);
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Dropping incomplete last entry of journal " + filePath);
+                truncate(validLength);
+                break;
+            }
+            validLength += line.getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        if (validLength > Files.size(filePath)) {
+            // the last entry was written in full but its line break was not, so later entries need one first
+            Files.writeString(filePath, "\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        }
+        return entries;
+    }
+
+    /**
+     * Appends {@code entries} to the end of the journal, creating it if it does not exist.
+     *
+     * @throws IOException If there was any problem when writing to the journal.
+     */
+    void append(List<E> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(filePath) || Files.size(filePath) == 0) {
+            startTime = clock.instant();
+            lines.append(HEADER_PREFIX).append(startTime).append('\n');
+        }
+        for (E entry : entries) {
+            lines.append(JsonUtil.toJsonLine(entry)).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(lines.toString());
+        }
+    }
+
+    /**
+     * Returns true if the journal is large or old enough to be compacted into its data file.
+     */
+    boolean isDueForCompaction() throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        return Files.size(filePath) >= compactionSize
+                || !clock.instant().isBefore(getStartTime().plus(compactionInterval));
+    }
+
+    /**
+     * Removes every entry, after the data file has been written in full.
+     *
+     * @throws IOException If there was any problem when deleting the journal.
+     */
+    void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        startTime = null;
+    }
+
+    /**
+     * Returns the time the first entry was appended to the journal, which must exist.
+     *
+     * @throws IOException If the header cannot be read.
+     */
+    private Instant getStartTime() throws IOException {
+        if (startTime != null) {
+            return startTime;
+        }
+        String firstLine;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            firstLine = reader.readLine();
+        }
+        try {
+            startTime = parseHeader(firstLine == null ? "" : firstLine);
+        } catch (DateTimeParseException e) {
+            throw new IOException("Unreadable header in journal " + filePath, e);
+        }
+        return startTime;
+    }
+
+    /**
+     * Returns the time in the header {@code line}.
+     *
+     * @throws IOException If {@code line} is not a header.
+     */
+    private static Instant parseHeader(String line) throws IOException {
+        if (!line.startsWith(HEADER_PREFIX)) {
+            throw new IOException("Journal does not start with a header: " + line);
+        }
+        return Instant.parse(line.substring(HEADER_PREFIX.length()).trim());
+    }
+
+    private void truncate(long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package life.calgo.storage;
+
+import static java.util.Objects.requireNonNull;
+import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import life.calgo.commons.core.LogsCenter;
+import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.model.ConsumptionArchive;
+import life.calgo.model.ConsumptionRecord;
+import life.calgo.model.ReadOnlyConsumptionRecord;
+import life.calgo.model.day.DailyFoodLog;
+
+/**
+ * A ConsumptionRecordStorage that saves each change to the consumption record by appending the changed logs to a
+ * {@link Journal}, instead of rewriting the whole data file. The data file is kept by another
+ * ConsumptionRecordStorage, and is rewritten with the whole consumption record when the journal is due for
+ * compaction. Reading the consumption record replays the journal over the data file.
+ *
+ * The changed logs are asked of the consumption record, as those since the version of it last read or saved, so that
+ * only they are visited. Should they not be known, such as for a consumption record other than the one last saved,
+ * each log is compared with the one of the same date that was last saved instead. DailyFoodLog are immutable, so
+ * this is done by reference, without converting either to json. Logs are never deleted, so a log removed from a
+ * consumption record has been archived, and nothing is journaled for it.
+ */
+public class JournaledConsumptionRecordStorage implements ConsumptionRecordStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledConsumptionRecordStorage.class);
+
+    private final ConsumptionRecordStorage snapshotStorage;
+    private final Journal<JsonAdaptedLogJournalEntry> journal;
+    // the logs in the data file and journal together by date, or null if they have not been read or written
+    private TreeMap<LocalDate, DailyFoodLog> savedLogs;
+    // the consumption record, and version of it, that was last read or saved
+    private ReadOnlyConsumptionRecord savedSource;
+    private long savedVersion;
+
+    public JournaledConsumptionRecordStorage(ConsumptionRecordStorage snapshotStorage, Path journalFilePath) {
+        this(snapshotStorage, new Journal<>(journalFilePath, JsonAdaptedLogJournalEntry.class));
+    }
+
+    JournaledConsumptionRecordStorage(ConsumptionRecordStorage snapshotStorage,
+                                      Journal<JsonAdaptedLogJournalEntry> journal) {
+        requireAllNonNull(snapshotStorage, journal);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Path getConsumptionRecordFilePath() {
+        return snapshotStorage.getConsumptionRecordFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journal.getFilePath();
+    }
+
+    @Override
+    public ConsumptionArchive getConsumptionArchive() {
+        return snapshotStorage.getConsumptionArchive();
+    }
+
+    /**
+     * Returns the consumption record in the data file with every change in the journal made to it.
+     */
+    @Override
+    public Optional<ReadOnlyConsumptionRecord> readConsumptionRecord() throws DataConversionException, IOException {
+        Optional<ReadOnlyConsumptionRecord> snapshot = snapshotStorage.readConsumptionRecord();
+        List<JsonAdaptedLogJournalEntry> entries = journal.readEntries();
+        if (snapshot.isEmpty() && entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TreeMap<LocalDate, DailyFoodLog> logs = new TreeMap<>();
+        snapshot.ifPresent(record -> logs.putAll(record.getDateToLogMap()));
+        try {
+            for (JsonAdaptedLogJournalEntry entry : entries) {
+                entry.applyTo(logs);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal.getFilePath() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        logger.fine("Replayed " + entries.size() + " change(s) from " + journal.getFilePath());
+
+        ConsumptionRecord consumptionRecord = new ConsumptionRecord();
+        for (DailyFoodLog foodLog : logs.values()) {
+            consumptionRecord.addLog(foodLog);
+        }
+        savedLogs = logs;
+        savedSource = consumptionRecord;
+        savedVersion = consumptionRecord.getVersion();
+        return Optional.of(consumptionRecord);
+    }
+
+    @Override
+    public Optional<ReadOnlyConsumptionRecord> readConsumptionRecord(Path filePath)
+            throws DataConversionException, IOException {
+        return snapshotStorage.readConsumptionRecord(filePath);
+    }
+
+    /**
+     * Appends the logs changed in {@code consumptionRecord} since it was last read or saved to the journal, or
+     * writes it to the data file in full if the journal is due for compaction.
+     */
+    @Override
+    public void saveConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord) throws IOException {
+        Map<LocalDate, DailyFoodLog> changes = getChangesSinceSaved(consumptionRecord);
+        if (changes == null || journal.isDueForCompaction()) {
+            if (changes == null) {
+                savedLogs = new TreeMap<>();
+                for (DailyFoodLog foodLog : consumptionRecord.getDailyFoodLogs()) {
+                    savedLogs.put(foodLog.getLocalDate(), foodLog);
+                }
+            } else {
+                applyToSavedLogs(changes);
+            }
+            snapshotStorage.saveConsumptionRecord(ConsumptionRecordSnapshot.of(savedLogs.values()));
+            journal.clear();
+        } else {
+            List<JsonAdaptedLogJournalEntry> entries = new ArrayList<>();
+            for (DailyFoodLog foodLog : changes.values()) {
+                if (foodLog != null && foodLog != savedLogs.get(foodLog.getLocalDate())) {
+                    entries.add(JsonAdaptedLogJournalEntry.put(foodLog));
+                }
+            }
+            journal.append(entries);
+            applyToSavedLogs(changes);
+        }
+        savedSource = ConsumptionRecordSnapshot.sourceOf(consumptionRecord);
+        savedVersion = consumptionRecord.getVersion();
+    }
+
+    /**
+     * Remembers {@code consumptionRecord} as the consumption record last read, so that the logs changed in it are
+     * known when it is saved. Does nothing if the data file and journal have not been read.
+     */
+    @Override
+    public void setSavedConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord) {
+        requireNonNull(consumptionRecord);
+        if (savedLogs != null) {
+            savedSource = consumptionRecord;
+            savedVersion = consumptionRecord.getVersion();
+        }
+    }
+
+    @Override
+    public void saveConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord, Path filePath)
+            throws IOException {
+        snapshotStorage.saveConsumptionRecord(consumptionRecord, filePath);
+    }
+
+    /**
+     * Returns the logs changed in {@code consumptionRecord} since the data file and journal were last read or written,
+     * by date with the dates of removed logs mapped to null, or null if they have not been read or written.
+     */
+    private Map<LocalDate, DailyFoodLog> getChangesSinceSaved(ReadOnlyConsumptionRecord consumptionRecord) {
+        if (savedLogs == null) {
+            return null;
+        }
+        if (ConsumptionRecordSnapshot.sourceOf(consumptionRecord) == savedSource) {
+            Optional<Map<LocalDate, DailyFoodLog>> changes = consumptionRecord.getChangesSince(savedVersion);
+            if (changes.isPresent()) {
+                return changes.get();
+            }
+        }
+
+        Map<LocalDate, DailyFoodLog> changes = new HashMap<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (DailyFoodLog foodLog : consumptionRecord.getDailyFoodLogs()) {
+            dates.add(foodLog.getLocalDate());
+            if (savedLogs.get(foodLog.getLocalDate()) != foodLog) {
+                changes.put(foodLog.getLocalDate(), foodLog);
+            }
+        }
+        for (LocalDate savedDate : savedLogs.keySet()) {
+            if (!dates.contains(savedDate)) {
+                changes.put(savedDate, null);
+            }
+        }
+        return changes;
+    }
+
+    private void applyToSavedLogs(Map<LocalDate, DailyFoodLog> changes) {
+        for (Map.Entry<LocalDate, DailyFoodLog> change : changes.entrySet()) {
+            if (change.getValue() == null) {
+                savedLogs.remove(change.getKey());
+            } else {
+                savedLogs.put(change.getKey(), change.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package life.calgo.storage;
+
+import static java.util.Objects.requireNonNull;
+import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import life.calgo.commons.core.LogsCenter;
+import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.model.FoodRecord;
+import life.calgo.model.ReadOnlyFoodRecord;
+import life.calgo.model.food.Food;
+
+/**
+ * A FoodRecordStorage that saves each change to the FoodRecord by appending it to a {@link Journal}, instead of
+ * rewriting the whole data file. The data file is kept by another FoodRecordStorage, and is rewritten with the whole
+ * FoodRecord when the journal is due for compaction. Reading the FoodRecord replays the journal over the data file.
+ *
+ * The changes are asked of the FoodRecord, as those since the version of it last read or saved, so that only the
+ * changed Food are visited. Should they not be known, such as for a FoodRecord other than the one last saved, each
+ * Food is compared with the one of the same Name that was last saved instead. Food are immutable, so this is done by
+ * reference, without converting either to json.
+ */
+public class JournaledFoodRecordStorage implements FoodRecordStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledFoodRecordStorage.class);
+
+    private final FoodRecordStorage snapshotStorage;
+    private final Journal<JsonAdaptedFoodJournalEntry> journal;
+    // the Food in the data file and journal together by Name key, or null if they have not been read or written
+    private TreeMap<String, Food> savedFoods;
+    // the FoodRecord, and version of it, that was last read or saved
+    private ReadOnlyFoodRecord savedSource;
+    private long savedVersion;
+
+    public JournaledFoodRecordStorage(FoodRecordStorage snapshotStorage, Path journalFilePath) {
+        this(snapshotStorage, new Journal<>(journalFilePath, JsonAdaptedFoodJournalEntry.class));
+    }
+
+    JournaledFoodRecordStorage(FoodRecordStorage snapshotStorage, Journal<JsonAdaptedFoodJournalEntry> journal) {
+        requireAllNonNull(snapshotStorage, journal);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = journal;
+    }
+
+    @Override
+    public Path getFoodRecordFilePath() {
+        return snapshotStorage.getFoodRecordFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journal.getFilePath();
+    }
+
+    /**
+     * Returns the FoodRecord in the data file with every change in the journal made to it.
+     */
+    @Override
+    public Optional<ReadOnlyFoodRecord> readFoodRecord() throws DataConversionException, IOException {
+        Optional<ReadOnlyFoodRecord> snapshot = snapshotStorage.readFoodRecord();
+        List<JsonAdaptedFoodJournalEntry> entries = journal.readEntries();
+        if (snapshot.isEmpty() && entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        FoodRecord foodRecord = snapshot.map(FoodRecord::new).orElseGet(FoodRecord::new);
+        try {
+            for (JsonAdaptedFoodJournalEntry entry : entries) {
+                entry.applyTo(foodRecord);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal.getFilePath() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        logger.fine("Replayed " + entries.size() + " change(s) from " + journal.getFilePath());
+        savedFoods = foodsByName(foodRecord);
+        savedSource = foodRecord;
+        savedVersion = foodRecord.getVersion();
+        return Optional.of(foodRecord);
+    }
+
+    @Override
+    public Optional<ReadOnlyFoodRecord> readFoodRecord(Path filePath) throws DataConversionException, IOException {
+        return snapshotStorage.readFoodRecord(filePath);
+    }
+
+    /**
+     * Appends the changes made to {@code foodRecord} since it was last read or saved to the journal, or writes it
+     * to the data file in full if the journal is due for compaction.
+     */
+    @Override
+    public void saveFoodRecord(ReadOnlyFoodRecord foodRecord) throws IOException {
+        Map<String, Food> changes = getChangesSinceSaved(foodRecord);
+        if (changes == null || journal.isDueForCompaction()) {
+            if (changes == null) {
+                savedFoods = foodsByName(foodRecord);
+            } else {
+                applyToSavedFoods(changes);
+            }
+            snapshotStorage.saveFoodRecord(FoodRecordSnapshot.of(savedFoods.values()));
+            journal.clear();
+        } else {
+            journal.append(toEntries(changes));
+            applyToSavedFoods(changes);
+        }
+        savedSource = FoodRecordSnapshot.sourceOf(foodRecord);
+        savedVersion = foodRecord.getVersion();
+    }
+
+    /**
+     * Remembers {@code foodRecord} as the FoodRecord last read, so that the changes made to it are known when it is
+     * saved. Does nothing if the data file and journal have not been read.
+     */
+    @Override
+    public void setSavedFoodRecord(ReadOnlyFoodRecord foodRecord) {
+        requireNonNull(foodRecord);
+        if (savedFoods != null) {
+            savedSource = foodRecord;
+            savedVersion = foodRecord.getVersion();
+        }
+    }
+
+    @Override
+    public void saveFoodRecord(ReadOnlyFoodRecord foodRecord, Path filePath) throws IOException {
+        snapshotStorage.saveFoodRecord(foodRecord, filePath);
+    }
+
+    /**
+     * Returns the Food changed in {@code foodRecord} since the data file and journal were last read or written, by
+     * Name key with the keys of removed Food mapped to null, or null if they have not been read or written.
+     */
+    private Map<String, Food> getChangesSinceSaved(ReadOnlyFoodRecord foodRecord) {
+        if (savedFoods == null) {
+            return null;
+        }
+        if (FoodRecordSnapshot.sourceOf(foodRecord) == savedSource) {
+            Optional<Map<String, Food>> changes = foodRecord.getChangesSince(savedVersion);
+            if (changes.isPresent()) {
+                return changes.get();
+            }
+        }
+
+        Map<String, Food> changes = new HashMap<>();
+        Set<String> keys = new HashSet<>();
+        for (Food food : foodRecord.getFoodList()) {
+            String key = food.getName().getKey();
+            keys.add(key);
+            if (savedFoods.get(key) != food) {
+                changes.put(key, food);
+            }
+        }
+        for (String savedKey : savedFoods.keySet()) {
+            if (!keys.contains(savedKey)) {
+                changes.put(savedKey, null);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the journal entries making {@code changes} to the saved Food.
+     */
+    private List<JsonAdaptedFoodJournalEntry> toEntries(Map<String, Food> changes) {
+        List<JsonAdaptedFoodJournalEntry> entries = new ArrayList<>();
+        for (Map.Entry<String, Food> change : changes.entrySet()) {
+            Food savedFood = savedFoods.get(change.getKey());
+            if (change.getValue() != null && change.getValue() != savedFood) {
+                entries.add(JsonAdaptedFoodJournalEntry.put(change.getValue()));
+            } else if (change.getValue() == null && savedFood != null) {
+                entries.add(JsonAdaptedFoodJournalEntry.delete(savedFood));
+            }
+        }
+        return entries;
+    }
+
+    private void applyToSavedFoods(Map<String, Food> changes) {
+        for (Map.Entry<String, Food> change : changes.entrySet()) {
+            if (change.getValue() == null) {
+                savedFoods.remove(change.getKey());
+            } else {
+                savedFoods.put(change.getKey(), change.getValue());
+            }
+        }
+    }
+
+    private static TreeMap<String, Food> foodsByName(ReadOnlyFoodRecord foodRecord) {
+        TreeMap<String, Food> foods = new TreeMap<>();
+        for (Food food : foodRecord.getFoodList()) {
+            foods.put(food.getName().getKey(), food);
+        }
+        return foods;
+    }
+}
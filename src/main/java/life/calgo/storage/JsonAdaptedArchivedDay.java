@@ -0,0 +1,103 @@
+package life.calgo.storage;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailySummary;
+import life.calgo.model.food.Food;
+
+/**
+ * Jackson-friendly version of an archived day: its {@link DailySummary}, written as the total of each Nutrient and
+ * the number of foods, followed by its {@link DailyFoodLog}. The summary can be read without reading the log, and
+ * can also be written without it.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JsonAdaptedArchivedDay {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Archived day's %s field is missing!";
+
+    private final LocalDate date;
+    private final double[] totals;
+    private final int numberOfFoods;
+    private final JsonAdaptedDailyFoodLog log;
+
+    /**
+     * Constructs a {@code JsonAdaptedArchivedDay} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchivedDay(@JsonProperty("date") LocalDate date, @JsonProperty("totals") double[] totals,
+                                  @JsonProperty("numberOfFoods") int numberOfFoods,
+                                  @JsonProperty("log") JsonAdaptedDailyFoodLog log) {
+        this.date = date;
+        this.totals = totals;
+        this.numberOfFoods = numberOfFoods;
+        this.log = log;
+    }
+
+    /**
+     * Converts a given {@code DailyFoodLog} into this class for Jackson use.
+     *
+     * @param foodIds Index in the food table of every Food written so far, which Food in {@code source} not seen
+     *                before are added to.
+     */
+    public JsonAdaptedArchivedDay(DailyFoodLog source, Map<Food, Integer> foodIds) {
+        DailySummary summary = DailySummary.of(source);
+        date = summary.getLocalDate();
+        totals = summary.getTotals();
+        numberOfFoods = summary.getNumberOfFoods();
+        log = new JsonAdaptedDailyFoodLog(source, foodIds);
+    }
+
+    /**
+     * Converts a given {@code DailySummary} into this class for Jackson use, without a log.
+     */
+    public JsonAdaptedArchivedDay(DailySummary source) {
+        date = source.getLocalDate();
+        totals = source.getTotals();
+        numberOfFoods = source.getNumberOfFoods();
+        log = null;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    /**
+     * Converts the summary of this day into the model's {@code DailySummary} object.
+     *
+     * @throws IllegalValueException If there were any data constraints violated in the summary.
+     */
+    public DailySummary toModelSummary() throws IllegalValueException {
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
+        }
+        if (totals == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "totals"));
+        }
+        try {
+            return new DailySummary(date, totals, numberOfFoods);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Converts the log of this day into the model's {@code DailyFoodLog} object.
+     *
+     * @param foodTable Food in the food table of the enclosing archive, by index.
+     * @throws IllegalValueException If there were any data constraints violated in the log.
+     */
+    public DailyFoodLog toModelLog(List<Food> foodTable) throws IllegalValueException {
+        if (log == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "log"));
+        }
+        return log.toModelType(foodTable);
+    }
+}
@@ -3,19 +3,32 @@ package life.calgo.storage;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import life.calgo.commons.exceptions.IllegalValueException;
 import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.RatingSummary;
 import life.calgo.model.food.Food;
 
 /**
  * Jackson-friendly version of {@link DailyFoodLog}.
+ * Food are referred to by their index in the food table of the enclosing {@link JsonSerializableConsumptionRecord},
+ * so each Food is written once however many logs contain it. Ratings are written as the number of times each rating
+ * was given. Logs written by earlier versions, which embed a full copy of every Food and list every rating, can
+ * still be read.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedDailyFoodLog {
 
+    public static final String MESSAGE_UNKNOWN_FOOD_ID = "Consumption Record refers to unknown food %1$d.";
+
+    private final LinkedHashMap<Integer, Double> portions;
+    private final LinkedHashMap<Integer, int[]> ratingCounts;
     private final LinkedHashMap<JsonAdaptedFood, Double> foods;
     private final LinkedHashMap<JsonAdaptedFood, ArrayList<Integer>> ratings;
     private final LocalDate localDate;
@@ -25,10 +38,14 @@ public class JsonAdaptedDailyFoodLog {
      */
     @JsonCreator
     public JsonAdaptedDailyFoodLog(
+        @JsonProperty("portions") LinkedHashMap<Integer, Double> portions,
+        @JsonProperty("ratingCounts") LinkedHashMap<Integer, int[]> ratingCounts,
         @JsonProperty("foods") LinkedHashMap<JsonAdaptedFood, Double> foods,
         @JsonProperty("ratings") LinkedHashMap<JsonAdaptedFood, ArrayList<Integer>> ratings,
         @JsonProperty("localDate") LocalDate localDate
     ) {
+        this.portions = portions;
+        this.ratingCounts = ratingCounts;
         this.foods = foods;
         this.ratings = ratings;
         this.localDate = localDate;
@@ -36,36 +53,29 @@ public class JsonAdaptedDailyFoodLog {
 
     /**
      * Converts a given {@code JsonDailyFoodLog} into this class for Jackson use.
+     *
+     * @param source DailyFoodLog to convert.
+     * @param foodIds Index in the food table of every Food written so far, which Food in {@code source} not seen
+     *                before are added to.
      */
-    public JsonAdaptedDailyFoodLog(DailyFoodLog source) {
-        foods = adaptFoods(source.copyFoods());
-        ratings = adaptRatings(source.copyRatings());
-        localDate = source.getLocalDate();
-    }
-
-    /**
-     * Acts as helper method to convert Food to adaptedFood for the whole LinkedHashMap,
-     * while maintaining the respecting portions associated with each food.
-     */
-    private LinkedHashMap<JsonAdaptedFood, Double> adaptFoods(LinkedHashMap<Food, Double> foods) {
-        LinkedHashMap<JsonAdaptedFood, Double> adaptedFoods = new LinkedHashMap<>();
-        for (Food food : foods.keySet()) {
-            adaptedFoods.put(new JsonAdaptedFood(food), foods.get(food));
-        }
-        return adaptedFoods;
-    }
-
-    /**
-     * Acts as helper method to convert Food to adaptedFood for the whole LinkedHashMap,
-     * while maintaining the respecting ratings associated with each food.
-     */
-    private LinkedHashMap<JsonAdaptedFood, ArrayList<Integer>> adaptRatings(
-            LinkedHashMap<Food, ArrayList<Integer>> ratings) {
-        LinkedHashMap<JsonAdaptedFood, ArrayList<Integer>> adaptedRatings = new LinkedHashMap<>();
-        for (Food food : ratings.keySet()) {
-            adaptedRatings.put(new JsonAdaptedFood(food), new ArrayList<>(ratings.get(food)));
+    public JsonAdaptedDailyFoodLog(DailyFoodLog source, Map<Food, Integer> foodIds) {
+        portions = new LinkedHashMap<>();
+        ratingCounts = new LinkedHashMap<>();
+        for (DailyFoodLog.Entry entry : source) {
+            Integer foodId = foodIds.get(entry.getFood());
+            if (foodId == null) {
+                foodId = foodIds.size();
+                foodIds.put(entry.getFood(), foodId);
+            }
+            portions.put(foodId, entry.getPortion());
+            RatingSummary rating = entry.getRatingSummary();
+            if (rating.getCount() > 0) {
+                ratingCounts.put(foodId, rating.getHistogram());
+            }
         }
-        return adaptedRatings;
+        foods = null;
+        ratings = null;
+        localDate = source.getLocalDate();
     }
 
     /**
@@ -85,23 +95,55 @@ public class JsonAdaptedDailyFoodLog {
      * Acts as helper method to convert adaptedFood to Food for the whole LinkedHashMap,
      * while maintaining the respecting ratings associated with each food.
      */
-    private LinkedHashMap<Food, ArrayList<Integer>> unAdaptRatings(
+    private LinkedHashMap<Food, RatingSummary> unAdaptRatings(
             LinkedHashMap<JsonAdaptedFood, ArrayList<Integer>> adaptedRatings)
             throws IllegalValueException {
-        LinkedHashMap<Food, ArrayList<Integer>> ratings = new LinkedHashMap<>();
+        LinkedHashMap<Food, RatingSummary> ratings = new LinkedHashMap<>();
         for (JsonAdaptedFood adaptedFood : adaptedRatings.keySet()) {
-            ratings.put(adaptedFood.toModelType(), new ArrayList<>(adaptedRatings.get(adaptedFood)));
+            ratings.put(adaptedFood.toModelType(), toRatingSummary(null, adaptedRatings.get(adaptedFood)));
         }
         return ratings;
     }
 
+    /**
+     * Converts the ratings of a single food, written either as counts or as a list of every rating.
+     */
+    private static RatingSummary toRatingSummary(int[] counts, List<Integer> ratingList)
+            throws IllegalValueException {
+        try {
+            if (counts != null) {
+                return RatingSummary.fromHistogram(counts);
+            }
+            return ratingList == null ? RatingSummary.EMPTY : RatingSummary.of(ratingList);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(RatingSummary.MESSAGE_CONSTRAINTS);
+        }
+    }
+
     /**
      * Converts this Jackson-friendly adapted DailyFoodLog object into the model's {@code DailyFoodLog} object.
      *
+     * @param foodTable Food in the food table of the enclosing consumption record, by index.
      * @return DailyFoodLog equivalent of this adaptedDailyFoodLog object.
      * @throws IllegalValueException If there were any data constraints violated in the adaptedDailyFoodLog.
      */
-    public DailyFoodLog toModelType() throws IllegalValueException {
-        return new DailyFoodLog(unAdaptFoods(foods), unAdaptRatings(ratings), localDate);
+    public DailyFoodLog toModelType(List<Food> foodTable) throws IllegalValueException {
+        if (portions == null) {
+            return new DailyFoodLog(unAdaptFoods(foods), unAdaptRatings(ratings), localDate);
+        }
+
+        LinkedHashMap<Food, Double> modelFoods = new LinkedHashMap<>();
+        LinkedHashMap<Food, RatingSummary> modelRatings = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Double> entry : portions.entrySet()) {
+            int foodId = entry.getKey();
+            if (foodId < 0 || foodId >= foodTable.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_FOOD_ID, foodId));
+            }
+            Food food = foodTable.get(foodId);
+            modelFoods.put(food, entry.getValue());
+            int[] counts = ratingCounts == null ? null : ratingCounts.get(foodId);
+            modelRatings.put(food, toRatingSummary(counts, null));
+        }
+        return new DailyFoodLog(modelFoods, modelRatings, localDate);
     }
 }
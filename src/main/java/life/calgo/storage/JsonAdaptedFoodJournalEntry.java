@@ -0,0 +1,68 @@
+package life.calgo.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.model.FoodRecord;
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Name;
+
+/**
+ * Jackson-friendly version of a change to a {@link FoodRecord}: either a Food that was added or updated, or the
+ * Name of a Food that was deleted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedFoodJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Food journal entry must have exactly one of food or deleted.";
+
+    private final JsonAdaptedFood food;
+    private final String deleted;
+
+    @JsonCreator
+    JsonAdaptedFoodJournalEntry(@JsonProperty("food") JsonAdaptedFood food,
+                                @JsonProperty("deleted") String deleted) {
+        this.food = food;
+        this.deleted = deleted;
+    }
+
+    /**
+     * Returns an entry recording that {@code food} was added, or replaced the Food of the same Name.
+     */
+    static JsonAdaptedFoodJournalEntry put(Food food) {
+        return new JsonAdaptedFoodJournalEntry(new JsonAdaptedFood(food), null);
+    }
+
+    /**
+     * Returns an entry recording that {@code food} was deleted.
+     */
+    static JsonAdaptedFoodJournalEntry delete(Food food) {
+        return new JsonAdaptedFoodJournalEntry(null, food.getName().fullName);
+    }
+
+    /**
+     * Makes the change recorded by this entry to {@code foodRecord}.
+     *
+     * @throws IllegalValueException If there were any data constraints violated in the entry.
+     */
+    void applyTo(FoodRecord foodRecord) throws IllegalValueException {
+        if ((food == null) == (deleted == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        if (food != null) {
+            Food modelFood = food.toModelType();
+            if (foodRecord.hasFood(modelFood)) {
+                foodRecord.setFood(foodRecord.getExistingFood(modelFood), modelFood);
+            } else {
+                foodRecord.addFood(modelFood);
+            }
+            return;
+        }
+        if (!Name.isValidName(deleted)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        foodRecord.getFoodByName(new Name(deleted)).ifPresent(foodRecord::removeFood);
+    }
+}
@@ -0,0 +1,75 @@
+package life.calgo.storage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.food.Food;
+
+/**
+ * Jackson-friendly version of a change to a consumption record: the new DailyFoodLog of a date. The log refers to its
+ * Food by index in a food table of its own, as in {@link JsonSerializableConsumptionRecord}.
+ * Logs are never deleted, so every entry has a log.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedLogJournalEntry {
+
+    public static final String MISSING_DATE_MESSAGE = "Consumption journal entry's date is missing!";
+    public static final String MISSING_LOG_MESSAGE = "Consumption journal entry's log is missing!";
+
+    private final LocalDate date;
+    private final List<JsonAdaptedFood> foods;
+    private final JsonAdaptedDailyFoodLog log;
+
+    @JsonCreator
+    JsonAdaptedLogJournalEntry(@JsonProperty("date") LocalDate date,
+                               @JsonProperty("foods") List<JsonAdaptedFood> foods,
+                               @JsonProperty("log") JsonAdaptedDailyFoodLog log) {
+        this.date = date;
+        this.foods = foods;
+        this.log = log;
+    }
+
+    /**
+     * Returns an entry recording that {@code foodLog} became the log of its date.
+     */
+    static JsonAdaptedLogJournalEntry put(DailyFoodLog foodLog) {
+        LinkedHashMap<Food, Integer> foodIds = new LinkedHashMap<>();
+        JsonAdaptedDailyFoodLog adaptedLog = new JsonAdaptedDailyFoodLog(foodLog, foodIds);
+        List<JsonAdaptedFood> foodTable = new ArrayList<>();
+        for (Food food : foodIds.keySet()) {
+            foodTable.add(new JsonAdaptedFood(food));
+        }
+        return new JsonAdaptedLogJournalEntry(foodLog.getLocalDate(), foodTable, adaptedLog);
+    }
+
+    /**
+     * Makes the change recorded by this entry to {@code logs}, a map from each date to its log.
+     *
+     * @throws IllegalValueException If there were any data constraints violated in the entry.
+     */
+    void applyTo(Map<LocalDate, DailyFoodLog> logs) throws IllegalValueException {
+        if (date == null) {
+            throw new IllegalValueException(MISSING_DATE_MESSAGE);
+        }
+        if (log == null) {
+            throw new IllegalValueException(MISSING_LOG_MESSAGE);
+        }
+        List<Food> foodTable = new ArrayList<>();
+        if (foods != null) {
+            for (JsonAdaptedFood food : foods) {
+                foodTable.add(food.toModelType());
+            }
+        }
+        DailyFoodLog foodLog = log.toModelType(foodTable);
+        logs.put(foodLog.getLocalDate(), foodLog);
+    }
+}
@@ -0,0 +1,85 @@
+package life.calgo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.commons.util.FileUtil;
+import life.calgo.commons.util.JsonUtil;
+import life.calgo.model.ConsumptionArchive;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailySummary;
+
+/**
+ * A {@link ConsumptionArchive} stored as a json file on the hard disk.
+ * Nothing is kept in memory between calls: the file is read whenever summaries or logs are asked for, which only
+ * happens at startup and when archived dates are looked up, and rewritten only when logs are archived.
+ */
+public class JsonConsumptionArchive implements ConsumptionArchive {
+
+    private final Path filePath;
+
+    public JsonConsumptionArchive(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<DailySummary> readSummaries() throws DataConversionException {
+        Optional<JsonSerializableConsumptionArchive> jsonArchive = readArchive();
+        if (jsonArchive.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return jsonArchive.get().toModelSummaries();
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public List<DailyFoodLog> readLogs(LocalDate from, LocalDate to) throws DataConversionException {
+        requireNonNull(from);
+        requireNonNull(to);
+        Optional<JsonSerializableConsumptionArchive> jsonArchive = readArchive();
+        if (jsonArchive.isEmpty() || from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        try {
+            return jsonArchive.get().toModelLogs(from, to);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void writeLogs(Collection<DailyFoodLog> logs) throws DataConversionException, IOException {
+        requireNonNull(logs);
+        TreeMap<LocalDate, DailyFoodLog> archivedLogs = new TreeMap<>();
+        for (DailyFoodLog log : readLogs(LocalDate.MIN, LocalDate.MAX)) {
+            archivedLogs.put(log.getLocalDate(), log);
+        }
+        for (DailyFoodLog log : logs) {
+            archivedLogs.put(log.getLocalDate(), log);
+        }
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableConsumptionArchive(archivedLogs.values()), filePath);
+    }
+
+    private Optional<JsonSerializableConsumptionArchive> readArchive() throws DataConversionException {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableConsumptionArchive.class);
+    }
+}
@@ -5,13 +5,11 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import life.calgo.commons.core.LogsCenter;
 import life.calgo.commons.exceptions.DataConversionException;
-import life.calgo.commons.exceptions.IllegalValueException;
 import life.calgo.commons.util.FileUtil;
 import life.calgo.commons.util.JsonUtil;
+import life.calgo.model.ConsumptionArchive;
 import life.calgo.model.ReadOnlyConsumptionRecord;
 
 /**
@@ -19,12 +17,22 @@ import life.calgo.model.ReadOnlyConsumptionRecord;
  */
 public class JsonConsumptionRecordStorage implements ConsumptionRecordStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(ConsumptionRecordStorage.class);
+    public static final String DEFAULT_ARCHIVE_FILE_NAME = "consumptionarchive.json";
 
     private Path filePath;
+    private ConsumptionArchive archive;
 
+    /**
+     * Creates a storage for the data file at {@code filePath}, archiving old history to a file named
+     * {@value DEFAULT_ARCHIVE_FILE_NAME} next to it.
+     */
     public JsonConsumptionRecordStorage(Path filePath) {
+        this(filePath, filePath.resolveSibling(DEFAULT_ARCHIVE_FILE_NAME));
+    }
+
+    public JsonConsumptionRecordStorage(Path filePath, Path archiveFilePath) {
         this.filePath = filePath;
+        this.archive = new JsonConsumptionArchive(archiveFilePath);
     }
 
     @Override
@@ -32,6 +40,11 @@ public class JsonConsumptionRecordStorage implements ConsumptionRecordStorage {
         return filePath;
     }
 
+    @Override
+    public ConsumptionArchive getConsumptionArchive() {
+        return archive;
+    }
+
     /**
      * Returns a ReadOnlyConsumptionRecord wrapped in an Optional after reading from a json file.
      *
@@ -55,18 +68,7 @@ public class JsonConsumptionRecordStorage implements ConsumptionRecordStorage {
             throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableConsumptionRecord> jsonConsumptionRecord = JsonUtil.readJsonFile(
-                filePath, JsonSerializableConsumptionRecord.class);
-        if (jsonConsumptionRecord.isEmpty()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonConsumptionRecord.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return JsonUtil.readJsonFile(filePath, JsonSerializableConsumptionRecord::read);
     }
 
     /**
@@ -91,7 +93,8 @@ public class JsonConsumptionRecordStorage implements ConsumptionRecordStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableConsumptionRecord(consumptionRecord), filePath);
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableConsumptionRecord.write(consumptionRecord,
+                generator));
     }
 
 }
@@ -0,0 +1,114 @@
+package life.calgo.storage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailySummary;
+import life.calgo.model.food.Food;
+
+/**
+ * An Immutable consumption archive that is serializable to JSON format.
+ * Like {@link JsonSerializableConsumptionRecord}, every distinct Food is written once to a food table, which the
+ * archived days refer to by index. Days are written in date order.
+ */
+@JsonRootName(value = "consumptionarchive")
+public class JsonSerializableConsumptionArchive {
+
+    public static final String MESSAGE_DUPLICATE_DAY = "Consumption archive contains duplicate day(s).";
+
+    private final List<JsonAdaptedFood> foods = new ArrayList<>();
+    private final List<JsonAdaptedArchivedDay> days = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableConsumptionArchive} with the given food table and days.
+     */
+    @JsonCreator
+    public JsonSerializableConsumptionArchive(@JsonProperty("foods") List<JsonAdaptedFood> foods,
+                                              @JsonProperty("days") List<JsonAdaptedArchivedDay> days) {
+        if (foods != null) {
+            this.foods.addAll(foods);
+        }
+        if (days != null) {
+            this.days.addAll(days);
+        }
+    }
+
+    /**
+     * Converts the given logs into this class for Jackson use.
+     *
+     * @param logs Logs to archive, in date order.
+     */
+    public JsonSerializableConsumptionArchive(Collection<DailyFoodLog> logs) {
+        LinkedHashMap<Food, Integer> foodIds = new LinkedHashMap<>();
+        for (DailyFoodLog log : logs) {
+            days.add(new JsonAdaptedArchivedDay(log, foodIds));
+        }
+        for (Food food : foodIds.keySet()) {
+            foods.add(new JsonAdaptedFood(food));
+        }
+    }
+
+    /**
+     * Returns the summaries of the given logs for Jackson use, without the logs themselves.
+     *
+     * @param logs Logs to summarise, in date order.
+     */
+    public static JsonSerializableConsumptionArchive summariesOf(Collection<DailyFoodLog> logs) {
+        List<JsonAdaptedArchivedDay> days = new ArrayList<>();
+        for (DailyFoodLog log : logs) {
+            days.add(new JsonAdaptedArchivedDay(DailySummary.of(log)));
+        }
+        return new JsonSerializableConsumptionArchive(null, days);
+    }
+
+    /**
+     * Converts the summary of every archived day into the model's {@code DailySummary} objects.
+     * The food table and logs are not read.
+     *
+     * @throws IllegalValueException If there were any data constraints violated.
+     */
+    public List<DailySummary> toModelSummaries() throws IllegalValueException {
+        List<DailySummary> summaries = new ArrayList<>(days.size());
+        Set<LocalDate> dates = new HashSet<>();
+        for (JsonAdaptedArchivedDay day : days) {
+            DailySummary summary = day.toModelSummary();
+            if (!dates.add(summary.getLocalDate())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_DAY);
+            }
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    /**
+     * Converts the archived days dated from {@code from} to {@code to}, both inclusive, into the model's
+     * {@code DailyFoodLog} objects, in the order they were written.
+     *
+     * @throws IllegalValueException If there were any data constraints violated.
+     */
+    public List<DailyFoodLog> toModelLogs(LocalDate from, LocalDate to) throws IllegalValueException {
+        List<Food> foodTable = new ArrayList<>(foods.size());
+        for (JsonAdaptedFood jsonAdaptedFood : foods) {
+            foodTable.add(jsonAdaptedFood.toModelType());
+        }
+        List<DailyFoodLog> logs = new ArrayList<>();
+        for (JsonAdaptedArchivedDay day : days) {
+            LocalDate date = day.getDate();
+            if (date != null && !date.isBefore(from) && !date.isAfter(to)) {
+                logs.add(day.toModelLog(foodTable));
+            }
+        }
+        return logs;
+    }
+}
@@ -1,33 +1,50 @@
 package life.calgo.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import life.calgo.commons.exceptions.IllegalValueException;
 import life.calgo.model.ConsumptionRecord;
 import life.calgo.model.ReadOnlyConsumptionRecord;
 import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.food.Food;
 
 /**
  * An Immutable ConsumptionRecord that is serializable to JSON format.
+ * Every distinct Food consumed is written once to a food table, which the logs refer to by index.
+ * A whole file can also be read or written one log at a time with {@link #read(JsonParser)} and
+ * {@link #write(ReadOnlyConsumptionRecord, JsonGenerator)}, without holding every adapted log at once.
  */
 @JsonRootName(value = "consumptionrecord")
 public class JsonSerializableConsumptionRecord {
 
     public static final String MESSAGE_DUPLICATE_DAILYFOODLOG = "Consumption Record contains duplicate log(s).";
 
+    private static final String FOODS_FIELD = "foods";
+    private static final String LOGS_FIELD = "logs";
+
+    private final List<JsonAdaptedFood> foods = new ArrayList<>();
     private final List<JsonAdaptedDailyFoodLog> logs = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableConsumptionRecord} with the given logs.
+     * Constructs a {@code JsonSerializableConsumptionRecord} with the given food table and logs.
      */
     @JsonCreator
-    public JsonSerializableConsumptionRecord(@JsonProperty("logs") List<JsonAdaptedDailyFoodLog> logs) {
+    public JsonSerializableConsumptionRecord(@JsonProperty("foods") List<JsonAdaptedFood> foods,
+                                             @JsonProperty("logs") List<JsonAdaptedDailyFoodLog> logs) {
+        if (foods != null) {
+            this.foods.addAll(foods);
+        }
         this.logs.addAll(logs);
     }
 
@@ -37,7 +54,13 @@ public class JsonSerializableConsumptionRecord {
      * @param source Future changes to this will not affect the created {@code JsonSerializableConsumptionRecord}.
      */
     public JsonSerializableConsumptionRecord(ReadOnlyConsumptionRecord source) {
-        logs.addAll(source.getDailyFoodLogs().stream().map(JsonAdaptedDailyFoodLog::new).collect(Collectors.toList()));
+        LinkedHashMap<Food, Integer> foodIds = new LinkedHashMap<>();
+        for (DailyFoodLog log : source.getDailyFoodLogs()) {
+            logs.add(new JsonAdaptedDailyFoodLog(log, foodIds));
+        }
+        for (Food food : foodIds.keySet()) {
+            foods.add(new JsonAdaptedFood(food));
+        }
     }
 
     /**
@@ -46,14 +69,107 @@ public class JsonSerializableConsumptionRecord {
      * @throws IllegalValueException If there were any data constraints violated.
      */
     public ConsumptionRecord toModelType() throws IllegalValueException {
+        List<Food> foodTable = new ArrayList<>(foods.size());
+        for (JsonAdaptedFood jsonAdaptedFood : foods) {
+            foodTable.add(jsonAdaptedFood.toModelType());
+        }
         ConsumptionRecord consumptionRecord = new ConsumptionRecord();
         for (JsonAdaptedDailyFoodLog jsonAdaptedDailyFoodLog : logs) {
-            DailyFoodLog dailyFoodLog = jsonAdaptedDailyFoodLog.toModelType();
-            if (consumptionRecord.hasLogWithSameDate(dailyFoodLog)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DAILYFOODLOG);
+            addLog(consumptionRecord, jsonAdaptedDailyFoodLog.toModelType(foodTable));
+        }
+        return consumptionRecord;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, adapting one log at a time.
+     */
+    public static void write(ReadOnlyConsumptionRecord source, JsonGenerator generator) throws IOException {
+        // the food table comes first in the file, so it is worked out before any log is adapted
+        LinkedHashMap<Food, Integer> foodIds = new LinkedHashMap<>();
+        for (DailyFoodLog log : source.getDailyFoodLogs()) {
+            for (DailyFoodLog.Entry entry : log) {
+                foodIds.putIfAbsent(entry.getFood(), foodIds.size());
             }
-            consumptionRecord.addLog(dailyFoodLog);
+        }
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(FOODS_FIELD);
+        for (Food food : foodIds.keySet()) {
+            generator.writeObject(new JsonAdaptedFood(food));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(LOGS_FIELD);
+        for (DailyFoodLog log : source.getDailyFoodLogs()) {
+            generator.writeObject(new JsonAdaptedDailyFoodLog(log, foodIds));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a consumption record in the format of this class from {@code parser}, converting each log into the
+     * model's {@code DailyFoodLog} as soon as it is read. Logs that come before the food table, as in files written
+     * by earlier versions, are kept until the food table is read.
+     *
+     * @throws IOException If the JSON is malformed.
+     * @throws IllegalValueException If there were any data constraints violated.
+     */
+    public static ConsumptionRecord read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a consumption record.");
+        }
+        ConsumptionRecord consumptionRecord = new ConsumptionRecord();
+        List<Food> foodTable = null;
+        List<JsonAdaptedDailyFoodLog> unresolvedLogs = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (FOODS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                foodTable = new ArrayList<>();
+                while (hasNextElement(parser)) {
+                    foodTable.add(parser.readValueAs(JsonAdaptedFood.class).toModelType());
+                }
+                for (JsonAdaptedDailyFoodLog jsonAdaptedDailyFoodLog : unresolvedLogs) {
+                    addLog(consumptionRecord, jsonAdaptedDailyFoodLog.toModelType(foodTable));
+                }
+                unresolvedLogs.clear();
+            } else if (LOGS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                while (hasNextElement(parser)) {
+                    JsonAdaptedDailyFoodLog jsonAdaptedLog = parser.readValueAs(JsonAdaptedDailyFoodLog.class);
+                    if (foodTable == null) {
+                        unresolvedLogs.add(jsonAdaptedLog);
+                    } else {
+                        addLog(consumptionRecord, jsonAdaptedLog.toModelType(foodTable));
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of consumption record.");
+        }
+        for (JsonAdaptedDailyFoodLog jsonAdaptedDailyFoodLog : unresolvedLogs) {
+            addLog(consumptionRecord, jsonAdaptedDailyFoodLog.toModelType(new ArrayList<>()));
         }
         return consumptionRecord;
     }
+
+    /**
+     * Moves {@code parser} to the next element of the array it is in, and returns false if the array has ended.
+     */
+    private static boolean hasNextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of consumption record.");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    private static void addLog(ConsumptionRecord consumptionRecord, DailyFoodLog dailyFoodLog)
+            throws IllegalValueException {
+        if (consumptionRecord.hasLogWithSameDate(dailyFoodLog)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_DAILYFOODLOG);
+        }
+        consumptionRecord.addLog(dailyFoodLog);
+    }
 }
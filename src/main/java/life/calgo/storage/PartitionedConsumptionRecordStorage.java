@@ -0,0 +1,336 @@
+package life.calgo.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import life.calgo.commons.core.LogsCenter;
+import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.commons.util.FileUtil;
+import life.calgo.commons.util.JsonUtil;
+import life.calgo.model.ConsumptionArchive;
+import life.calgo.model.ConsumptionRecord;
+import life.calgo.model.ReadOnlyConsumptionRecord;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailySummary;
+
+/**
+ * A ConsumptionRecordStorage that keeps the consumption history in a directory, as one json file per month, such as
+ * {@code 2020-03.json}, next to a smaller file of the summary of each of its days, such as
+ * {@code 2020-03.summary.json}.
+ *
+ * Reading the consumption record only reads the months that overlap the recent days. Older months are available
+ * through {@link #getConsumptionArchive()}, which reads their summaries, and reads a month's logs only when a date in
+ * it is asked for. Saving rewrites only the months with a log that changed since it was last read or saved, so the
+ * cost of both stays the same as history grows.
+ *
+ * A date missing from a saved consumption record has been archived rather than deleted, since logs are never
+ * deleted, so its log is kept in its month.
+ * Each file is written to a temporary file first and then moved into place, so a month is never read half written.
+ */
+public class PartitionedConsumptionRecordStorage implements ConsumptionRecordStorage {
+
+    public static final String PARTITION_FILE_SUFFIX = ".json";
+    public static final String SUMMARY_FILE_SUFFIX = ".summary.json";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedConsumptionRecordStorage.class);
+    private static final Pattern PARTITION_FILE_NAME = Pattern.compile("\\d{4}-\\d{2}" + Pattern.quote(
+            PARTITION_FILE_SUFFIX));
+
+    private final Path directoryPath;
+    private final int recentDays;
+    private final ConsumptionRecordStorage legacyStorage;
+    private final Clock clock;
+    private final ConsumptionArchive archive = new PartitionArchive();
+    // the logs last read or saved by date, or null if there are none
+    private Map<LocalDate, DailyFoodLog> savedLogs;
+
+    /**
+     * Creates a storage for the directory at {@code directoryPath}, which reads the months overlapping the last
+     * {@code recentDays} days with the consumption record.
+     */
+    public PartitionedConsumptionRecordStorage(Path directoryPath, int recentDays) {
+        this(directoryPath, recentDays, null, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a storage like {@link #PartitionedConsumptionRecordStorage(Path, int)}, which moves the consumption
+     * record and archive of {@code legacyStorage} into the directory if the directory has no months yet.
+     */
+    public PartitionedConsumptionRecordStorage(Path directoryPath, int recentDays,
+                                               ConsumptionRecordStorage legacyStorage) {
+        this(directoryPath, recentDays, legacyStorage, Clock.systemDefaultZone());
+    }
+
+    PartitionedConsumptionRecordStorage(Path directoryPath, int recentDays, ConsumptionRecordStorage legacyStorage,
+                                        Clock clock) {
+        requireNonNull(directoryPath);
+        requireNonNull(clock);
+        this.directoryPath = directoryPath;
+        this.recentDays = recentDays;
+        this.legacyStorage = legacyStorage;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the path of the directory holding the months.
+     */
+    @Override
+    public Path getConsumptionRecordFilePath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns the months older than the recent days, in the same directory.
+     */
+    @Override
+    public ConsumptionArchive getConsumptionArchive() {
+        return archive;
+    }
+
+    /**
+     * Returns the logs of the months overlapping the recent days.
+     */
+    @Override
+    public Optional<ReadOnlyConsumptionRecord> readConsumptionRecord() throws DataConversionException, IOException {
+        moveLegacyData();
+        NavigableSet<YearMonth> months = listMonths(directoryPath);
+        if (months.isEmpty()) {
+            return Optional.empty();
+        }
+        ConsumptionRecord consumptionRecord = readMonths(directoryPath, months.tailSet(getFirstRecentMonth(), true));
+        savedLogs = new HashMap<>(consumptionRecord.getDateToLogMap());
+        return Optional.of(consumptionRecord);
+    }
+
+    /**
+     * Returns the logs of every month in the directory at {@code filePath}.
+     */
+    @Override
+    public Optional<ReadOnlyConsumptionRecord> readConsumptionRecord(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        NavigableSet<YearMonth> months = listMonths(filePath);
+        if (months.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(readMonths(filePath, months));
+    }
+
+    /**
+     * Rewrites the months with a log that changed since the consumption record was last read or saved.
+     */
+    @Override
+    public void saveConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord) throws IOException {
+        requireNonNull(consumptionRecord);
+        Map<LocalDate, DailyFoodLog> logs = new HashMap<>();
+        List<DailyFoodLog> changedLogs = new ArrayList<>();
+        for (DailyFoodLog foodLog : consumptionRecord.getDailyFoodLogs()) {
+            logs.put(foodLog.getLocalDate(), foodLog);
+            if (savedLogs == null || savedLogs.get(foodLog.getLocalDate()) != foodLog) {
+                changedLogs.add(foodLog);
+            }
+        }
+        writeLogs(directoryPath, changedLogs);
+        savedLogs = logs;
+    }
+
+    /**
+     * Writes every log in {@code consumptionRecord} to its month in the directory at {@code filePath}.
+     */
+    @Override
+    public void saveConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord, Path filePath)
+            throws IOException {
+        requireNonNull(consumptionRecord);
+        requireNonNull(filePath);
+        writeLogs(filePath, consumptionRecord.getDailyFoodLogs());
+    }
+
+    private YearMonth getFirstRecentMonth() {
+        return YearMonth.from(LocalDate.now(clock).minusDays(recentDays));
+    }
+
+    /**
+     * Moves the consumption record and archive of the legacy storage into the directory, if there is a legacy
+     * storage and the directory has no months yet. The legacy files are left as they are.
+     */
+    private void moveLegacyData() throws DataConversionException, IOException {
+        if (legacyStorage == null || !listMonths(directoryPath).isEmpty()) {
+            return;
+        }
+        List<DailyFoodLog> legacyLogs = new ArrayList<>(
+                legacyStorage.getConsumptionArchive().readLogs(LocalDate.MIN, LocalDate.MAX));
+        legacyStorage.readConsumptionRecord().ifPresent(record -> legacyLogs.addAll(record.getDailyFoodLogs()));
+        if (!legacyLogs.isEmpty()) {
+            writeLogs(directoryPath, legacyLogs);
+            logger.info("Moved " + legacyLogs.size() + " log(s) into " + directoryPath);
+        }
+    }
+
+    private static ConsumptionRecord readMonths(Path directoryPath, Collection<YearMonth> months)
+            throws DataConversionException {
+        ConsumptionRecord consumptionRecord = new ConsumptionRecord();
+        for (YearMonth month : months) {
+            for (DailyFoodLog foodLog : readPartition(directoryPath, month).values()) {
+                consumptionRecord.addLog(foodLog);
+            }
+        }
+        return consumptionRecord;
+    }
+
+    /**
+     * Writes {@code logs} to their months in the directory, keeping the other logs of those months.
+     */
+    private static void writeLogs(Path directoryPath, Collection<DailyFoodLog> logs) throws IOException {
+        Map<YearMonth, List<DailyFoodLog>> logsByMonth = new TreeMap<>();
+        for (DailyFoodLog foodLog : logs) {
+            logsByMonth.computeIfAbsent(YearMonth.from(foodLog.getLocalDate()), month -> new ArrayList<>())
+                    .add(foodLog);
+        }
+        for (Map.Entry<YearMonth, List<DailyFoodLog>> monthLogs : logsByMonth.entrySet()) {
+            writePartition(directoryPath, monthLogs.getKey(), monthLogs.getValue());
+        }
+    }
+
+    private static void writePartition(Path directoryPath, YearMonth month, List<DailyFoodLog> logs)
+            throws IOException {
+        TreeMap<LocalDate, DailyFoodLog> monthLogs;
+        try {
+            monthLogs = readPartition(directoryPath, month);
+        } catch (DataConversionException e) {
+            throw new IOException("Could not read " + getPartitionPath(directoryPath, month), e);
+        }
+        boolean isChanged = false;
+        for (DailyFoodLog foodLog : logs) {
+            isChanged |= !foodLog.equals(monthLogs.put(foodLog.getLocalDate(), foodLog));
+        }
+        if (!isChanged) {
+            return;
+        }
+        writeAtomically(new JsonSerializableConsumptionArchive(monthLogs.values()),
+                getPartitionPath(directoryPath, month));
+        writeAtomically(JsonSerializableConsumptionArchive.summariesOf(monthLogs.values()),
+                getSummaryPath(directoryPath, month));
+    }
+
+    private static TreeMap<LocalDate, DailyFoodLog> readPartition(Path directoryPath, YearMonth month)
+            throws DataConversionException {
+        TreeMap<LocalDate, DailyFoodLog> logs = new TreeMap<>();
+        Optional<JsonSerializableConsumptionArchive> partition = JsonUtil.readJsonFile(
+                getPartitionPath(directoryPath, month), JsonSerializableConsumptionArchive.class);
+        if (partition.isEmpty()) {
+            return logs;
+        }
+        try {
+            for (DailyFoodLog foodLog : partition.get().toModelLogs(LocalDate.MIN, LocalDate.MAX)) {
+                logs.put(foodLog.getLocalDate(), foodLog);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + getPartitionPath(directoryPath, month) + ": "
+                    + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return logs;
+    }
+
+    private static List<DailySummary> readSummaryFile(Path directoryPath, YearMonth month)
+            throws DataConversionException {
+        Optional<JsonSerializableConsumptionArchive> summaries = JsonUtil.readJsonFile(
+                getSummaryPath(directoryPath, month), JsonSerializableConsumptionArchive.class);
+        if (summaries.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return summaries.get().toModelSummaries();
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static void writeAtomically(Object json, Path filePath) throws IOException {
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createParentDirsOfFile(temporaryPath);
+        JsonUtil.saveJsonFile(json, temporaryPath);
+        Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the months that have a file in the directory, in order.
+     */
+    private static NavigableSet<YearMonth> listMonths(Path directoryPath) throws IOException {
+        NavigableSet<YearMonth> months = new TreeSet<>();
+        if (!Files.isDirectory(directoryPath)) {
+            return months;
+        }
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> PARTITION_FILE_NAME.matcher(fileName).matches())
+                    .forEach(fileName -> months.add(YearMonth.parse(
+                            fileName.substring(0, fileName.length() - PARTITION_FILE_SUFFIX.length()))));
+        }
+        return months;
+    }
+
+    private static Path getPartitionPath(Path directoryPath, YearMonth month) {
+        return directoryPath.resolve(month + PARTITION_FILE_SUFFIX);
+    }
+
+    private static Path getSummaryPath(Path directoryPath, YearMonth month) {
+        return directoryPath.resolve(month + SUMMARY_FILE_SUFFIX);
+    }
+
+    /**
+     * The months of the directory older than the recent days.
+     */
+    private class PartitionArchive implements ConsumptionArchive {
+
+        @Override
+        public List<DailySummary> readSummaries() throws DataConversionException, IOException {
+            List<DailySummary> summaries = new ArrayList<>();
+            for (YearMonth month : listMonths(directoryPath).headSet(getFirstRecentMonth(), false)) {
+                summaries.addAll(readSummaryFile(directoryPath, month));
+            }
+            return summaries;
+        }
+
+        @Override
+        public List<DailyFoodLog> readLogs(LocalDate from, LocalDate to) throws DataConversionException, IOException {
+            requireNonNull(from);
+            requireNonNull(to);
+            List<DailyFoodLog> logs = new ArrayList<>();
+            if (from.isAfter(to)) {
+                return logs;
+            }
+            for (YearMonth month : listMonths(directoryPath).subSet(YearMonth.from(from), true,
+                    YearMonth.from(to), true)) {
+                logs.addAll(readPartition(directoryPath, month).subMap(from, true, to, true).values());
+            }
+            return logs;
+        }
+
+        @Override
+        public void writeLogs(Collection<DailyFoodLog> logs) throws IOException {
+            requireNonNull(logs);
+            PartitionedConsumptionRecordStorage.writeLogs(directoryPath, logs);
+        }
+    }
+}
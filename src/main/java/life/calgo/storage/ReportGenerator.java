@@ -131,13 +131,10 @@ public class ReportGenerator extends DocumentGenerator {
      * Updates aggregate statistics based on DailyFoodLog attribute.
      */
     private void updateStatistics() {
-        for (Food food : queryLog.getFoods()) {
-            double portion = queryLog.getPortion(food);
-            totalCalories += portion * (double) Integer.parseInt(food.getCalorie().value);
-            totalProteins += portion * (double) Integer.parseInt(food.getProtein().value);
-            totalCarbs += portion * (double) Integer.parseInt(food.getCarbohydrate().value);
-            totalFats += portion * (double) Integer.parseInt(food.getFat().value);
-        }
+        totalCalories = queryLog.getTotalCalories();
+        totalProteins = queryLog.getTotalProteins();
+        totalCarbs = queryLog.getTotalCarbohydrates();
+        totalFats = queryLog.getTotalFats();
     }
 
     // Overriding Printing Methods
@@ -245,9 +242,10 @@ public class ReportGenerator extends DocumentGenerator {
      * Writes the main information in the table of the Foodwise Statistics section.
      */
     private void printFoodwiseStatisticsTableData() {
-        for (Food food : queryLog.getFoods()) {
-            double portion = queryLog.getPortion(food);
-            double currCalories = portion * (double) Integer.parseInt(food.getCalorie().value);
+        for (DailyFoodLog.Entry entry : queryLog) {
+            Food food = entry.getFood();
+            double portion = entry.getPortion();
+            double currCalories = portion * food.getCalorie().getNumericValue();
 
             // wrap name in the case it is too long
             String foodColumn = generateWrappedNameString(food.getName(), NAME_COLUMN_WIDTH);
@@ -385,7 +383,7 @@ public class ReportGenerator extends DocumentGenerator {
         printWriter.println(String.format(FAVOURITE_FOOD_MESSAGE, favouriteFoodName));
         printEmptyLine();
 
-        int favouriteFoodCalories = Integer.parseInt(favouriteFood.getCalorie().value);
+        int favouriteFoodCalories = favouriteFood.getCalorie().getNumericValue();
         int difference = userGoal.getGoal() - favouriteFoodCalories;
 
         // if Goal is not set, cannot form personalised suggestions
@@ -514,32 +512,32 @@ public class ReportGenerator extends DocumentGenerator {
      * Updates all portions and all ratings of all food items from a specific DailyFoodLog.
      */
     private void updateAllPortionAndRatings(HashMap<Food, double[]> foodHashMap, DailyFoodLog foodLog) {
-        for (Food food : foodLog.getFoods()) {
-            updateFoodPortionsAndRatings(foodHashMap, foodLog, food);
+        for (DailyFoodLog.Entry entry : foodLog) {
+            updateFoodPortionsAndRatings(foodHashMap, entry);
         }
     }
 
     /**
-     * Updates portions and ratings of a specific Food item with the values from a specific DailyFoodLog.
+     * Updates portions and ratings of a specific Food item with the values from an entry of a DailyFoodLog.
      */
-    private void updateFoodPortionsAndRatings(HashMap<Food, double[]> foodHashMap, DailyFoodLog foodLog, Food food) {
+    private void updateFoodPortionsAndRatings(HashMap<Food, double[]> foodHashMap, DailyFoodLog.Entry entry) {
+        Food food = entry.getFood();
+        double rating = entry.getRating();
         double[] data = new double[2];
         if (foodHashMap.containsKey(food)) {
             data = foodHashMap.get(food);
             double oldPortion = data[0];
-            double newPortion = oldPortion + foodLog.getPortion(food);
-            double rating = foodLog.getRating(food);
+            double newPortion = oldPortion + entry.getPortion();
 
             data[0] = newPortion;
             if (rating != DailyFoodLog.RATING_DUMMY_VALUE) {
-                data[1] = (foodLog.getRating(food) * oldPortion + foodLog.getRating(food)) / newPortion;
+                data[1] = (rating * oldPortion + rating) / newPortion;
             }
         } else {
-            double rating = foodLog.getRating(food);
             if (rating != DailyFoodLog.RATING_DUMMY_VALUE) {
-                data[1] = foodLog.getRating(food);
+                data[1] = rating;
             }
-            data[0] = foodLog.getPortion(food);
+            data[0] = entry.getPortion();
         }
 
         foodHashMap.put(food, data);
@@ -577,7 +575,7 @@ public class ReportGenerator extends DocumentGenerator {
         ArrayList<Food> foodList = new ArrayList<>(foodHashMap.keySet());
         // in case all foods have same ratings and portion, 1st item should be the food with most calories.
         foodList.sort((Food f1, Food f2) ->
-                Integer.parseInt(f2.getCalorie().value) - Integer.parseInt(f1.getCalorie().value));
+                Integer.compare(f2.getCalorie().getNumericValue(), f1.getCalorie().getNumericValue()));
         // compare with portions and ratings
         foodList.sort((Food f1, Food f2) -> compare(f1, f2, foodHashMap));
         return foodList.get(0);
@@ -0,0 +1,55 @@
+package life.calgo.storage;
+
+import java.util.OptionalLong;
+
+/**
+ * Remembers which version of a component was last saved to its data file, so that saving the same version again
+ * can be skipped, and which version was last written there, so that only what changed since then need be copied
+ * for writing. A version is saved when it is handed over to be written, which may be before it has been written.
+ * A version is only comparable with others of the same object, so the object itself is remembered along with it.
+ * It may be updated by the thread writing the data file while another thread checks it.
+ */
+class SavedVersion {
+
+    private Object savedSource;
+    private long savedVersion;
+    private Object writtenSource;
+    private long writtenVersion;
+
+    /**
+     * Returns true if {@code version} of {@code source} is the one last saved.
+     */
+    synchronized boolean isSaved(Object source, long version) {
+        return source == savedSource && version == savedVersion;
+    }
+
+    /**
+     * Records that {@code version} of {@code source} has been saved.
+     */
+    synchronized void setSaved(Object source, long version) {
+        savedSource = source;
+        savedVersion = version;
+    }
+
+    /**
+     * Records that {@code version} of {@code source} has been written.
+     */
+    synchronized void setWritten(Object source, long version) {
+        writtenSource = source;
+        writtenVersion = version;
+    }
+
+    /**
+     * Returns the version of {@code source} last written, or an empty OptionalLong if none was.
+     */
+    synchronized OptionalLong getWrittenVersion(Object source) {
+        return source == writtenSource ? OptionalLong.of(writtenVersion) : OptionalLong.empty();
+    }
+
+    /**
+     * Forgets the version last saved, so that the next save is not skipped.
+     */
+    synchronized void clear() {
+        savedSource = null;
+    }
+}
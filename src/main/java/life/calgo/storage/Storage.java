@@ -16,6 +16,13 @@ import life.calgo.model.UserPrefs;
  */
 public interface Storage extends UserPrefsStorage, FoodRecordStorage, ConsumptionRecordStorage, GoalStorage {
 
+    /**
+     * Waits until every data file saved so far has been written.
+     *
+     * @throws IOException If there was any problem when writing a data file.
+     */
+    void flush() throws IOException;
+
     // UserPrefs-related methods
 
     /**
@@ -132,5 +139,13 @@ public interface Storage extends UserPrefsStorage, FoodRecordStorage, Consumptio
     @Override
     public void saveGoal(ReadOnlyGoal goal) throws IOException;
 
+    /**
+     * Records that {@code goal} holds the same goal as the goal file last read by {@link #readGoal()}, so that
+     * saving it unchanged does not write the file.
+     *
+     * @param goal The copy of the ReadOnlyGoal read, which cannot be null.
+     */
+    void setSavedGoal(ReadOnlyGoal goal);
+
 
 }
@@ -1,14 +1,17 @@
 package life.calgo.storage;
 
+import static java.util.Objects.requireNonNull;
 import static life.calgo.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import life.calgo.commons.core.LogsCenter;
 import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.model.ConsumptionArchive;
 import life.calgo.model.ReadOnlyConsumptionRecord;
 import life.calgo.model.ReadOnlyFoodRecord;
 import life.calgo.model.ReadOnlyGoal;
@@ -18,6 +21,14 @@ import life.calgo.model.UserPrefs;
 /**
  * Manages storage of FoodRecord data in local storage.
  * Refer to Storage.java for API and javadocs.
+ *
+ * Saving a component to its default data file is skipped if the same version of it was the last one saved there,
+ * so commands that change nothing do not write anything.
+ *
+ * Optionally, default data files are written by a {@link BackgroundWriter} from copies of the components taken when
+ * they are saved, so that saving returns without waiting for the disk and back-to-back saves of a component are
+ * written once. Once a version of a record has been written, the copies hold only what changed in it since then.
+ * A background write that fails is reported by the next save, or by {@link #flush()}.
  */
 public class StorageManager implements Storage {
 
@@ -26,15 +37,77 @@ public class StorageManager implements Storage {
     private ConsumptionRecordStorage consumptionRecordStorage;
     private UserPrefsStorage userPrefsStorage;
     private GoalStorage goalStorage;
+    private final SavedVersion savedFoodRecord = new SavedVersion();
+    private final SavedVersion savedConsumptionRecord = new SavedVersion();
+    private final SavedVersion savedGoal = new SavedVersion();
+    // null if default data files are written by the thread saving them
+    private final BackgroundWriter backgroundWriter;
 
     public StorageManager(FoodRecordStorage foodRecordStorage, ConsumptionRecordStorage consumptionRecordStorage,
                           UserPrefsStorage userPrefsStorage, GoalStorage goalStorage) {
+        this(foodRecordStorage, consumptionRecordStorage, userPrefsStorage, goalStorage, false);
+    }
+
+    /**
+     * Creates a StorageManager that writes default data files in the background if {@code isWritingInBackground}.
+     */
+    public StorageManager(FoodRecordStorage foodRecordStorage, ConsumptionRecordStorage consumptionRecordStorage,
+                          UserPrefsStorage userPrefsStorage, GoalStorage goalStorage, boolean isWritingInBackground) {
         super();
         requireAllNonNull(foodRecordStorage, consumptionRecordStorage, userPrefsStorage, goalStorage);
         this.foodRecordStorage = foodRecordStorage;
         this.consumptionRecordStorage = consumptionRecordStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.goalStorage = goalStorage;
+        this.backgroundWriter = isWritingInBackground ? new BackgroundWriter() : null;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (backgroundWriter != null) {
+            backgroundWriter.flush();
+        }
+    }
+
+    /**
+     * Writes the default data file at {@code filePath} with the write prepared by {@code prepareWrite}, unless
+     * {@code version} of {@code source} was the last one saved there. The write is prepared by the calling thread.
+     */
+    private void save(SavedVersion saved, Object source, long version, Path filePath,
+                      Supplier<BackgroundWriter.Write> prepareWrite) throws IOException {
+        if (saved.isSaved(source, version)) {
+            return;
+        }
+        logger.fine("Attempting to write to data file: " + filePath);
+        BackgroundWriter.Write write = prepareWrite.get();
+        saved.setSaved(source, version);
+        try {
+            if (backgroundWriter == null) {
+                write.run();
+                saved.setWritten(source, version);
+            } else {
+                backgroundWriter.submit(filePath.toString(), () -> {
+                    try {
+                        write.run();
+                        saved.setWritten(source, version);
+                    } catch (IOException | RuntimeException e) {
+                        saved.clear();
+                        throw e;
+                    }
+                });
+            }
+        } catch (IOException | RuntimeException e) {
+            saved.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Records that the current version of {@code source} is the one in its default data file, both saved and written.
+     */
+    private static void setSaved(SavedVersion saved, Object source, long version) {
+        saved.setSaved(source, version);
+        saved.setWritten(source, version);
     }
 
     // UserPrefs-related methods
@@ -63,7 +136,8 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyFoodRecord> readFoodRecord() throws DataConversionException, IOException {
-        return readFoodRecord(foodRecordStorage.getFoodRecordFilePath());
+        logger.fine("Attempting to read data from file: " + foodRecordStorage.getFoodRecordFilePath());
+        return foodRecordStorage.readFoodRecord();
     }
 
     /**
@@ -79,7 +153,19 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveFoodRecord(ReadOnlyFoodRecord foodRecord) throws IOException {
-        saveFoodRecord(foodRecord, foodRecordStorage.getFoodRecordFilePath());
+        save(savedFoodRecord, foodRecord, foodRecord.getVersion(), foodRecordStorage.getFoodRecordFilePath(), () -> {
+            ReadOnlyFoodRecord toWrite = backgroundWriter == null
+                    ? foodRecord
+                    : FoodRecordSnapshot.of(foodRecord, savedFoodRecord.getWrittenVersion(foodRecord));
+            return () -> foodRecordStorage.saveFoodRecord(toWrite);
+        });
+    }
+
+    @Override
+    public void setSavedFoodRecord(ReadOnlyFoodRecord foodRecord) {
+        requireNonNull(foodRecord);
+        setSaved(savedFoodRecord, foodRecord, foodRecord.getVersion());
+        foodRecordStorage.setSavedFoodRecord(foodRecord);
     }
 
     /**
@@ -100,9 +186,15 @@ public class StorageManager implements Storage {
         return consumptionRecordStorage.getConsumptionRecordFilePath();
     }
 
+    @Override
+    public ConsumptionArchive getConsumptionArchive() {
+        return consumptionRecordStorage.getConsumptionArchive();
+    }
+
     @Override
     public Optional<ReadOnlyConsumptionRecord> readConsumptionRecord() throws DataConversionException, IOException {
-        return readConsumptionRecord(consumptionRecordStorage.getConsumptionRecordFilePath());
+        logger.fine("Attempting to read from file: " + consumptionRecordStorage.getConsumptionRecordFilePath());
+        return consumptionRecordStorage.readConsumptionRecord();
     }
 
     /**
@@ -119,7 +211,21 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord) throws IOException {
-        saveConsumptionRecord(consumptionRecord, consumptionRecordStorage.getConsumptionRecordFilePath());
+        save(savedConsumptionRecord, consumptionRecord, consumptionRecord.getVersion(),
+                consumptionRecordStorage.getConsumptionRecordFilePath(), () -> {
+                    ReadOnlyConsumptionRecord toWrite = backgroundWriter == null
+                            ? consumptionRecord
+                            : ConsumptionRecordSnapshot.of(consumptionRecord,
+                                    savedConsumptionRecord.getWrittenVersion(consumptionRecord));
+                    return () -> consumptionRecordStorage.saveConsumptionRecord(toWrite);
+                });
+    }
+
+    @Override
+    public void setSavedConsumptionRecord(ReadOnlyConsumptionRecord consumptionRecord) {
+        requireNonNull(consumptionRecord);
+        setSaved(savedConsumptionRecord, consumptionRecord, consumptionRecord.getVersion());
+        consumptionRecordStorage.setSavedConsumptionRecord(consumptionRecord);
     }
 
     /**
@@ -142,7 +248,8 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyGoal> readGoal() throws DataConversionException, IOException {
-        return readGoal(goalStorage.getGoalFilePath());
+        logger.fine("Attempting to read from file: " + goalStorage.getGoalFilePath());
+        return goalStorage.readGoal();
     }
 
     /**
@@ -158,7 +265,14 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveGoal(ReadOnlyGoal goal) throws IOException {
-        saveGoal(goal, goalStorage.getGoalFilePath());
+        // DailyGoal is immutable, so it needs no copy
+        save(savedGoal, goal, goal.getVersion(), goalStorage.getGoalFilePath(), () -> () -> goalStorage.saveGoal(goal));
+    }
+
+    @Override
+    public void setSavedGoal(ReadOnlyGoal goal) {
+        requireNonNull(goal);
+        setSaved(savedGoal, goal, goal.getVersion());
     }
 
     /**
@@ -1,8 +1,8 @@
 package life.calgo.ui;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.TreeMap;
 
 import javafx.scene.chart.CategoryAxis;
@@ -22,8 +22,9 @@ public class GraphPanel extends UiPart<Region> {
 
     private static GraphPanel graphPanelInstance = null;
     private static final String FXML = "GraphPanel.fxml";
+    private static final int DAYS_SHOWN = 7;
 
-    private ArrayList<DailyFoodLog> pastWeekLogs;
+    private NavigableMap<LocalDate, DailyFoodLog> pastWeekLogs;
     private Map<LocalDate, Double> caloriesAgainstDate = new TreeMap<>();
     private CategoryAxis xAxis = new CategoryAxis();
     private NumberAxis yAxis = new NumberAxis();
@@ -63,7 +64,7 @@ public class GraphPanel extends UiPart<Region> {
     }
 
     private void setPastWeekLogs(Logic logic) {
-        pastWeekLogs = logic.getPastWeekLogs();
+        pastWeekLogs = logic.getLogsBetween(date.minusDays(DAYS_SHOWN - 1), date);
     }
 
     /**
@@ -73,14 +74,14 @@ public class GraphPanel extends UiPart<Region> {
      */
     private void initialiseTreeMap(Logic logic) {
         caloriesAgainstDate.clear();
-        setPastWeekLogs(logic);
         date = logic.getDate();
+        setPastWeekLogs(logic);
 
-        for (int counter = pastWeekLogs.size() - 1; counter >= 0; counter--) {
+        for (int counter = DAYS_SHOWN - 1; counter >= 0; counter--) {
             LocalDate logDate = date.minusDays(counter);
 
-            DailyFoodLog log = pastWeekLogs.get(counter);
-            Double totalCalories = log.getTotalCalories();
+            DailyFoodLog log = pastWeekLogs.get(logDate);
+            Double totalCalories = log == null ? 0.0 : log.getTotalCalories();
             caloriesAgainstDate.put(logDate, totalCalories);
         }
     }
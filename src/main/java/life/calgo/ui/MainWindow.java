@@ -23,6 +23,7 @@ import life.calgo.logic.commands.CommandResult;
 import life.calgo.logic.commands.HelpCommand;
 import life.calgo.logic.commands.exceptions.CommandException;
 import life.calgo.logic.parser.exceptions.ParseException;
+import life.calgo.model.day.ConsumptionTrends;
 import life.calgo.model.day.DailyGoal;
 import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
@@ -41,6 +42,8 @@ public class MainWindow extends UiPart<Stage> {
             + "daily caloric goals.";
     private static final String POSITIVE_CALORIES_MESSAGE = "%s calories left for the day";
     private static final String NEGATIVE_CALORIES_MESSAGE = "Exceeded %s calories for the day";
+    private static final String WITHIN_GOAL_STREAK_MESSAGE = ", within goal %d day(s) in a row";
+    private static final String OVER_GOAL_STREAK_MESSAGE = ", over goal %d day(s) in a row";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -184,10 +187,16 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills Goal stack pane with daily goal data.
+     * Fills Goal stack pane with daily goal data and the trend of recent consumption against it.
      */
     private void fillGoal() {
-        goalDisplay.setGoalOfUser(logic.getDailyGoal().toString());
+        ConsumptionTrends trends = logic.getConsumptionTrends();
+        String streak = "";
+        if (trends.getStreakLength() > 0) {
+            streak = String.format(trends.isStreakWithinGoal() ? WITHIN_GOAL_STREAK_MESSAGE : OVER_GOAL_STREAK_MESSAGE,
+                    trends.getStreakLength());
+        }
+        goalDisplay.setGoalOfUser(logic.getDailyGoal().toString() + "\n" + trends + streak);
     }
 
     /**
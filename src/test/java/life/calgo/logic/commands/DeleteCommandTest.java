@@ -50,6 +50,14 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_FOOD_DOES_NOT_EXISTS_IN_RECORD);
     }
 
+    @Test
+    public void execute_misspeltFoodDelete_throwsCommandExceptionWithSuggestion() {
+        DeleteCommand deleteCommand = new DeleteCommand(new FoodBuilder().withName("Granloa").build());
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_FOOD_DOES_NOT_EXISTS_IN_RECORD
+                + String.format(Command.MESSAGE_DID_YOU_MEAN, TypicalFoodItems.GRANOLA.getName().fullName));
+    }
+
     @Test
     public void execute_validIndexFilteredList_success() {
         showFoodAtIndex(model, TypicalIndexes.INDEX_FIRST_FOOD);
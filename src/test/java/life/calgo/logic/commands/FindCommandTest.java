@@ -8,10 +8,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import life.calgo.model.ConsumptionRecord;
+import life.calgo.model.FoodRecord;
 import life.calgo.model.Model;
 import life.calgo.model.ModelManager;
 import life.calgo.model.UserPrefs;
@@ -19,17 +22,20 @@ import life.calgo.model.day.DailyGoal;
 import life.calgo.model.food.Calorie;
 import life.calgo.model.food.Carbohydrate;
 import life.calgo.model.food.Fat;
+import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
 import life.calgo.model.food.Protein;
 import life.calgo.model.food.predicates.CalorieContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.CarbohydrateContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.FatContainsKeywordsPredicate;
+import life.calgo.model.food.predicates.IndexedFoodPredicate;
 import life.calgo.model.food.predicates.NameContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.ProteinContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.TagContainsKeywordsPredicate;
 import life.calgo.model.tag.Tag;
 
 import life.calgo.testutil.Assert;
+import life.calgo.testutil.FoodBuilder;
 import life.calgo.testutil.TypicalFoodItems;
 
 /**
@@ -203,6 +209,51 @@ public class FindCommandTest {
                 model.getFilteredFoodRecord());
     }
 
+    @Test
+    public void execute_thenFoundFoodUpdated_filteredListFollowsUpdate() {
+        new FindCommand(prepareNameContainsKeywordsPredicate("Duck")).execute(model);
+
+        Food stillMatching = new FoodBuilder(TypicalFoodItems.DUCK_RICE).withCalorie("1").build();
+        model.setFood(TypicalFoodItems.DUCK_RICE, stillMatching);
+        assertEquals(Arrays.asList(stillMatching), model.getFilteredFoodRecord());
+
+        Food noLongerMatching = new FoodBuilder(stillMatching).withName("Goose Rice").build();
+        model.setFood(stillMatching, noLongerMatching);
+        assertTrue(model.getFilteredFoodRecord().isEmpty());
+    }
+
+    @Test
+    public void execute_nameOrTagKeywords_showsIndexMatchesWithoutTestingEveryFood() {
+        FoodRecord foodRecord = new FoodRecord();
+        for (int i = 0; i < 1000; i++) {
+            String name = "Food " + i + (i % 7 == 0 ? " Pie" : "");
+            foodRecord.addFood(new FoodBuilder(TypicalFoodItems.APPLE).withName(name)
+                    .withTags(i % 11 == 0 ? "Pastry" : "Fruit").build());
+        }
+        Model largeModel = new ModelManager(foodRecord, new ConsumptionRecord(), new UserPrefs(), new DailyGoal());
+
+        for (IndexedFoodPredicate predicate : Arrays.asList(prepareNameContainsKeywordsPredicate("pie"),
+                prepareTagContainsKeywordsPredicate("TRY"))) {
+            List<Food> expected = foodRecord.getFoodList().stream().filter(predicate).collect(Collectors.toList());
+            int[] testCount = {0};
+            new FindCommand(new IndexedFoodPredicate() {
+                @Override
+                public List<Food> findMatches(FoodRecord record) {
+                    return predicate.findMatches(record);
+                }
+
+                @Override
+                public boolean test(Food food) {
+                    testCount[0]++;
+                    return predicate.test(food);
+                }
+            }).execute(largeModel);
+
+            assertEquals(expected, largeModel.getFilteredFoodRecord());
+            assertEquals(0, testCount[0]);
+        }
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
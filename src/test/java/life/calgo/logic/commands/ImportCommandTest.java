@@ -0,0 +1,117 @@
+package life.calgo.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import life.calgo.logic.commands.exceptions.CommandException;
+import life.calgo.model.ConsumptionRecord;
+import life.calgo.model.Model;
+import life.calgo.model.ModelManager;
+import life.calgo.model.UserPrefs;
+import life.calgo.model.day.DailyGoal;
+import life.calgo.model.food.Calorie;
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Name;
+import life.calgo.storage.FoodImporter;
+import life.calgo.testutil.Assert;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(TypicalFoodItems.getTypicalFoodRecord(), new ConsumptionRecord(),
+            new UserPrefs(), new DailyGoal());
+
+    @Test
+    public void execute_csvWithInvalidRows_importsValidRowsAndReportsErrors() throws Exception {
+        Path file = writeFile("foods.csv",
+                "name,calorie,protein,carbohydrate,fat,tags",
+                "Kiwi,150,2,25,3,Green;Sweet",
+                "",
+                "Almond,999,20,20,10",
+                "Bad Row,abc,1,1,1",
+                "kiwi,10,1,1,1",
+                "Too,Few");
+
+        CommandResult result = new ImportCommand(file, FoodImporter.Format.CSV).execute(model);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, 1, 0)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, 3)
+                + "\n" + String.format(FoodImporter.MESSAGE_ROW_ERROR, 5, Calorie.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(FoodImporter.MESSAGE_ROW_ERROR, 6,
+                        String.format(FoodImporter.MESSAGE_DUPLICATE_ROW, "kiwi", 2))
+                + "\n" + String.format(FoodImporter.MESSAGE_ROW_ERROR, 7,
+                        String.format(FoodImporter.MESSAGE_WRONG_COLUMN_COUNT, 2));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+
+        Food kiwi = model.getFoodByName(new Name("Kiwi")).get();
+        assertEquals(2, kiwi.getTags().size());
+        assertEquals("999", model.getFoodByName(new Name("Almond")).get().getCalorie().value);
+        assertFalse(model.getFoodByName(new Name("Bad Row")).isPresent());
+        assertEquals(TypicalFoodItems.getTypicalFoodItems().size() + 1, model.getFilteredFoodRecord().size());
+    }
+
+    @Test
+    public void execute_jsonLines_importsFoodsInSortedOrder() throws Exception {
+        Path file = writeFile("foods.jsonl",
+                "{\"name\":\"Zucchini\",\"calorie\":\"20\",\"protein\":\"1\",\"carbohydrate\":\"3\",\"fat\":\"0\"}",
+                "not json",
+                "{\"name\":\"Apple\",\"calorie\":\"100\",\"protein\":\"3\",\"carbohydrate\":\"40\",\"fat\":\"1\"}");
+
+        CommandResult result = new ImportCommand(file, FoodImporter.Format.JSON_LINES).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 0, 0)));
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(FoodImporter.MESSAGE_ROW_ERROR, 2, FoodImporter.MESSAGE_INVALID_JSON)));
+        assertEquals(TypicalFoodItems.APPLE, model.getFilteredFoodRecord().get(1));
+        assertEquals(new Name("Zucchini"), model.getFilteredFoodRecord()
+                .get(model.getFilteredFoodRecord().size() - 1).getName());
+    }
+
+    @Test
+    public void execute_foodIdenticalToExisting_reportedUnchanged() throws Exception {
+        Path file = writeFile("foods.csv",
+                "Almond,95,20,20,10,fruit",
+                "Granola,301,10,40,3",
+                "Kiwi,150,2,25,3");
+
+        CommandResult result = new ImportCommand(file, FoodImporter.Format.CSV).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 1, 1), result.getFeedbackToUser());
+        assertEquals(TypicalFoodItems.ALMOND, model.getFoodByName(new Name("Almond")).get());
+        assertEquals("301", model.getFoodByName(new Name("Granola")).get().getCalorie().value);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        Assert.assertThrows(CommandException.class,
+                String.format(ImportCommand.MESSAGE_FILE_ERROR, file), () ->
+                new ImportCommand(file, FoodImporter.Format.CSV).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsv = new ImportCommand(Path.of("foods.csv"), FoodImporter.Format.CSV);
+        assertTrue(importCsv.equals(new ImportCommand(Path.of("foods.csv"), FoodImporter.Format.CSV)));
+        assertFalse(importCsv.equals(new ImportCommand(Path.of("other.csv"), FoodImporter.Format.CSV)));
+        assertFalse(importCsv.equals(null));
+    }
+
+    private Path writeFile(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
@@ -0,0 +1,47 @@
+package life.calgo.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import life.calgo.model.ConsumptionRecord;
+import life.calgo.model.Model;
+import life.calgo.model.ModelManager;
+import life.calgo.model.UserPrefs;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailyGoal;
+import life.calgo.model.food.Nutrient;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class TrendCommandTest {
+
+    private Model getModelWithGoal(int goal) {
+        Model model = new ModelManager(TypicalFoodItems.getTypicalFoodRecord(), new ConsumptionRecord(),
+                new UserPrefs(), new DailyGoal(goal));
+        LocalDate today = model.getDate();
+        for (int day = 0; day < 3; day++) {
+            model.addLog(new DailyFoodLog().setDate(today.minusDays(day)).consume(TypicalFoodItems.APPLE, 2));
+        }
+        return model;
+    }
+
+    @Test
+    public void execute_withinGoal_showsAveragesAndStreak() {
+        Model model = getModelWithGoal(10000);
+        String feedback = new TrendCommand().execute(model).getFeedbackToUser();
+
+        double calories = 2 * Nutrient.CALORIE.valueOf(TypicalFoodItems.APPLE);
+        assertTrue(feedback.contains(String.format("Past 7 days (3 logged): %.0f calories", calories)));
+        assertTrue(feedback.contains(String.format(TrendCommand.MESSAGE_WITHIN_GOAL_STREAK, 3)));
+        assertTrue(feedback.contains(TrendCommand.MESSAGE_NO_UNUSUAL_DAYS));
+    }
+
+    @Test
+    public void execute_overGoal_showsOverGoalStreak() {
+        Model model = getModelWithGoal(1);
+        String feedback = new TrendCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(String.format(TrendCommand.MESSAGE_OVER_GOAL_STREAK, 3)));
+    }
+}
@@ -10,6 +10,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import life.calgo.commons.core.GuiSettings;
+import life.calgo.model.ConsumptionArchive;
 import life.calgo.model.ConsumptionRecord;
 import life.calgo.model.FoodRecord;
 import life.calgo.model.Model;
@@ -25,11 +29,15 @@ import life.calgo.model.ReadOnlyConsumptionRecord;
 import life.calgo.model.ReadOnlyFoodRecord;
 import life.calgo.model.ReadOnlyUserPrefs;
 import life.calgo.model.UserPrefs;
+import life.calgo.model.day.ConsumptionTrends;
 import life.calgo.model.day.DailyFoodLog;
 import life.calgo.model.day.DailyGoal;
+import life.calgo.model.day.RollupBucket;
+import life.calgo.model.day.RollupPeriod;
 import life.calgo.model.food.DisplayFood;
 import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
+import life.calgo.model.food.Nutrient;
 import life.calgo.testutil.Assert;
 import life.calgo.testutil.FoodBuilder;
 
@@ -150,6 +158,11 @@ public class UpdateCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void importFoods(List<Food> foods) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setFoodRecord(ReadOnlyFoodRecord newData) {
             throw new AssertionError("This method should not be called.");
@@ -210,6 +223,31 @@ public class UpdateCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Food> getFoodsInRange(Nutrient nutrient, int lowerBound, int upperBound) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Food> getFoodsWithNameContaining(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Food> getFoodsWithTagContaining(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Food> getSimilarFood(String foodName, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Food> getClosestFood(String foodName, int maxDistance, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasLogWithSameDate(DailyFoodLog foodLog) {
             throw new AssertionError("This method should not be called.");
@@ -226,7 +264,7 @@ public class UpdateCommandTest {
         }
 
         @Override
-        public void updateLog(DailyFoodLog logAfterConsumption) {
+        public void updateLog(DailyFoodLog logAfterConsumption, Food changedFood) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -269,6 +307,26 @@ public class UpdateCommandTest {
         public ArrayList<DailyFoodLog> getPastWeekLogs() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public NavigableMap<LocalDate, DailyFoodLog> getLogsBetween(LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<RollupBucket> getRollups(RollupPeriod period, LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ConsumptionTrends getConsumptionTrends() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setConsumptionArchive(ConsumptionArchive archive, int horizonDays) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
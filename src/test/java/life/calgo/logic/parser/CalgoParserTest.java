@@ -12,6 +12,7 @@ import life.calgo.logic.commands.ExitCommand;
 import life.calgo.logic.commands.FindCommand;
 import life.calgo.logic.commands.HelpCommand;
 import life.calgo.logic.commands.ListCommand;
+import life.calgo.logic.commands.TrendCommand;
 import life.calgo.logic.commands.UpdateCommand;
 import life.calgo.logic.parser.exceptions.ParseException;
 import life.calgo.model.Model;
@@ -71,6 +72,12 @@ public class CalgoParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(new Name(keywords))), command);
     }
 
+    @Test
+    public void parseCommand_trend() throws Exception {
+        assertTrue(parser.parseCommand(TrendCommand.COMMAND_WORD) instanceof TrendCommand);
+        assertTrue(parser.parseCommand(TrendCommand.COMMAND_WORD + " 3") instanceof TrendCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -11,11 +11,13 @@ import life.calgo.model.food.Calorie;
 import life.calgo.model.food.Carbohydrate;
 import life.calgo.model.food.Fat;
 import life.calgo.model.food.Name;
+import life.calgo.model.food.Nutrient;
 import life.calgo.model.food.Protein;
 import life.calgo.model.food.predicates.CalorieContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.CarbohydrateContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.FatContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.NameContainsKeywordsPredicate;
+import life.calgo.model.food.predicates.NutrientInRangePredicate;
 import life.calgo.model.food.predicates.ProteinContainsKeywordsPredicate;
 import life.calgo.model.food.predicates.TagContainsKeywordsPredicate;
 import life.calgo.model.tag.Tag;
@@ -97,6 +99,33 @@ public class FindCommandParserTest {
 
     }
 
+    @Test
+    public void parse_validRanges_returnsFindCommand() {
+        CommandParserTestUtil.assertParseSuccess(parser, "find cal/<300",
+                new FindCommand(new NutrientInRangePredicate(Nutrient.CALORIE, 0, 299)));
+        CommandParserTestUtil.assertParseSuccess(parser, "find cal/ <= 300 ",
+                new FindCommand(new NutrientInRangePredicate(Nutrient.CALORIE, 0, 300)));
+        CommandParserTestUtil.assertParseSuccess(parser, "find p/>20",
+                new FindCommand(new NutrientInRangePredicate(Nutrient.PROTEIN, 21, Integer.MAX_VALUE)));
+        CommandParserTestUtil.assertParseSuccess(parser, "find p/>=20",
+                new FindCommand(new NutrientInRangePredicate(Nutrient.PROTEIN, 20, Integer.MAX_VALUE)));
+        CommandParserTestUtil.assertParseSuccess(parser, "find c/10-40",
+                new FindCommand(new NutrientInRangePredicate(Nutrient.CARBOHYDRATE, 10, 40)));
+        CommandParserTestUtil.assertParseSuccess(parser, "find f/ 5 - 5 ",
+                new FindCommand(new NutrientInRangePredicate(Nutrient.FAT, 5, 5)));
+    }
+
+    @Test
+    public void parse_invalidRanges_throwsParseException() {
+        // empty range
+        CommandParserTestUtil.assertParseFailure(parser, "find cal/<0", FindCommandParser.MESSAGE_INVALID_RANGE);
+        CommandParserTestUtil.assertParseFailure(parser, "find c/40-10", FindCommandParser.MESSAGE_INVALID_RANGE);
+        // malformed range
+        CommandParserTestUtil.assertParseFailure(parser, "find p/<>20", FindCommandParser.MESSAGE_INVALID_RANGE);
+        CommandParserTestUtil.assertParseFailure(parser, "find f/10-", FindCommandParser.MESSAGE_INVALID_RANGE);
+        CommandParserTestUtil.assertParseFailure(parser, "find cal/<123456", FindCommandParser.MESSAGE_INVALID_RANGE);
+    }
+
     @Test
     public void parse_invalidArguments_returnsException() {
 
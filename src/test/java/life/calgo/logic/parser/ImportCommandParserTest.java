@@ -0,0 +1,31 @@
+package life.calgo.logic.parser;
+
+import static life.calgo.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static life.calgo.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static life.calgo.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import life.calgo.logic.commands.ImportCommand;
+import life.calgo.storage.FoodImporter;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " data/foods.csv ",
+                new ImportCommand(Paths.get("data/foods.csv"), FoodImporter.Format.CSV));
+        assertParseSuccess(parser, "foods.JSONL",
+                new ImportCommand(Paths.get("foods.JSONL"), FoodImporter.Format.JSON_LINES));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "foods.txt", ImportCommandParser.MESSAGE_UNSUPPORTED_FILE_TYPE);
+    }
+}
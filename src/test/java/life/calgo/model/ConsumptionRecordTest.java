@@ -0,0 +1,138 @@
+package life.calgo.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailySummary;
+import life.calgo.model.day.RollupBucket;
+import life.calgo.model.day.RollupPeriod;
+import life.calgo.model.food.Nutrient;
+import life.calgo.testutil.FoodBuilder;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class ConsumptionRecordTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2019, 1, 1);
+    private static final LocalDate HORIZON = FIRST_DATE.plusDays(10);
+
+    private final ArchiveStub archive = new ArchiveStub();
+
+    private ConsumptionRecord getRecordWithArchivedDays() throws Exception {
+        ConsumptionRecord record = new ConsumptionRecord();
+        for (int day = 0; day < 20; day++) {
+            record.addLog(new DailyFoodLog().setDate(FIRST_DATE.plusDays(day))
+                    .consume(TypicalFoodItems.APPLE, 1 + day % 3));
+        }
+        record.setArchive(archive);
+        record.archiveLogsBefore(HORIZON);
+        return record;
+    }
+
+    @Test
+    public void archiveLogsBefore_oldLogsMovedToArchive() throws Exception {
+        ConsumptionRecord record = getRecordWithArchivedDays();
+
+        assertEquals(10, archive.logs.size());
+        assertEquals(10, record.getDailyFoodLogs().size());
+        assertTrue(record.getDailyFoodLogs().stream().noneMatch(log -> log.getLocalDate().isBefore(HORIZON)));
+    }
+
+    @Test
+    public void getLogByDate_archivedDate_loadsLogFromArchive() throws Exception {
+        ConsumptionRecord record = getRecordWithArchivedDays();
+
+        assertEquals(archive.logs.get(FIRST_DATE.plusDays(4)), record.getLogByDate(FIRST_DATE.plusDays(4)));
+        assertEquals(11, record.getDailyFoodLogs().size());
+        assertEquals(3, record.logsBetween(HORIZON.minusDays(2), HORIZON).size());
+        assertNull(record.getLogByDate(FIRST_DATE.minusDays(1)));
+        assertFalse(record.hasLogWithSameDate(new DailyFoodLog().setDate(FIRST_DATE.minusDays(1))));
+    }
+
+    @Test
+    public void getVersion_archivedLogsReadBack_unchanged() throws Exception {
+        ConsumptionRecord record = getRecordWithArchivedDays();
+        long version = record.getVersion();
+
+        record.getLogByDate(FIRST_DATE.plusDays(4));
+        record.logsBetween(FIRST_DATE, HORIZON);
+        record.setDailyListDate(FIRST_DATE.plusDays(2));
+        assertEquals(version, record.getVersion());
+    }
+
+    @Test
+    public void getVersion_updateConsumedLists_changedOnlyIfAnyLogChanged() throws Exception {
+        ConsumptionRecord record = getRecordWithArchivedDays();
+        long version = record.getVersion();
+
+        record.updateConsumedLists(TypicalFoodItems.APPLE);
+        record.updateConsumedLists(TypicalFoodItems.BANANA);
+        assertEquals(version, record.getVersion());
+
+        record.updateConsumedLists(new FoodBuilder(TypicalFoodItems.APPLE).withCalorie("999").build());
+        assertTrue(record.getVersion() > version);
+    }
+
+    @Test
+    public void getRollups_archivedDays_stillCounted() throws Exception {
+        ConsumptionRecord fullRecord = new ConsumptionRecord();
+        for (int day = 0; day < 20; day++) {
+            fullRecord.addLog(new DailyFoodLog().setDate(FIRST_DATE.plusDays(day))
+                    .consume(TypicalFoodItems.APPLE, 1 + day % 3));
+        }
+        List<RollupBucket> expected = fullRecord.getRollups(RollupPeriod.MONTH, FIRST_DATE, HORIZON.plusDays(10));
+
+        // a fresh record over the same archive sees the archived days through their summaries alone
+        getRecordWithArchivedDays();
+        ConsumptionRecord record = new ConsumptionRecord();
+        for (int day = 10; day < 20; day++) {
+            record.addLog(new DailyFoodLog().setDate(FIRST_DATE.plusDays(day))
+                    .consume(TypicalFoodItems.APPLE, 1 + day % 3));
+        }
+        record.setArchive(archive);
+        assertEquals(1, expected.size());
+        RollupBucket actual = record.getRollups(RollupPeriod.MONTH, FIRST_DATE, HORIZON.plusDays(10)).get(0);
+        assertEquals(expected.get(0).getDaysLogged(), actual.getDaysLogged());
+        assertEquals(expected.get(0).getTotal(Nutrient.CALORIE), actual.getTotal(Nutrient.CALORIE), 1e-6);
+
+        // reading an archived day back and changing it updates the rollup by the difference
+        record.updateLog(record.getLogByDate(FIRST_DATE).consume(TypicalFoodItems.BANANA, 1));
+        RollupBucket updated = record.getRollups(RollupPeriod.MONTH, FIRST_DATE, FIRST_DATE).get(0);
+        assertEquals(actual.getTotal(Nutrient.CALORIE) + Nutrient.CALORIE.valueOf(TypicalFoodItems.BANANA),
+                updated.getTotal(Nutrient.CALORIE), 1e-6);
+    }
+
+    /**
+     * A ConsumptionArchive kept in memory.
+     */
+    private static class ArchiveStub implements ConsumptionArchive {
+        private final TreeMap<LocalDate, DailyFoodLog> logs = new TreeMap<>();
+
+        @Override
+        public List<DailySummary> readSummaries() {
+            List<DailySummary> summaries = new ArrayList<>();
+            logs.values().forEach(log -> summaries.add(DailySummary.of(log)));
+            return summaries;
+        }
+
+        @Override
+        public List<DailyFoodLog> readLogs(LocalDate from, LocalDate to) {
+            return new ArrayList<>(logs.subMap(from, true, to, true).values());
+        }
+
+        @Override
+        public void writeLogs(Collection<DailyFoodLog> logsToWrite) {
+            logsToWrite.forEach(log -> logs.put(log.getLocalDate(), log));
+        }
+    }
+}
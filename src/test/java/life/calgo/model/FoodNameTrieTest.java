@@ -0,0 +1,197 @@
+package life.calgo.model;
+
+import static life.calgo.logic.commands.Command.MAX_NAME_EDIT_DISTANCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import life.calgo.model.food.Food;
+import life.calgo.testutil.FoodBuilder;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class FoodNameTrieTest {
+
+    private static final int BENCHMARK_QUERIES = 50;
+
+    private final Food chickenRice = new FoodBuilder().withName("Chicken Rice").build();
+    private final Food chickenChop = new FoodBuilder().withName("Chicken Chop").build();
+    private final Food chick = new FoodBuilder().withName("Chick").build();
+
+    private FoodNameTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new FoodNameTrie();
+        trie.setAll(Arrays.asList(chickenRice, TypicalFoodItems.CHOCOLATE_BAR, chickenChop, chick));
+    }
+
+    @Test
+    public void getSimilarFood_prefix_returnsCompletionsInOrder() {
+        assertEquals(Arrays.asList(chick, chickenChop, chickenRice), trie.getSimilarFood("CHIC", 10));
+        assertEquals(Arrays.asList(chick, chickenChop, chickenRice, TypicalFoodItems.CHOCOLATE_BAR),
+                trie.getSimilarFood(" c ", 10));
+    }
+
+    @Test
+    public void getSimilarFood_inputLongerThanName_returnsNamesThatArePrefixes() {
+        assertEquals(Arrays.asList(chick, chickenRice), trie.getSimilarFood("chicken rice with egg", 10));
+    }
+
+    @Test
+    public void getSimilarFood_limit_truncatesResults() {
+        assertEquals(Arrays.asList(chick, chickenChop), trie.getSimilarFood("chi", 2));
+        assertTrue(trie.getSimilarFood("chi", 0).isEmpty());
+    }
+
+    @Test
+    public void getSimilarFood_afterRemove_skipsRemovedFood() {
+        trie.remove(chick);
+        assertEquals(Arrays.asList(chickenChop, chickenRice), trie.getSimilarFood("chick", 10));
+        assertEquals(Collections.emptyList(), trie.getSimilarFood("durian", 10));
+    }
+
+    @Test
+    public void remove_nodeBetweenSiblings_keepsSiblingsAndPrunesNodes() {
+        Food chickenBurger = new FoodBuilder().withName("Chicken Burger").build();
+        trie.add(chickenBurger);
+
+        // "chicken chop" sits between "chicken burger" and "chicken rice" after the common prefix
+        trie.remove(chickenChop);
+        assertEquals(Arrays.asList(chick, chickenBurger, chickenRice), trie.getSimilarFood("chick", 10));
+        assertEquals(Arrays.asList(chick, chickenRice), trie.getSimilarFood("chicken r", 10));
+        assertEquals(Arrays.asList(chick), trie.getSimilarFood("chicken c", 10));
+
+        for (Food food : Arrays.asList(chickenRice, chick, TypicalFoodItems.CHOCOLATE_BAR)) {
+            trie.remove(food);
+            assertFalse(trie.isEmpty());
+        }
+        assertEquals(Arrays.asList(chickenBurger), trie.getSimilarFood("c", 10));
+        trie.remove(chickenBurger);
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void getClosestFood_misspeltName_returnsClosestFirst() {
+        trie.setAll(TypicalFoodItems.getTypicalFoodItems());
+
+        assertEquals(Collections.singletonList(TypicalFoodItems.DUCK_RICE), trie.getClosestFood("Duk Rice", 2, 3));
+        assertEquals(Collections.singletonList(TypicalFoodItems.ALMOND), trie.getClosestFood("ALMODN", 2, 3));
+        assertTrue(trie.getClosestFood("Pizza", 2, 3).isEmpty());
+    }
+
+    @Test
+    public void getClosestFood_sameDistance_lexicographicOrderAndLimit() {
+        Food pear = new FoodBuilder().withName("Pear").build();
+        Food peas = new FoodBuilder().withName("Peas").build();
+        trie.add(peas);
+        trie.add(pear);
+
+        assertEquals(Collections.singletonList(chick), trie.getClosestFood("chicks", 2, 3));
+        assertEquals(Arrays.asList(pear, peas), trie.getClosestFood("pea", 1, 3));
+        assertEquals(Collections.singletonList(pear), trie.getClosestFood("pea", 1, 1));
+    }
+
+    /**
+     * Checks the search against a brute-force scan at the edit distance used for suggestions, and that the number of
+     * nodes it visits grows much more slowly than the number of names.
+     */
+    @Test
+    public void getClosestFood_largeFoodRecords_matchesBruteForceAndGrowsSubLinearly() {
+        long smallVisits = benchmark(10000);
+        long largeVisits = benchmark(100000);
+
+        // a scan compares against ten times as many names, but the search visits well under ten times the nodes
+        assertTrue(largeVisits < smallVisits * 5,
+                "visited " + smallVisits + " nodes for 10000 names but " + largeVisits + " for 100000");
+    }
+
+    /**
+     * Returns the number of nodes visited by searches for misspelt names among {@code size} random names, after
+     * checking the first few searches against a brute-force scan.
+     */
+    private static long benchmark(int size) {
+        Random random = new Random(2103);
+        List<Food> foods = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Set<String> seenNames = new HashSet<>();
+        while (foods.size() < size) {
+            String name = randomWord(random, 6 + random.nextInt(6));
+            if (seenNames.add(name)) {
+                names.add(name);
+                foods.add(new FoodBuilder().withName(name).build());
+            }
+        }
+        FoodNameTrie largeTrie = new FoodNameTrie();
+        largeTrie.setAll(foods);
+
+        long visitedNodes = 0;
+        for (int i = 0; i < BENCHMARK_QUERIES; i++) {
+            String query = misspell(random, names.get(random.nextInt(names.size())));
+            FoodNameTrie.ClosestNameSearch search = largeTrie.searchClosest(query, MAX_NAME_EDIT_DISTANCE);
+            visitedNodes += search.getVisitedNodes();
+            if (i >= 5) {
+                continue;
+            }
+
+            List<String> expected = names.stream()
+                    .filter(name -> distance(query, name) <= MAX_NAME_EDIT_DISTANCE)
+                    .sorted(Comparator.<String>comparingInt(name -> distance(query, name))
+                            .thenComparing(Comparator.naturalOrder()))
+                    .collect(Collectors.toList());
+            List<String> actual = largeTrie.getClosestFood(query, MAX_NAME_EDIT_DISTANCE, Integer.MAX_VALUE).stream()
+                    .map(food -> food.getName().getKey())
+                    .collect(Collectors.toList());
+            assertEquals(expected, actual);
+        }
+        return visitedNodes;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}.
+     */
+    private static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+
+    private static String misspell(Random random, String word) {
+        char[] characters = word.toCharArray();
+        characters[random.nextInt(characters.length)] = (char) ('a' + random.nextInt(26));
+        return new String(characters);
+    }
+}
@@ -7,7 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +18,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import life.calgo.logic.commands.CommandTestUtil;
 import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
 import life.calgo.model.food.exceptions.DuplicateFoodException;
 import life.calgo.testutil.Assert;
 import life.calgo.testutil.FoodBuilder;
@@ -83,6 +87,55 @@ public class FoodRecordTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> foodRecord.getFoodList().remove(0));
     }
 
+    @Test
+    public void getFoodsInRange_typicalFoodRecord_returnsFoodsInAscendingOrder() {
+        FoodRecord typicalFoodRecord = TypicalFoodItems.getTypicalFoodRecord();
+        assertEquals(Arrays.asList(TypicalFoodItems.BANANA_MILKSHAKE, TypicalFoodItems.EGG_OMELETTE,
+                TypicalFoodItems.DUCK_RICE, TypicalFoodItems.CHOCOLATE_BAR, TypicalFoodItems.GRANOLA),
+                typicalFoodRecord.getFoodsInRange(Nutrient.CALORIE, 200, 300));
+        assertTrue(typicalFoodRecord.getFoodsInRange(Nutrient.CALORIE, 301, 399).isEmpty());
+    }
+
+    @Test
+    public void getFoodsInRange_afterSetAndRemove_reflectsChanges() {
+        foodRecord.addFood(TypicalFoodItems.ALMOND);
+        foodRecord.addFood(TypicalFoodItems.CHOCOLATE_BAR);
+        Food editedAlmond = new FoodBuilder(TypicalFoodItems.ALMOND).withCalorie("500").build();
+        foodRecord.setFood(TypicalFoodItems.ALMOND, editedAlmond);
+        assertEquals(Arrays.asList(TypicalFoodItems.CHOCOLATE_BAR, editedAlmond),
+                foodRecord.getFoodsInRange(Nutrient.CALORIE, 0, Integer.MAX_VALUE));
+
+        foodRecord.removeFood(TypicalFoodItems.CHOCOLATE_BAR);
+        assertEquals(Collections.singletonList(editedAlmond),
+                foodRecord.getFoodsInRange(Nutrient.CALORIE, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getFoodsWithNameContaining_substringKeywords_returnsMatchingFoods() {
+        FoodRecord typicalFoodRecord = TypicalFoodItems.getTypicalFoodRecord();
+        // short keyword answered directly by the gram index
+        assertEquals(new HashSet<>(Arrays.asList(TypicalFoodItems.CHOCOLATE_BAR, TypicalFoodItems.FISH_AND_CHIPS)),
+                new HashSet<>(typicalFoodRecord.getFoodsWithNameContaining(Collections.singletonList("cH"))));
+        // long keyword verified against candidates, across multiple keywords
+        assertEquals(new HashSet<>(Arrays.asList(TypicalFoodItems.BANANA_MILKSHAKE, TypicalFoodItems.GRANOLA)),
+                new HashSet<>(typicalFoodRecord.getFoodsWithNameContaining(Arrays.asList("milksHAKE", "granola"))));
+        // all grams present but not as a contiguous substring
+        assertTrue(typicalFoodRecord.getFoodsWithNameContaining(Collections.singletonList("ricee")).isEmpty());
+    }
+
+    @Test
+    public void getFoodsWithTagContaining_afterUpdate_reflectsChanges() {
+        foodRecord.addFood(TypicalFoodItems.ALMOND);
+        assertEquals(Collections.singletonList(TypicalFoodItems.ALMOND),
+                foodRecord.getFoodsWithTagContaining(Collections.singletonList("FRUIT")));
+
+        Food editedAlmond = new FoodBuilder(TypicalFoodItems.ALMOND).withTags("nut").build();
+        foodRecord.setFood(TypicalFoodItems.ALMOND, editedAlmond);
+        assertTrue(foodRecord.getFoodsWithTagContaining(Collections.singletonList("fruit")).isEmpty());
+        assertEquals(Collections.singletonList(editedAlmond),
+                foodRecord.getFoodsWithTagContaining(Collections.singletonList("nu")));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -97,6 +150,16 @@ public class FoodRecordTest {
         public ObservableList<Food> getFoodList() {
             return foods;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public Optional<Map<String, Food>> getChangesSince(long version) {
+            return Optional.empty();
+        }
     }
 
 }
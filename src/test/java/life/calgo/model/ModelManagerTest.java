@@ -11,13 +11,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import life.calgo.commons.core.GuiSettings;
 import life.calgo.model.day.DailyGoal;
+import life.calgo.model.food.Food;
 import life.calgo.model.food.Name;
+import life.calgo.model.food.Nutrient;
+import life.calgo.model.food.predicates.IndexedFoodPredicate;
 import life.calgo.model.food.predicates.NameContainsKeywordsPredicate;
+import life.calgo.model.food.predicates.NutrientInRangePredicate;
+import life.calgo.testutil.FoodBuilder;
 import life.calgo.testutil.FoodRecordBuilder;
 
 public class ModelManagerTest {
@@ -95,6 +102,41 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredFoodRecord().remove(0));
     }
 
+    @Test
+    public void updateFilteredFoodRecord_indexedPredicate_testsOnlyChangedFood() {
+        modelManager = new ModelManager(new FoodRecordBuilder().withFood(APPLE).withFood(BANANA_MILKSHAKE).build(),
+                new ConsumptionRecord(), new UserPrefs(), new DailyGoal());
+        NutrientInRangePredicate inRange = new NutrientInRangePredicate(Nutrient.CALORIE, 50, 150);
+        int[] testCount = {0};
+        IndexedFoodPredicate countingPredicate = new IndexedFoodPredicate() {
+            @Override
+            public List<Food> findMatches(FoodRecord foodRecord) {
+                return inRange.findMatches(foodRecord);
+            }
+
+            @Override
+            public boolean test(Food food) {
+                testCount[0]++;
+                return inRange.test(food);
+            }
+        };
+
+        modelManager.updateFilteredFoodRecord(countingPredicate);
+        assertEquals(Arrays.asList(APPLE), modelManager.getFilteredFoodRecord());
+        assertEquals(0, testCount[0]);
+
+        Food avocado = new FoodBuilder(APPLE).withName("Avocado").withCalorie("120").build();
+        modelManager.addFood(avocado);
+        modelManager.updateFilteredFoodRecord(countingPredicate);
+        Food updatedApple = new FoodBuilder(APPLE).withCalorie("500").build();
+        modelManager.setFood(APPLE, updatedApple);
+        assertEquals(Arrays.asList(avocado), modelManager.getFilteredFoodRecord());
+        assertEquals(1, testCount[0]);
+
+        modelManager.deleteFood(avocado);
+        assertTrue(modelManager.getFilteredFoodRecord().isEmpty());
+    }
+
     @Test
     public void equals() {
         FoodRecord foodRecord = new FoodRecordBuilder().withFood(APPLE).withFood(BANANA_MILKSHAKE).build();
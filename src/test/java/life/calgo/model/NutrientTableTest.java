@@ -0,0 +1,68 @@
+package life.calgo.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
+import life.calgo.testutil.FoodBuilder;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class NutrientTableTest {
+
+    private final FoodRecord foodRecord = new FoodRecord();
+
+    @Test
+    public void emptyTable_minAndMax_returnEmpty() {
+        NutrientTable table = foodRecord.getNutrientTable();
+        assertEquals(0, table.size());
+        assertFalse(table.min(Nutrient.CALORIE).isPresent());
+        assertFalse(table.max(Nutrient.CALORIE).isPresent());
+    }
+
+    @Test
+    public void addFood_scans_reflectAddedFood() {
+        foodRecord.addFood(TypicalFoodItems.APPLE); // 100 calories
+        foodRecord.addFood(TypicalFoodItems.BANANA); // 200 calories
+        foodRecord.addFood(TypicalFoodItems.GRANOLA); // 300 calories
+        NutrientTable table = foodRecord.getNutrientTable();
+
+        assertEquals(600, table.sum(Nutrient.CALORIE));
+        assertEquals(OptionalInt.of(100), table.min(Nutrient.CALORIE));
+        assertEquals(OptionalInt.of(300), table.max(Nutrient.CALORIE));
+        List<Food> filtered = table.filter(Nutrient.CALORIE, calories -> calories >= 200);
+        assertEquals(2, filtered.size());
+        assertTrue(filtered.containsAll(Arrays.asList(TypicalFoodItems.BANANA, TypicalFoodItems.GRANOLA)));
+    }
+
+    @Test
+    public void removeAndSetFood_scans_reflectChanges() {
+        foodRecord.addFood(TypicalFoodItems.APPLE);
+        foodRecord.addFood(TypicalFoodItems.BANANA);
+        foodRecord.addFood(TypicalFoodItems.GRANOLA);
+        foodRecord.removeFood(TypicalFoodItems.APPLE);
+        Food editedBanana = new FoodBuilder(TypicalFoodItems.BANANA).withCalorie("50").build();
+        foodRecord.setFood(TypicalFoodItems.BANANA, editedBanana);
+        NutrientTable table = foodRecord.getNutrientTable();
+
+        assertEquals(2, table.size());
+        assertEquals(350, table.sum(Nutrient.CALORIE));
+        assertEquals(Arrays.asList(editedBanana), table.filter(Nutrient.CALORIE, calories -> calories < 100));
+    }
+
+    @Test
+    public void topByRatio_returnsHighestRatiosInDescendingOrder() {
+        foodRecord.setFoodList(TypicalFoodItems.getTypicalFoodItems());
+        // protein per calorie: Almond 20/95, Egg Omelette 25/233, Duck Rice 20/238
+        List<Food> expected = Arrays.asList(TypicalFoodItems.ALMOND, TypicalFoodItems.EGG_OMELETTE,
+                TypicalFoodItems.DUCK_RICE);
+        assertEquals(expected, foodRecord.getNutrientTable().topByRatio(Nutrient.PROTEIN, Nutrient.CALORIE, 3));
+    }
+}
@@ -0,0 +1,76 @@
+package life.calgo.model.day;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.OptionalDouble;
+
+import org.junit.jupiter.api.Test;
+
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
+import life.calgo.testutil.FoodBuilder;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class ConsumptionRollupTest {
+
+    // a Wednesday, so the week of the first log starts in the previous month
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 4, 1);
+
+    @Test
+    public void getRollups_afterConsumeVomitAndUpdate_matchesRecomputedTotals() {
+        UniqueDateToLogMap map = new UniqueDateToLogMap();
+        for (int day = 0; day < 400; day++) {
+            map.addLog(new DailyFoodLog().setDate(FIRST_DATE.plusDays(day))
+                    .consume(TypicalFoodItems.APPLE, 1 + day % 3));
+        }
+        map.updateLog(map.getLogByDate(FIRST_DATE).consume(TypicalFoodItems.BANANA, 1));
+        map.updateLog(map.getLogByDate(FIRST_DATE.plusDays(1)).vomit(TypicalFoodItems.APPLE, OptionalDouble.empty()));
+        map.setRollupGoal(250);
+        Food updatedApple = new FoodBuilder(TypicalFoodItems.APPLE).withCalorie("120").build();
+        map.updateMapWithFood(updatedApple);
+
+        for (RollupPeriod period : RollupPeriod.values()) {
+            List<RollupBucket> buckets = map.getRollups(period, FIRST_DATE, FIRST_DATE.plusDays(399));
+            int daysLogged = 0;
+            for (RollupBucket bucket : buckets) {
+                double expectedCalories = 0;
+                int expectedItems = 0;
+                int expectedWithinGoal = 0;
+                for (DailyFoodLog log : map.logsBetween(bucket.getStart(), bucket.getEnd()).values()) {
+                    if (log.getNumberOfFoods() == 0) {
+                        continue;
+                    }
+                    expectedCalories += log.getTotalCalories();
+                    expectedItems += log.getNumberOfFoods();
+                    expectedWithinGoal += log.getTotalCalories() <= 250 ? 1 : 0;
+                }
+                assertEquals(expectedCalories, bucket.getTotal(Nutrient.CALORIE), 1e-6);
+                assertEquals(expectedItems, bucket.getItemCount());
+                assertEquals(expectedWithinGoal, bucket.getDaysWithinGoal());
+                daysLogged += bucket.getDaysLogged();
+            }
+            assertEquals(399, daysLogged);
+        }
+    }
+
+    @Test
+    public void getRollups_queryRange_returnsOverlappingBucketsInOrder() {
+        UniqueDateToLogMap map = new UniqueDateToLogMap();
+        map.addLog(new DailyFoodLog().setDate(FIRST_DATE).consume(TypicalFoodItems.APPLE, 1));
+        map.addLog(new DailyFoodLog().setDate(FIRST_DATE.plusMonths(2)).consume(TypicalFoodItems.APPLE, 2));
+
+        List<RollupBucket> weeks = map.getRollups(RollupPeriod.WEEK, FIRST_DATE, FIRST_DATE);
+        assertEquals(1, weeks.size());
+        assertEquals(LocalDate.of(2020, 3, 30), weeks.get(0).getStart());
+
+        List<RollupBucket> months = map.getRollups(RollupPeriod.MONTH, FIRST_DATE, FIRST_DATE.plusYears(1));
+        assertEquals(2, months.size());
+        assertEquals(LocalDate.of(2020, 6, 30), months.get(1).getEnd());
+        assertEquals(200.0, months.get(1).getDailyAverage(Nutrient.CALORIE));
+
+        assertTrue(map.getRollups(RollupPeriod.YEAR, FIRST_DATE.plusYears(1), FIRST_DATE.plusYears(2)).isEmpty());
+    }
+}
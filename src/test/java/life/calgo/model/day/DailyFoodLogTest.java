@@ -1,10 +1,21 @@
 package life.calgo.model.day;
 
+import static life.calgo.testutil.Assert.assertThrows;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+
 import org.junit.jupiter.api.Test;
 
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
+import life.calgo.testutil.FoodBuilder;
 import life.calgo.testutil.TypicalDailyFoodLog;
 import life.calgo.testutil.TypicalFoodItems;
 
@@ -27,4 +38,158 @@ public class DailyFoodLogTest {
         assertEquals(TypicalFoodItems.ALMOND, TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY.getFoodByIndex(0).get());
     }
 
+    @Test
+    public void consumeVomitAddRating_typicalDailyFoodLog_originalUnchanged() {
+        DailyFoodLog original = TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY;
+        DailyFoodLog expected = new DailyFoodLog(TypicalDailyFoodLog.buildFoods(),
+                TypicalDailyFoodLog.buildRatings(), original.getLocalDate());
+
+        DailyFoodLog consumed = original.consume(TypicalFoodItems.APPLE, 2);
+        DailyFoodLog vomited = original.vomit(TypicalFoodItems.BANANA, OptionalDouble.empty());
+        DailyFoodLog rated = original.addRating(TypicalFoodItems.ALMOND, 10);
+
+        assertEquals(expected, original);
+        assertEquals(2.0, consumed.getPortion(TypicalFoodItems.APPLE));
+        assertEquals(0.0, vomited.getPortion(TypicalFoodItems.BANANA));
+        assertEquals(DailyFoodLog.RATING_DUMMY_VALUE, vomited.getRating(TypicalFoodItems.BANANA));
+        assertEquals((double) (3 + 4 + 10) / 3, rated.getRating(TypicalFoodItems.ALMOND));
+        assertFalse(original.equals(rated));
+    }
+
+    @Test
+    public void vomit_partialPortion_keepsPositionAndRatings() {
+        DailyFoodLog log = TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY
+                .vomit(TypicalFoodItems.ALMOND, OptionalDouble.of(1));
+        assertEquals(2.0, log.getPortion(TypicalFoodItems.ALMOND));
+        assertEquals(TypicalFoodItems.ALMOND, log.getFoodByIndex(0).get());
+        assertEquals((double) (3 + 4) / 2, log.getRating(TypicalFoodItems.ALMOND));
+    }
+
+    @Test
+    public void vomit_manyFoods_indexesSkipRemovedFoods() {
+        DailyFoodLog log = TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY
+                .vomit(TypicalFoodItems.ALMOND, OptionalDouble.empty())
+                .vomit(TypicalFoodItems.BANANA_MILKSHAKE, OptionalDouble.empty());
+        assertEquals(TypicalFoodItems.BANANA, log.getFoodByIndex(0).get());
+        assertEquals(TypicalFoodItems.DUCK_RICE, log.getFoodByIndex(1).get());
+        assertThrows(IndexOutOfBoundsException.class, () -> log.getFoodByIndex(3));
+
+        DailyFoodLog shorter = log.vomit(TypicalFoodItems.BANANA, OptionalDouble.empty());
+        assertEquals(TypicalFoodItems.DUCK_RICE, shorter.getFoodByIndex(0).get());
+        assertEquals(TypicalFoodItems.YELLOW_SAUCE, shorter.getFoodByIndex(1).get());
+        assertEquals(2, shorter.getFoods().size());
+
+        // foods consumed after a removal are placed at the end
+        DailyFoodLog extended = shorter.consume(TypicalFoodItems.APPLE, 1).consume(TypicalFoodItems.DUCK_RICE, 1);
+        assertEquals(TypicalFoodItems.APPLE, extended.getFoodByIndex(2).get());
+        assertEquals(2.0, extended.getEntryAt(0).getPortion());
+        assertThrows(IndexOutOfBoundsException.class, () -> extended.getEntryAt(3));
+    }
+
+    @Test
+    public void iterator_afterUpdates_matchesPositionalAccess() {
+        DailyFoodLog log = TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY
+                .vomit(TypicalFoodItems.BANANA, OptionalDouble.empty())
+                .consume(TypicalFoodItems.APPLE, 2)
+                .addRating(TypicalFoodItems.APPLE, 8);
+
+        int index = 0;
+        for (DailyFoodLog.Entry entry : log) {
+            Food food = entry.getFood();
+            assertEquals(log.getFoodByIndex(index++).get(), food);
+            assertEquals(log.getPortion(food), entry.getPortion());
+            assertEquals(log.getRatingSummary(food), entry.getRatingSummary());
+            assertEquals(log.getRating(food), entry.getRating());
+        }
+        assertEquals(log.getNumberOfFoods(), index);
+    }
+
+    @Test
+    public void vomit_manyRemovals_positionsMatchConsumptionOrder() {
+        List<Food> expected = new ArrayList<>();
+        DailyFoodLog log = new DailyFoodLog();
+        for (int i = 0; i < 100; i++) {
+            Food food = new FoodBuilder(TypicalFoodItems.APPLE).withName("Food " + i).build();
+            expected.add(food);
+            log = log.consume(food, 1);
+        }
+        // removes from the front, middle and end, enough for the log to be compacted along the way
+        for (int i = 0; i < 70; i++) {
+            Food food = expected.remove(i % 3 == 0 ? 0 : i % 3 == 1 ? expected.size() / 2 : expected.size() - 1);
+            log = log.vomit(food, OptionalDouble.empty());
+            assertEquals(expected.size(), log.getNumberOfFoods());
+            assertEquals(expected.get(expected.size() / 3), log.getFoodByIndex(expected.size() / 3).get());
+        }
+        assertEquals(expected, new ArrayList<>(log.getFoods()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), log.getEntryAt(i).getFood());
+        }
+    }
+
+    @Test
+    public void getEntryAt_afterRemovalInMiddleOfLargeLog_readsByPosition() {
+        List<Food> expected = new ArrayList<>();
+        DailyFoodLog log = new DailyFoodLog();
+        for (int i = 0; i < 2000; i++) {
+            Food food = new FoodBuilder(TypicalFoodItems.APPLE).withName("Food " + i).build();
+            expected.add(food);
+            log = log.consume(food, 1);
+        }
+        log = log.vomit(expected.remove(1000), OptionalDouble.empty());
+
+        for (int i : new int[] {0, 999, 1000, 1500, 1998}) {
+            assertEquals(expected.get(i), log.getEntryAt(i).getFood());
+        }
+        DailyFoodLog finalLog = log;
+        assertThrows(IndexOutOfBoundsException.class, () -> finalLog.getEntryAt(1999));
+    }
+
+    @Test
+    public void consume_equalFoodInDifferentLogs_sharesOneInstance() {
+        Food apple = new FoodBuilder(TypicalFoodItems.APPLE).build();
+        Food equalApple = new FoodBuilder(TypicalFoodItems.APPLE).build();
+        DailyFoodLog first = new DailyFoodLog().consume(apple, 1);
+        DailyFoodLog second = new DailyFoodLog().consume(equalApple, 2);
+
+        assertSame(first.getFoodByIndex(0).get(), second.getFoodByIndex(0).get());
+        assertSame(first, first.updateFoodWithSameName(equalApple));
+    }
+
+    @Test
+    public void vomit_foodNotConsumed_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY
+                .vomit(TypicalFoodItems.APPLE, OptionalDouble.empty()));
+    }
+
+    @Test
+    public void getTotals_afterUpdates_matchesRecomputedTotals() {
+        DailyFoodLog log = TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY
+                .consume(TypicalFoodItems.APPLE, 2)
+                .consume(TypicalFoodItems.ALMOND, 0.5)
+                .vomit(TypicalFoodItems.BANANA, OptionalDouble.of(1.9))
+                .vomit(TypicalFoodItems.DUCK_RICE, OptionalDouble.empty())
+                .updateFoodWithSameName(new FoodBuilder(TypicalFoodItems.ALMOND).withCalorie("1000").build());
+
+        for (Nutrient nutrient : Nutrient.values()) {
+            double expected = 0;
+            for (Food food : log.getFoods()) {
+                expected += nutrient.valueOf(food) * log.getPortion(food);
+            }
+            assertEquals(expected, log.getTotal(nutrient), 1e-9);
+        }
+        assertEquals(log.getTotal(Nutrient.CALORIE), log.getTotalCalories());
+        assertEquals(log.getTotal(Nutrient.FAT), log.getTotalFats());
+    }
+
+    @Test
+    public void getTotals_allFoodsVomited_zero() {
+        DailyFoodLog log = TypicalDailyFoodLog.getAppleOnlyLog()
+                .consume(TypicalFoodItems.APPLE, 0.1)
+                .vomit(TypicalFoodItems.APPLE, OptionalDouble.empty());
+        assertEquals(0.0, log.getTotalCalories());
+        assertEquals(0.0, log.getTotalProteins());
+        assertEquals(0.0, log.getTotalCarbohydrates());
+        assertEquals(0.0, log.getTotalFats());
+    }
+
 }
@@ -0,0 +1,67 @@
+package life.calgo.model.day;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    /**
+     * A key whose hash code is chosen by the test, so that collisions can be forced.
+     */
+    private static class Key {
+        private final int hash;
+        private final String name;
+
+        private Key(int hash, String name) {
+            this.hash = hash;
+            this.name = name;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).hash == hash && ((Key) other).name.equals(name);
+        }
+    }
+
+    @Test
+    public void putRemove_randomOperations_matchesHashMap() {
+        Random random = new Random(11);
+        HashMap<Key, Integer> expected = new HashMap<>();
+        PersistentHashMap<Key, Integer> actual = PersistentHashMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            // few distinct hashes, so that collision nodes and deep trees are exercised
+            Key key = new Key(random.nextInt(64) << random.nextInt(28), "k" + random.nextInt(4));
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.remove(key);
+            } else {
+                expected.put(key, i);
+                actual = actual.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (Key key : expected.keySet()) {
+            assertEquals(expected.get(key), actual.get(key));
+        }
+    }
+
+    @Test
+    public void put_existingMap_originalUnchanged() {
+        PersistentHashMap<String, Integer> original = PersistentHashMap.<String, Integer>empty().put("apple", 1);
+        PersistentHashMap<String, Integer> updated = original.put("apple", 2).put("banana", 3).remove("apple");
+        assertEquals(Integer.valueOf(1), original.get("apple"));
+        assertNull(original.get("banana"));
+        assertNull(updated.get("apple"));
+        assertEquals(1, updated.size());
+    }
+}
@@ -0,0 +1,93 @@
+package life.calgo.model.day;
+
+import static life.calgo.testutil.Assert.assertThrows;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void appendSet_manyElements_earlierVersionsUnchanged() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        PersistentVector<Integer> small = null;
+        for (int i = 0; i < 40000; i++) {
+            vector = vector.append(i);
+            if (i == 99) {
+                small = vector;
+            }
+        }
+        PersistentVector<Integer> updated = vector.set(5, -5).set(39999, -1);
+
+        assertEquals(40000, vector.size());
+        for (int i = 0; i < vector.size(); i++) {
+            assertEquals(Integer.valueOf(i), vector.get(i));
+        }
+        assertEquals(100, small.size());
+        assertEquals(Integer.valueOf(5), small.get(5));
+        assertEquals(Integer.valueOf(-5), updated.get(5));
+        assertEquals(Integer.valueOf(-1), updated.get(39999));
+        assertEquals(Integer.valueOf(6), updated.get(6));
+    }
+
+    @Test
+    public void removeLastIterator_manyElements_iteratesInIndexOrder() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 2000; i++) {
+            vector = vector.append(i);
+        }
+        PersistentVector<Integer> shorter = vector;
+        for (int i = 0; i < 1000; i++) {
+            shorter = shorter.removeLast();
+        }
+        shorter = shorter.append(-1);
+
+        int expected = 0;
+        for (Integer element : vector) {
+            assertEquals(Integer.valueOf(expected++), element);
+        }
+        assertEquals(2000, expected);
+        assertEquals(1001, shorter.size());
+        assertEquals(Integer.valueOf(999), shorter.get(999));
+        assertEquals(Integer.valueOf(-1), shorter.get(1000));
+        assertEquals(Integer.valueOf(1000), vector.get(1000));
+        assertFalse(PersistentVector.empty().iterator().hasNext());
+    }
+
+    @Test
+    public void getNonNull_nullElementsAcrossLevels_skipsThem() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 5000; i++) {
+            vector = vector.append(i);
+        }
+        // clears every multiple of 3, and a whole leaf in the middle
+        PersistentVector<Integer> sparse = vector;
+        for (int i = 0; i < 5000; i++) {
+            if (i % 3 == 0 || (i >= 2048 && i < 2080)) {
+                sparse = sparse.set(i, null);
+            }
+        }
+
+        int rank = 0;
+        for (int i = 0; i < 5000; i++) {
+            if (sparse.get(i) != null) {
+                assertEquals(Integer.valueOf(i), sparse.getNonNull(rank++));
+            }
+        }
+        assertEquals(rank, sparse.nonNullCount());
+        assertEquals(5000, vector.nonNullCount());
+        assertEquals(Integer.valueOf(4999), vector.getNonNull(4999));
+        PersistentVector<Integer> finalSparse = sparse;
+        assertThrows(IndexOutOfBoundsException.class, () -> finalSparse.getNonNull(finalSparse.nonNullCount()));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentVector<Integer> vector = PersistentVector.<Integer>empty().append(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.set(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.empty().removeLast());
+    }
+}
@@ -0,0 +1,40 @@
+package life.calgo.model.day;
+
+import static life.calgo.testutil.Assert.assertThrows;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RatingSummaryTest {
+
+    @Test
+    public void add_severalRatings_aggregatesMatchRatings() {
+        RatingSummary summary = RatingSummary.EMPTY.add(2).add(9).add(9).add(4);
+        assertEquals(4, summary.getCount());
+        assertEquals(24, summary.getSum());
+        assertEquals(6.0, summary.getMean());
+        assertEquals(2, summary.getCount(9));
+        assertEquals(RatingSummary.of(List.of(9, 4, 2, 9)), summary);
+        assertEquals(summary, RatingSummary.fromHistogram(summary.getHistogram()));
+    }
+
+    @Test
+    public void getPercentile_severalRatings_returnsNearestRank() {
+        RatingSummary summary = RatingSummary.of(List.of(1, 2, 3, 4, 10));
+        assertEquals(1, summary.getPercentile(0));
+        assertEquals(3, summary.getPercentile(50));
+        assertEquals(4, summary.getPercentile(80));
+        assertEquals(10, summary.getPercentile(100));
+        assertEquals(DailyFoodLog.RATING_DUMMY_VALUE, RatingSummary.EMPTY.getPercentile(50));
+    }
+
+    @Test
+    public void add_invalidRating_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RatingSummary.EMPTY.add(11));
+        assertThrows(IllegalArgumentException.class, () -> RatingSummary.of(List.of(-1)));
+        assertThrows(IllegalArgumentException.class, () -> RatingSummary.fromHistogram(new int[3]));
+    }
+}
@@ -0,0 +1,104 @@
+package life.calgo.model.day;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import life.calgo.model.food.Nutrient;
+
+public class RollingStatisticsTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+
+    private static DailySummary summaryOf(LocalDate date, double calories) {
+        return new DailySummary(date, new double[] {calories, calories / 20, calories / 10, calories / 40},
+                calories == 0 ? 0 : 1);
+    }
+
+    @Test
+    public void getTrends_randomUpdatesAndAdvances_matchesRecomputedAverages() {
+        RollingStatistics statistics = new RollingStatistics();
+        Map<LocalDate, Double> caloriesByDate = new HashMap<>();
+        Random random = new Random(18);
+        LocalDate endDate = FIRST_DATE;
+        statistics.advanceTo(endDate);
+        for (int i = 0; i < 2000; i++) {
+            if (random.nextInt(10) == 0) {
+                endDate = endDate.plusDays(1 + random.nextInt(random.nextInt(20) == 0 ? 200 : 5));
+                statistics.advanceTo(endDate);
+            }
+            LocalDate date = endDate.minusDays(random.nextInt(120)).plusDays(random.nextInt(3));
+            double calories = random.nextInt(4) == 0 ? 0 : 500 + random.nextInt(2500);
+            caloriesByDate.put(date, calories);
+            // days after the end date are only counted once the end date reaches them
+            statistics.update(summaryOf(date, calories));
+
+            ConsumptionTrends trends = statistics.getTrends();
+            assertEquals(endDate, trends.getEndDate());
+            for (int windowLength : ConsumptionTrends.WINDOW_LENGTHS) {
+                double total = 0;
+                int daysLogged = 0;
+                for (int age = 0; age < windowLength; age++) {
+                    double dayCalories = caloriesByDate.getOrDefault(endDate.minusDays(age), 0.0);
+                    total += dayCalories;
+                    daysLogged += dayCalories > 0 ? 1 : 0;
+                }
+                assertEquals(daysLogged, trends.getDaysLogged(windowLength));
+                assertEquals(daysLogged == 0 ? 0 : total / daysLogged,
+                        trends.getAverage(windowLength, Nutrient.CALORIE), 1e-6);
+                assertEquals(daysLogged == 0 ? 0 : total / daysLogged / 10,
+                        trends.getAverage(windowLength, Nutrient.CARBOHYDRATE), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void getTrends_streak_countsConsecutiveDaysOnSameSideOfGoal() {
+        RollingStatistics statistics = new RollingStatistics();
+        statistics.setGoal(2000);
+        statistics.advanceTo(FIRST_DATE.plusDays(9));
+        for (int day = 0; day < 10; day++) {
+            statistics.update(summaryOf(FIRST_DATE.plusDays(day), day < 4 ? 2500 : 1800));
+        }
+        assertEquals(6, statistics.getTrends().getStreakLength());
+        assertTrue(statistics.getTrends().isStreakWithinGoal());
+
+        // an unlogged end date does not break the streak, but an unlogged day before it does
+        statistics.advanceTo(FIRST_DATE.plusDays(10));
+        assertEquals(6, statistics.getTrends().getStreakLength());
+        statistics.advanceTo(FIRST_DATE.plusDays(11));
+        assertEquals(0, statistics.getTrends().getStreakLength());
+
+        statistics.update(summaryOf(FIRST_DATE.plusDays(11), 2100));
+        statistics.update(summaryOf(FIRST_DATE.plusDays(10), 2200));
+        assertEquals(2, statistics.getTrends().getStreakLength());
+        assertFalse(statistics.getTrends().isStreakWithinGoal());
+
+        statistics.setGoal(0);
+        assertEquals(0, statistics.getTrends().getStreakLength());
+    }
+
+    @Test
+    public void getTrends_unusualDay_flagged() {
+        RollingStatistics statistics = new RollingStatistics();
+        statistics.advanceTo(FIRST_DATE.plusDays(29));
+        for (int day = 0; day < 30; day++) {
+            statistics.update(summaryOf(FIRST_DATE.plusDays(day), 2000 + (day % 3) * 100));
+        }
+        assertTrue(statistics.getTrends().getUnusualDays().isEmpty());
+
+        statistics.update(summaryOf(FIRST_DATE.plusDays(20), 6000));
+        List<DailySummary> unusualDays = statistics.getTrends().getUnusualDays();
+        assertEquals(1, unusualDays.size());
+        assertEquals(FIRST_DATE.plusDays(20), unusualDays.get(0).getLocalDate());
+        assertEquals(6000, unusualDays.get(0).getTotal(Nutrient.CALORIE), 1e-6);
+    }
+}
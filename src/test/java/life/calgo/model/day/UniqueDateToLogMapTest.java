@@ -0,0 +1,121 @@
+package life.calgo.model.day;
+
+import static life.calgo.testutil.Assert.assertThrows;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import life.calgo.model.food.Food;
+import life.calgo.model.food.Nutrient;
+import life.calgo.testutil.FoodBuilder;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class UniqueDateToLogMapTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 4, 1);
+    private static final LocalDate SECOND_DATE = LocalDate.of(2020, 4, 2);
+
+    @Test
+    public void getTrends_logAfterToday_leftOutOfTodaysTrends() {
+        DailyFoodLog todayLog = new DailyFoodLog().setDate(FIRST_DATE).consume(TypicalFoodItems.APPLE, 1);
+        DailyFoodLog futureLog = new DailyFoodLog().setDate(FIRST_DATE.plusDays(200))
+                .consume(TypicalFoodItems.BANANA, 3);
+        double todayCalories = DailySummary.of(todayLog).getTotal(Nutrient.CALORIE);
+
+        // the future log is read first, as it may be when the logs are loaded at startup
+        UniqueDateToLogMap map = new UniqueDateToLogMap();
+        map.addLog(futureLog);
+        map.addLog(todayLog);
+        ConsumptionTrends trends = map.getTrends(FIRST_DATE);
+        assertEquals(FIRST_DATE, trends.getEndDate());
+        assertEquals(1, trends.getDaysLogged(7));
+        assertEquals(todayCalories, trends.getAverage(7, Nutrient.CALORIE), 1e-6);
+
+        // logging the future day after the windows are anchored does not move them either
+        map = new UniqueDateToLogMap();
+        map.addLog(todayLog);
+        map.getTrends(FIRST_DATE);
+        map.addLog(futureLog);
+        trends = map.getTrends(FIRST_DATE);
+        assertEquals(FIRST_DATE, trends.getEndDate());
+        assertEquals(1, trends.getDaysLogged(90));
+        assertEquals(todayCalories, trends.getAverage(90, Nutrient.CALORIE), 1e-6);
+
+        // viewing the future day and then coming back to today
+        assertEquals(1, map.getTrends(FIRST_DATE.plusDays(200)).getDaysLogged(90));
+        trends = map.getTrends(FIRST_DATE);
+        assertEquals(FIRST_DATE, trends.getEndDate());
+        assertEquals(todayCalories, trends.getAverage(90, Nutrient.CALORIE), 1e-6);
+    }
+
+    @Test
+    public void getDatesWithFood_afterAddUpdateAndVomit_tracksLogsContainingFood() {
+        UniqueDateToLogMap map = new UniqueDateToLogMap();
+        DailyFoodLog firstLog = new DailyFoodLog().setDate(FIRST_DATE).consume(TypicalFoodItems.APPLE, 1);
+        map.addLog(firstLog);
+        map.addLog(new DailyFoodLog().setDate(SECOND_DATE).consume(TypicalFoodItems.BANANA, 1));
+        map.updateLog(map.getLogByDate(SECOND_DATE).consume(TypicalFoodItems.APPLE, 2));
+
+        assertEquals(Set.of(FIRST_DATE, SECOND_DATE), map.getDatesWithFood(TypicalFoodItems.APPLE));
+        assertEquals(Set.of(SECOND_DATE), map.getDatesWithFood(TypicalFoodItems.BANANA));
+
+        map.updateLog(firstLog.vomit(TypicalFoodItems.APPLE, OptionalDouble.empty()));
+        assertEquals(Set.of(SECOND_DATE), map.getDatesWithFood(TypicalFoodItems.APPLE));
+        assertEquals(Set.of(), map.getDatesWithFood(TypicalFoodItems.ALMOND));
+    }
+
+    @Test
+    public void getDatesWithFood_updateWithChangedFood_reindexesThatFood() {
+        UniqueDateToLogMap map = new UniqueDateToLogMap();
+        map.addLog(new DailyFoodLog().setDate(FIRST_DATE).consume(TypicalFoodItems.BANANA, 1));
+        map.updateLog(map.getLogByDate(FIRST_DATE).consume(TypicalFoodItems.APPLE, 1), TypicalFoodItems.APPLE);
+        assertEquals(Set.of(FIRST_DATE), map.getDatesWithFood(TypicalFoodItems.APPLE));
+
+        map.updateLog(map.getLogByDate(FIRST_DATE).consume(TypicalFoodItems.APPLE, 1), TypicalFoodItems.APPLE);
+        assertEquals(Set.of(FIRST_DATE), map.getDatesWithFood(TypicalFoodItems.APPLE));
+
+        map.updateLog(map.getLogByDate(FIRST_DATE).vomit(TypicalFoodItems.APPLE, OptionalDouble.empty()),
+                TypicalFoodItems.APPLE);
+        assertEquals(Set.of(), map.getDatesWithFood(TypicalFoodItems.APPLE));
+        assertEquals(Set.of(FIRST_DATE), map.getDatesWithFood(TypicalFoodItems.BANANA));
+    }
+
+    @Test
+    public void updateMapWithFood_foodInSomeLogs_onlyThoseLogsUpdated() {
+        UniqueDateToLogMap map = new UniqueDateToLogMap();
+        DailyFoodLog bananaLog = new DailyFoodLog().setDate(FIRST_DATE).consume(TypicalFoodItems.BANANA, 1);
+        map.addLog(bananaLog);
+        map.addLog(new DailyFoodLog().setDate(SECOND_DATE).consume(TypicalFoodItems.APPLE, 2));
+
+        Food updatedApple = new FoodBuilder(TypicalFoodItems.APPLE).withCalorie("150").build();
+        map.updateMapWithFood(updatedApple);
+
+        assertEquals(updatedApple, map.getLogByDate(SECOND_DATE).getFoodByIndex(0).get());
+        assertEquals(300.0, map.getLogByDate(SECOND_DATE).getTotalCalories());
+        assertEquals(bananaLog, map.getLogByDate(FIRST_DATE));
+    }
+
+    @Test
+    public void logsBetween_logsInAndOutOfRange_returnsLiveViewOfRange() {
+        UniqueDateToLogMap map = new UniqueDateToLogMap();
+        for (int day = 0; day < 10; day++) {
+            map.addLog(new DailyFoodLog().setDate(FIRST_DATE.plusDays(day)).consume(TypicalFoodItems.APPLE, day + 1));
+        }
+
+        NavigableMap<LocalDate, DailyFoodLog> range = map.logsBetween(FIRST_DATE.plusDays(2), FIRST_DATE.plusDays(4));
+        assertEquals(List.of(FIRST_DATE.plusDays(2), FIRST_DATE.plusDays(3), FIRST_DATE.plusDays(4)),
+                List.copyOf(range.keySet()));
+
+        DailyFoodLog updated = range.get(FIRST_DATE.plusDays(3)).consume(TypicalFoodItems.BANANA, 1);
+        map.updateLog(updated);
+        assertEquals(updated, range.get(FIRST_DATE.plusDays(3)));
+        assertThrows(UnsupportedOperationException.class, () -> range.remove(FIRST_DATE.plusDays(2)));
+    }
+}
@@ -1,5 +1,6 @@
 package life.calgo.model.food;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -31,9 +32,18 @@ public class CalorieTest {
         assertFalse(Calorie.isValidCalorie("phone")); // non-numeric
         assertFalse(Calorie.isValidCalorie("9011p041")); // alphabets within digits
         assertFalse(Calorie.isValidCalorie("9312 1534")); // spaces within digits
+        assertFalse(Calorie.isValidCalorie("124293842033123")); // too long to be held in an int
+        assertFalse(Calorie.isValidCalorie("1000000000")); // 10 digits
 
         // valid calorie
         assertTrue(Calorie.isValidCalorie("122")); // normal calorie number
-        assertTrue(Calorie.isValidCalorie("124293842033123")); // long calorie numbers
+        assertTrue(Calorie.isValidCalorie("999999999")); // longest calorie numbers
+        assertTrue(Calorie.isValidCalorie("000000000000122")); // leading zeros
+    }
+
+    @Test
+    public void getNumericValue_validCalorie_returnsParsedValue() {
+        assertEquals(122, new Calorie("122").getNumericValue());
+        assertEquals(new Calorie("122"), new Calorie("0122"));
     }
 }
@@ -31,9 +31,12 @@ public class CarbohydrateTest {
         assertFalse(Carbohydrate.isValidCarbohydrate("phone")); // non-numeric
         assertFalse(Carbohydrate.isValidCarbohydrate("9011p041")); // alphabets within digits
         assertFalse(Carbohydrate.isValidCarbohydrate("9312 1534")); // spaces within digits
+        assertFalse(Carbohydrate.isValidCarbohydrate("124293842033123")); // too long to be held in an int
+        assertFalse(Carbohydrate.isValidCarbohydrate("1000000000")); // 10 digits
 
         // valid carbohydrate
         assertTrue(Carbohydrate.isValidCarbohydrate("122")); // normal carbohydrate number
-        assertTrue(Carbohydrate.isValidCarbohydrate("124293842033123")); // long carbohydrate numbers
+        assertTrue(Carbohydrate.isValidCarbohydrate("999999999")); // longest carbohydrate numbers
+        assertTrue(Carbohydrate.isValidCarbohydrate("000000000000122")); // leading zeros
     }
 }
@@ -31,9 +31,12 @@ public class FatTest {
         assertFalse(Fat.isValidFat("phone")); // non-numeric
         assertFalse(Fat.isValidFat("9011p041")); // alphabets within digits
         assertFalse(Fat.isValidFat("9312 1534")); // spaces within digits
+        assertFalse(Fat.isValidFat("124293842033123")); // too long to be held in an int
+        assertFalse(Fat.isValidFat("1000000000")); // 10 digits
 
         // valid fat
         assertTrue(Fat.isValidFat("122")); // normal fat number
-        assertTrue(Fat.isValidFat("124293842033123")); // long fat numbers
+        assertTrue(Fat.isValidFat("999999999")); // longest fat numbers
+        assertTrue(Fat.isValidFat("000000000000122")); // leading zeros
     }
 }
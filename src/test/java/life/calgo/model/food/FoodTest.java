@@ -3,9 +3,13 @@ package life.calgo.model.food;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.BitSet;
+
 import org.junit.jupiter.api.Test;
 
 import life.calgo.logic.commands.CommandTestUtil;
+import life.calgo.model.tag.Tag;
+import life.calgo.model.tag.TagDictionary;
 import life.calgo.testutil.Assert;
 import life.calgo.testutil.FoodBuilder;
 import life.calgo.testutil.TypicalFoodItems;
@@ -18,6 +22,18 @@ public class FoodTest {
         Assert.assertThrows(UnsupportedOperationException.class, () -> food.getTags().remove(0));
     }
 
+    @Test
+    public void hasAnyTag() {
+        Food food = new FoodBuilder().withTags("Sweet", "Green").build();
+        BitSet sweetAndSour = new BitSet();
+        sweetAndSour.set(TagDictionary.getId(new Tag("Sweet")));
+        sweetAndSour.set(TagDictionary.getId(new Tag("Sour")));
+
+        assertTrue(food.hasAnyTag(sweetAndSour));
+        assertFalse(food.hasAnyTag(TagDictionary.getIdsContaining("ou")));
+        assertTrue(food.hasAnyTag(TagDictionary.getIdsContaining("REE")));
+    }
+
     @Test
     public void isSameFood() {
         // same object -> returns true
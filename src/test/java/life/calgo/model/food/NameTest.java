@@ -1,5 +1,6 @@
 package life.calgo.model.food;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -38,4 +39,18 @@ public class NameTest {
         assertTrue(Name.isValidName("Banana Milk")); // with capital letters
         assertTrue(Name.isValidName("Banana Pineapple Strawberry Grass Mud Juice")); // long names
     }
+
+    @Test
+    public void equals_differentCasing_returnsTrueWithSameHashCode() {
+        Name name = new Name("Banana Milk");
+        Name differentlyCasedName = new Name("bAnAnA mILK");
+        assertTrue(name.equals(differentlyCasedName));
+        assertEquals(name.hashCode(), differentlyCasedName.hashCode());
+        assertEquals(name.getKey(), differentlyCasedName.getKey());
+    }
+
+    @Test
+    public void equals_differentName_returnsFalse() {
+        assertFalse(new Name("Banana Milk").equals(new Name("Banana")));
+    }
 }
@@ -31,9 +31,12 @@ public class ProteinTest {
         assertFalse(Protein.isValidProtein("phone")); // non-numeric
         assertFalse(Protein.isValidProtein("9011p041")); // alphabets within digits
         assertFalse(Protein.isValidProtein("9312 1534")); // spaces within digits
+        assertFalse(Protein.isValidProtein("124293842033123")); // too long to be held in an int
+        assertFalse(Protein.isValidProtein("1000000000")); // 10 digits
 
         // valid fat
         assertTrue(Protein.isValidProtein("122")); // normal fat number
-        assertTrue(Protein.isValidProtein("124293842033123")); // long fat numbers
+        assertTrue(Protein.isValidProtein("999999999")); // longest protein numbers
+        assertTrue(Protein.isValidProtein("000000000000122")); // leading zeros
     }
 }
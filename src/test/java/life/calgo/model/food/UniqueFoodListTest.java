@@ -46,6 +46,22 @@ public class UniqueFoodListTest {
         assertTrue(uniqueFoodList.contains(editedApple));
     }
 
+    @Test
+    public void contains_foodWithDifferentlyCasedNameInList_returnsTrue() {
+        uniqueFoodList.add(TypicalFoodItems.APPLE);
+        Food lowerCaseApple = new FoodBuilder(TypicalFoodItems.APPLE).withName("apple").build();
+        assertTrue(uniqueFoodList.contains(lowerCaseApple));
+    }
+
+    @Test
+    public void add_unsortedFoods_keepsLexicographicOrder() {
+        uniqueFoodList.add(TypicalFoodItems.GRANOLA);
+        uniqueFoodList.add(TypicalFoodItems.APPLE);
+        uniqueFoodList.add(TypicalFoodItems.DUCK_RICE);
+        assertEquals(Arrays.asList(TypicalFoodItems.APPLE, TypicalFoodItems.DUCK_RICE, TypicalFoodItems.GRANOLA),
+                uniqueFoodList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void add_nullFood_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueFoodList.add(null));
@@ -111,6 +127,15 @@ public class UniqueFoodListTest {
                 uniqueFoodList.setFood(TypicalFoodItems.APPLE, TypicalFoodItems.BANANA_MILKSHAKE));
     }
 
+    @Test
+    public void setFood_editedFoodHasDifferentIdentity_updatesLookupByName() {
+        uniqueFoodList.add(TypicalFoodItems.APPLE);
+        uniqueFoodList.setFood(TypicalFoodItems.APPLE, TypicalFoodItems.BANANA_MILKSHAKE);
+        assertFalse(uniqueFoodList.getFoodByName(TypicalFoodItems.APPLE.getName()).isPresent());
+        assertEquals(TypicalFoodItems.BANANA_MILKSHAKE,
+                uniqueFoodList.getFoodByName(new Name("banana milkshake")).get());
+    }
+
     @Test
     public void remove_nullFood_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueFoodList.remove(null));
@@ -129,6 +154,27 @@ public class UniqueFoodListTest {
         assertEquals(expectedUniqueFoodList, uniqueFoodList);
     }
 
+    @Test
+    public void remove_foodWithDifferentlyCasedName_removesFood() {
+        uniqueFoodList.setFoods(List.of(TypicalFoodItems.APPLE, TypicalFoodItems.BANANA, TypicalFoodItems.DUCK_RICE));
+        Food lowerCaseDuckRice = new FoodBuilder(TypicalFoodItems.DUCK_RICE).withName("duck rice").build();
+        uniqueFoodList.remove(lowerCaseDuckRice);
+        UniqueFoodList expectedUniqueFoodList = new UniqueFoodList();
+        expectedUniqueFoodList.setFoods(List.of(TypicalFoodItems.APPLE, TypicalFoodItems.BANANA));
+        assertEquals(expectedUniqueFoodList, uniqueFoodList);
+    }
+
+    @Test
+    public void setFood_targetWithDifferentlyCasedName_success() {
+        uniqueFoodList.setFoods(List.of(TypicalFoodItems.APPLE, TypicalFoodItems.BANANA, TypicalFoodItems.DUCK_RICE));
+        Food lowerCaseApple = new FoodBuilder(TypicalFoodItems.APPLE).withName("apple").build();
+        uniqueFoodList.setFood(lowerCaseApple, TypicalFoodItems.GRANOLA);
+        UniqueFoodList expectedUniqueFoodList = new UniqueFoodList();
+        expectedUniqueFoodList.setFoods(List.of(TypicalFoodItems.BANANA, TypicalFoodItems.DUCK_RICE,
+                TypicalFoodItems.GRANOLA));
+        assertEquals(expectedUniqueFoodList, uniqueFoodList);
+    }
+
     @Test
     public void setFoodItems_nullUniqueFoodList_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> uniqueFoodList.setFoods((UniqueFoodList) null));
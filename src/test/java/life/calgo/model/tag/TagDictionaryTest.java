@@ -0,0 +1,28 @@
+package life.calgo.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TagDictionaryTest {
+
+    @Test
+    public void getId_sameName_returnsSameId() {
+        Tag crunchy = TagDictionary.intern(new Tag("Crunchy"));
+        Tag caseFoldedCrunchy = TagDictionary.intern(new Tag("crunchy"));
+        int id = TagDictionary.getId(crunchy);
+        assertEquals(id, TagDictionary.getId(new Tag("Crunchy")));
+        // tag names are case-sensitive
+        assertNotEquals(id, TagDictionary.getId(caseFoldedCrunchy));
+    }
+
+    @Test
+    public void intern_sameName_returnsSharedTagInstance() {
+        Tag salty = TagDictionary.intern(new Tag("Salty"));
+        assertSame(salty, TagDictionary.intern(new Tag("Salty")));
+        assertTrue(TagDictionary.getIdsContaining("SALT").get(TagDictionary.getId(salty)));
+    }
+}
@@ -0,0 +1,206 @@
+package life.calgo.storage;
+
+import static life.calgo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import life.calgo.commons.exceptions.DataConversionException;
+import life.calgo.commons.util.JsonUtil;
+import life.calgo.model.ConsumptionRecord;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class JournaledConsumptionRecordStorageTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 3, 1);
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonConsumptionRecordStorage snapshotStorage() {
+        return new JsonConsumptionRecordStorage(testFolder.resolve("consumptionrecord.json"));
+    }
+
+    private JournaledConsumptionRecordStorage journaledStorage() {
+        return new JournaledConsumptionRecordStorage(snapshotStorage(), testFolder.resolve("consumption.journal"));
+    }
+
+    private DailyFoodLog logOn(int day) {
+        return new DailyFoodLog().setDate(FIRST_DATE.plusDays(day)).consume(TypicalFoodItems.APPLE, 1 + day);
+    }
+
+    private ConsumptionRecord recordOf(DailyFoodLog... logs) {
+        ConsumptionRecord consumptionRecord = new ConsumptionRecord();
+        for (DailyFoodLog foodLog : logs) {
+            consumptionRecord.addLog(foodLog);
+        }
+        return consumptionRecord;
+    }
+
+    @Test
+    public void save_afterFirstSave_appendsOnlyChangedLogs() throws Exception {
+        JournaledConsumptionRecordStorage storage = journaledStorage();
+        ConsumptionRecord consumptionRecord = recordOf(logOn(0), logOn(1));
+        storage.saveConsumptionRecord(consumptionRecord);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        DailyFoodLog updatedLog = logOn(1).consume(TypicalFoodItems.BANANA, 2).addRating(TypicalFoodItems.BANANA, 7);
+        consumptionRecord.updateLog(updatedLog);
+        consumptionRecord.addLog(logOn(2));
+        storage.saveConsumptionRecord(consumptionRecord);
+
+        // a header line, then one line per changed log
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(recordOf(logOn(0), logOn(1)), new ConsumptionRecord(snapshotStorage().readConsumptionRecord()
+                .get()));
+        assertEquals(consumptionRecord, new ConsumptionRecord(journaledStorage().readConsumptionRecord().get()));
+
+        // nothing changed since the last save
+        storage.saveConsumptionRecord(consumptionRecord);
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void save_copyOfChangesOnly_journalsChangedLogsWithoutGoingThroughLogs() throws Exception {
+        JournaledConsumptionRecordStorage storage = journaledStorage();
+        ConsumptionRecord consumptionRecord = recordOf(logOn(0), logOn(1), logOn(2));
+        storage.saveConsumptionRecord(consumptionRecord);
+        long savedVersion = consumptionRecord.getVersion();
+
+        consumptionRecord.updateLog(logOn(1).consume(TypicalFoodItems.BANANA, 2));
+        consumptionRecord.addLog(logOn(3));
+
+        // the copy has no list of logs to go through, so only the changed logs can be saved
+        ConsumptionRecordSnapshot changes = ConsumptionRecordSnapshot.of(consumptionRecord,
+                OptionalLong.of(savedVersion));
+        assertThrows(IllegalStateException.class, changes::getDailyFoodLogs);
+        storage.saveConsumptionRecord(changes);
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(consumptionRecord, new ConsumptionRecord(journaledStorage().readConsumptionRecord().get()));
+    }
+
+    @Test
+    public void save_archivedLog_stillReadAfterRestart() throws Exception {
+        // the boundary month of 30 recent days from 20 March is February, which is read in full
+        LocalDate today = LocalDate.of(2020, 3, 20);
+        LocalDate horizon = today.minusDays(30);
+        DailyFoodLog oldLog = new DailyFoodLog().setDate(LocalDate.of(2020, 2, 5))
+                .consume(TypicalFoodItems.APPLE, 1);
+        DailyFoodLog recentLog = new DailyFoodLog().setDate(LocalDate.of(2020, 3, 10))
+                .consume(TypicalFoodItems.BANANA, 1);
+        Clock clock = Clock.fixed(today.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        Path journalFilePath = testFolder.resolve("consumption.journal");
+        Supplier<JournaledConsumptionRecordStorage> launch = () -> new JournaledConsumptionRecordStorage(
+                new PartitionedConsumptionRecordStorage(testFolder.resolve("consumption"), 30, null, clock),
+                journalFilePath);
+        launch.get().saveConsumptionRecord(recordOf(oldLog, recentLog));
+
+        for (int i = 0; i < 3; i++) {
+            // archives the old log at startup and saves, then reads it back as the stomach command would
+            JournaledConsumptionRecordStorage storage = launch.get();
+            ConsumptionRecord consumptionRecord = new ConsumptionRecord(storage.readConsumptionRecord().get());
+            consumptionRecord.setArchive(storage.getConsumptionArchive());
+            consumptionRecord.archiveLogsBefore(horizon);
+            storage.saveConsumptionRecord(consumptionRecord);
+            assertEquals(oldLog, consumptionRecord.getLogByDate(oldLog.getLocalDate()));
+        }
+    }
+
+    @Test
+    public void save_journalDueForCompaction_writesDataFileAndClearsJournal() throws Exception {
+        Journal<JsonAdaptedLogJournalEntry> journal = new Journal<>(testFolder.resolve("consumption.journal"),
+                JsonAdaptedLogJournalEntry.class, 1, Duration.ofDays(1), Clock.systemUTC());
+        JournaledConsumptionRecordStorage storage = new JournaledConsumptionRecordStorage(snapshotStorage(), journal);
+        ConsumptionRecord consumptionRecord = recordOf(logOn(0));
+        storage.saveConsumptionRecord(consumptionRecord);
+        consumptionRecord.addLog(logOn(1));
+        storage.saveConsumptionRecord(consumptionRecord);
+        assertTrue(Files.exists(journal.getFilePath()));
+
+        consumptionRecord.addLog(logOn(2));
+        storage.saveConsumptionRecord(consumptionRecord);
+        assertFalse(Files.exists(journal.getFilePath()));
+        assertEquals(consumptionRecord, new ConsumptionRecord(snapshotStorage().readConsumptionRecord().get()));
+    }
+
+    @Test
+    public void isDueForCompaction_afterRestart_measuredFromFirstEntry() throws Exception {
+        Instant firstEntryTime = Instant.parse("2020-03-20T08:00:00Z");
+        Path journalFilePath = testFolder.resolve("consumption.journal");
+        new Journal<>(journalFilePath, JsonAdaptedLogJournalEntry.class, Journal.DEFAULT_COMPACTION_SIZE,
+                Duration.ofDays(1), Clock.fixed(firstEntryTime, ZoneOffset.UTC))
+                .append(List.of(JsonAdaptedLogJournalEntry.put(logOn(0))));
+
+        for (int hours : List.of(1, 12, 23)) {
+            Journal<JsonAdaptedLogJournalEntry> journal = new Journal<>(journalFilePath,
+                    JsonAdaptedLogJournalEntry.class, Journal.DEFAULT_COMPACTION_SIZE, Duration.ofDays(1),
+                    Clock.fixed(firstEntryTime.plus(Duration.ofHours(hours)), ZoneOffset.UTC));
+            journal.append(List.of(JsonAdaptedLogJournalEntry.put(logOn(hours))));
+            assertFalse(journal.isDueForCompaction());
+        }
+        assertTrue(new Journal<>(journalFilePath, JsonAdaptedLogJournalEntry.class, Journal.DEFAULT_COMPACTION_SIZE,
+                Duration.ofDays(1), Clock.fixed(firstEntryTime.plus(Duration.ofHours(25)), ZoneOffset.UTC))
+                .isDueForCompaction());
+    }
+
+    @Test
+    public void read_incompleteLastEntry_dropsEntry() throws Exception {
+        JournaledConsumptionRecordStorage storage = journaledStorage();
+        ConsumptionRecord consumptionRecord = recordOf(logOn(0));
+        storage.saveConsumptionRecord(consumptionRecord);
+        consumptionRecord.addLog(logOn(1));
+        storage.saveConsumptionRecord(consumptionRecord);
+        Files.writeString(storage.getJournalFilePath(), "{\"date\":\"2020-03-0", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(consumptionRecord, new ConsumptionRecord(journaledStorage().readConsumptionRecord().get()));
+
+        // the dropped entry does not corrupt entries appended after it
+        JournaledConsumptionRecordStorage reopenedStorage = journaledStorage();
+        reopenedStorage.readConsumptionRecord();
+        consumptionRecord.addLog(logOn(2));
+        reopenedStorage.saveConsumptionRecord(consumptionRecord);
+        assertEquals(consumptionRecord, new ConsumptionRecord(journaledStorage().readConsumptionRecord().get()));
+    }
+
+    @Test
+    public void read_unreadableEarlierEntry_throwsDataConversionException() throws Exception {
+        JournaledConsumptionRecordStorage storage = journaledStorage();
+        storage.saveConsumptionRecord(recordOf(logOn(0)));
+        Files.writeString(storage.getJournalFilePath(), Journal.HEADER_PREFIX + Instant.now()
+                + "\nnot json\n{\"date\":\"2020-03-01\"}\n");
+
+        assertThrows(DataConversionException.class, () -> journaledStorage().readConsumptionRecord());
+    }
+
+    @Test
+    public void read_journalWithoutHeaderOrEntryWithoutLog_throwsDataConversionException() throws Exception {
+        JournaledConsumptionRecordStorage storage = journaledStorage();
+        storage.saveConsumptionRecord(recordOf(logOn(0)));
+        String entry = JsonUtil.toJsonLine(JsonAdaptedLogJournalEntry.put(logOn(1)));
+        Files.writeString(storage.getJournalFilePath(), entry + "\n" + entry + "\n");
+        assertThrows(DataConversionException.class, () -> journaledStorage().readConsumptionRecord());
+
+        Files.writeString(storage.getJournalFilePath(), Journal.HEADER_PREFIX + Instant.now()
+                + "\n{\"date\":\"2020-03-01\"}\n" + entry + "\n");
+        assertThrows(DataConversionException.class, () -> journaledStorage().readConsumptionRecord());
+    }
+}
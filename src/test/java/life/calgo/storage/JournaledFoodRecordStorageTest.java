@@ -0,0 +1,74 @@
+package life.calgo.storage;
+
+import static life.calgo.testutil.Assert.assertThrows;
+import static life.calgo.testutil.TypicalFoodItems.getTypicalFoodRecord;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import life.calgo.model.FoodRecord;
+import life.calgo.model.food.Food;
+import life.calgo.testutil.FoodBuilder;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class JournaledFoodRecordStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonFoodRecordStorage snapshotStorage() {
+        return new JsonFoodRecordStorage(testFolder.resolve("foodrecord.json"));
+    }
+
+    private JournaledFoodRecordStorage journaledStorage() {
+        return new JournaledFoodRecordStorage(snapshotStorage(), testFolder.resolve("foodrecord.journal"));
+    }
+
+    @Test
+    public void save_addUpdateDelete_replayedOnRead() throws Exception {
+        JournaledFoodRecordStorage storage = journaledStorage();
+        FoodRecord foodRecord = getTypicalFoodRecord();
+        storage.saveFoodRecord(foodRecord);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        Food updatedFood = new FoodBuilder(TypicalFoodItems.DUCK_RICE).withCalorie("999").build();
+        foodRecord.setFood(TypicalFoodItems.DUCK_RICE, updatedFood);
+        foodRecord.removeFood(TypicalFoodItems.BANANA_MILKSHAKE);
+        foodRecord.addFood(TypicalFoodItems.APPLE);
+        storage.saveFoodRecord(foodRecord);
+
+        // a header line, then one line per change
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(getTypicalFoodRecord(), new FoodRecord(snapshotStorage().readFoodRecord().get()));
+        assertEquals(foodRecord, new FoodRecord(journaledStorage().readFoodRecord().get()));
+    }
+
+    @Test
+    public void save_copyOfChangesOnly_journalsChangesWithoutGoingThroughFoodList() throws Exception {
+        JournaledFoodRecordStorage storage = journaledStorage();
+        FoodRecord foodRecord = getTypicalFoodRecord();
+        storage.saveFoodRecord(foodRecord);
+        long savedVersion = foodRecord.getVersion();
+
+        Food updatedFood = new FoodBuilder(TypicalFoodItems.DUCK_RICE).withCalorie("999").build();
+        foodRecord.setFood(TypicalFoodItems.DUCK_RICE, updatedFood);
+        foodRecord.removeFood(TypicalFoodItems.BANANA_MILKSHAKE);
+        foodRecord.addFood(TypicalFoodItems.APPLE);
+        foodRecord.removeFood(TypicalFoodItems.APPLE);
+
+        // the copy has no food list to go through, so only the changes can be saved
+        FoodRecordSnapshot changes = FoodRecordSnapshot.of(foodRecord, OptionalLong.of(savedVersion));
+        assertThrows(IllegalStateException.class, changes::getFoodList);
+        storage.saveFoodRecord(changes);
+
+        // a header line, then a line for each of the edited and the deleted Food
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(foodRecord, new FoodRecord(journaledStorage().readFoodRecord().get()));
+    }
+}
@@ -65,6 +65,14 @@ public class JsonAdaptedFoodTest {
         assertThrows(IllegalValueException.class, expectedMessage, food::toModelType);
     }
 
+    @Test
+    public void toModelType_overlongCalorie_throwsIllegalValueException() {
+        JsonAdaptedFood food = new JsonAdaptedFood(VALID_NAME, "124293842033123", VALID_PROTEIN,
+                VALID_CARBOHYDRATE, VALID_FAT, VALID_TAGS);
+        String expectedMessage = Calorie.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, food::toModelType);
+    }
+
     @Test
     public void toModelType_nullCalorie_throwsIllegalValueException() {
         JsonAdaptedFood food = new JsonAdaptedFood(VALID_NAME, null, VALID_PROTEIN,
@@ -0,0 +1,59 @@
+package life.calgo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailySummary;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class JsonConsumptionArchiveTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2019, 1, 1);
+
+    @TempDir
+    public Path testFolder;
+
+    private DailyFoodLog logOn(int day) {
+        return new DailyFoodLog().setDate(FIRST_DATE.plusDays(day))
+                .consume(TypicalFoodItems.APPLE, 1 + day)
+                .consume(TypicalFoodItems.BANANA, 1)
+                .addRating(TypicalFoodItems.APPLE, day);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JsonConsumptionArchive archive = new JsonConsumptionArchive(testFolder.resolve("missing.json"));
+        assertTrue(archive.readSummaries().isEmpty());
+        assertTrue(archive.readLogs(LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    public void writeLogs_thenRead_returnsSummariesAndLogsInRange() throws Exception {
+        JsonConsumptionArchive archive = new JsonConsumptionArchive(testFolder.resolve("archive.json"));
+        archive.writeLogs(List.of(logOn(2), logOn(0)));
+        archive.writeLogs(List.of(logOn(1)));
+
+        assertEquals(List.of(DailySummary.of(logOn(0)), DailySummary.of(logOn(1)), DailySummary.of(logOn(2))),
+                archive.readSummaries());
+        assertEquals(List.of(logOn(1), logOn(2)), archive.readLogs(FIRST_DATE.plusDays(1), FIRST_DATE.plusDays(5)));
+    }
+
+    @Test
+    public void writeLogs_sameDate_replacesArchivedLog() throws Exception {
+        JsonConsumptionArchive archive = new JsonConsumptionArchive(testFolder.resolve("archive.json"));
+        archive.writeLogs(List.of(logOn(0)));
+        DailyFoodLog replacement = new DailyFoodLog().setDate(FIRST_DATE).consume(TypicalFoodItems.CHOCOLATE_BAR, 2);
+        archive.writeLogs(List.of(replacement));
+
+        assertEquals(List.of(replacement), archive.readLogs(FIRST_DATE, FIRST_DATE));
+        assertEquals(List.of(DailySummary.of(replacement)), archive.readSummaries());
+    }
+}
@@ -0,0 +1,113 @@
+package life.calgo.storage;
+
+import static life.calgo.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import life.calgo.commons.exceptions.DataConversionException;
+
+import life.calgo.commons.exceptions.IllegalValueException;
+import life.calgo.commons.util.JsonUtil;
+import life.calgo.model.ConsumptionRecord;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.testutil.ConsumptionRecordBuilder;
+import life.calgo.testutil.TypicalDailyFoodLog;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class JsonSerializableConsumptionRecordTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data",
+            "JsonSerializableConsumptionRecordTest");
+    private static final Path LEGACY_FILE = TEST_DATA_FOLDER.resolve("legacyConsumptionRecord.json");
+    private static final Path UNKNOWN_FOOD_ID_FILE = TEST_DATA_FOLDER.resolve("unknownFoodIdConsumptionRecord.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toModelType_roundTrip_success() throws Exception {
+        DailyFoodLog today = TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY;
+        ConsumptionRecord original = new ConsumptionRecordBuilder()
+                .withLog(today)
+                .withLog(today.setDate(today.getLocalDate().minusDays(1)).consume(TypicalFoodItems.APPLE, 1))
+                .build();
+
+        String json = JsonUtil.toJsonString(new JsonSerializableConsumptionRecord(original));
+        ConsumptionRecord restored = JsonUtil.fromJsonString(json, JsonSerializableConsumptionRecord.class)
+                .toModelType();
+        assertEquals(original, restored);
+
+        // each food is written once in the food table, however many logs contain it
+        int occurrences = json.split("\"name\" : \"Almond\"", -1).length - 1;
+        assertEquals(1, occurrences);
+        assertFalse(json.contains("\"ratings\""));
+    }
+
+    @Test
+    public void toModelType_legacyFile_success() throws Exception {
+        ConsumptionRecord fromFile = JsonUtil.readJsonFile(LEGACY_FILE, JsonSerializableConsumptionRecord.class)
+                .get().toModelType();
+        DailyFoodLog expected = new DailyFoodLog().setDate(LocalDate.of(2020, 4, 1))
+                .consume(TypicalFoodItems.APPLE, 2)
+                .addRating(TypicalFoodItems.APPLE, 7);
+        assertEquals(new ConsumptionRecordBuilder().withLog(expected).build(), fromFile);
+    }
+
+    @Test
+    public void toModelType_unknownFoodId_throwsIllegalValueException() throws Exception {
+        JsonSerializableConsumptionRecord dataFromFile = JsonUtil.readJsonFile(UNKNOWN_FOOD_ID_FILE,
+                JsonSerializableConsumptionRecord.class).get();
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedDailyFoodLog.MESSAGE_UNKNOWN_FOOD_ID, 1),
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void write_thenRead_matchesToModelType() throws Exception {
+        DailyFoodLog today = TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY;
+        ConsumptionRecord original = new ConsumptionRecordBuilder()
+                .withLog(today)
+                .withLog(today.setDate(today.getLocalDate().minusDays(1)).consume(TypicalFoodItems.APPLE, 1))
+                .build();
+        Path filePath = testFolder.resolve("consumptionrecord.json");
+
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableConsumptionRecord.write(original, generator));
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableConsumptionRecord::read).get());
+        assertEquals(original, JsonUtil.readJsonFile(filePath, JsonSerializableConsumptionRecord.class).get()
+                .toModelType());
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableConsumptionRecord(original)),
+                Files.readString(filePath));
+    }
+
+    @Test
+    public void read_legacyFile_success() throws Exception {
+        DailyFoodLog expected = new DailyFoodLog().setDate(LocalDate.of(2020, 4, 1))
+                .consume(TypicalFoodItems.APPLE, 2)
+                .addRating(TypicalFoodItems.APPLE, 7);
+        assertEquals(new ConsumptionRecordBuilder().withLog(expected).build(),
+                JsonUtil.readJsonFile(LEGACY_FILE, JsonSerializableConsumptionRecord::read).get());
+    }
+
+    @Test
+    public void read_unknownFoodId_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonFile(UNKNOWN_FOOD_ID_FILE, JsonSerializableConsumptionRecord::read));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("consumptionrecord.json");
+        String json = JsonUtil.toJsonString(new JsonSerializableConsumptionRecord(
+                new ConsumptionRecordBuilder().withLog(TypicalDailyFoodLog.DAILY_FOOD_LOG_TODAY).build()));
+        Files.writeString(filePath, json.substring(0, json.lastIndexOf(']')));
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonFile(filePath, JsonSerializableConsumptionRecord::read));
+    }
+}
@@ -0,0 +1,111 @@
+package life.calgo.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import life.calgo.model.ConsumptionRecord;
+import life.calgo.model.ReadOnlyConsumptionRecord;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailySummary;
+import life.calgo.testutil.TypicalFoodItems;
+
+public class PartitionedConsumptionRecordStorageTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 3, 20);
+    private static final DailyFoodLog JANUARY_LOG = logOn(LocalDate.of(2020, 1, 15), 1);
+    private static final DailyFoodLog FEBRUARY_LOG = logOn(LocalDate.of(2020, 2, 25), 2);
+    private static final DailyFoodLog MARCH_LOG = logOn(LocalDate.of(2020, 3, 10), 3);
+
+    @TempDir
+    public Path testFolder;
+
+    private static DailyFoodLog logOn(LocalDate date, double portion) {
+        return new DailyFoodLog().setDate(date).consume(TypicalFoodItems.APPLE, portion);
+    }
+
+    private static ConsumptionRecord recordOf(DailyFoodLog... logs) {
+        ConsumptionRecord consumptionRecord = new ConsumptionRecord();
+        for (DailyFoodLog foodLog : logs) {
+            consumptionRecord.addLog(foodLog);
+        }
+        return consumptionRecord;
+    }
+
+    private Path directory() {
+        return testFolder.resolve("consumption");
+    }
+
+    private PartitionedConsumptionRecordStorage storage(JsonConsumptionRecordStorage legacyStorage) {
+        // 30 recent days from 20 March reach back into February
+        return new PartitionedConsumptionRecordStorage(directory(), 30, legacyStorage,
+                Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    public void save_writesOneFilePerMonth() throws Exception {
+        storage(null).saveConsumptionRecord(recordOf(JANUARY_LOG, FEBRUARY_LOG, MARCH_LOG));
+
+        for (String month : List.of("2020-01", "2020-02", "2020-03")) {
+            assertTrue(Files.exists(directory().resolve(month + ".json")));
+            assertTrue(Files.exists(directory().resolve(month + ".summary.json")));
+        }
+    }
+
+    @Test
+    public void read_readsOnlyRecentMonths_olderMonthsInArchive() throws Exception {
+        storage(null).saveConsumptionRecord(recordOf(JANUARY_LOG, FEBRUARY_LOG, MARCH_LOG));
+
+        PartitionedConsumptionRecordStorage storage = storage(null);
+        ReadOnlyConsumptionRecord readBack = storage.readConsumptionRecord().get();
+        assertEquals(List.of(FEBRUARY_LOG, MARCH_LOG), readBack.getDailyFoodLogs());
+        assertEquals(List.of(DailySummary.of(JANUARY_LOG)), storage.getConsumptionArchive().readSummaries());
+        assertEquals(List.of(JANUARY_LOG), storage.getConsumptionArchive()
+                .readLogs(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31)));
+    }
+
+    @Test
+    public void save_afterRead_rewritesOnlyChangedMonths() throws Exception {
+        storage(null).saveConsumptionRecord(recordOf(JANUARY_LOG, FEBRUARY_LOG, MARCH_LOG));
+        PartitionedConsumptionRecordStorage storage = storage(null);
+        ConsumptionRecord consumptionRecord = new ConsumptionRecord(storage.readConsumptionRecord().get());
+        Files.delete(directory().resolve("2020-02.json"));
+
+        DailyFoodLog updatedLog = MARCH_LOG.consume(TypicalFoodItems.BANANA, 1);
+        consumptionRecord.updateLog(updatedLog);
+        storage.saveConsumptionRecord(consumptionRecord);
+
+        assertFalse(Files.exists(directory().resolve("2020-02.json")));
+        assertEquals(List.of(JANUARY_LOG, updatedLog), storage.readConsumptionRecord(directory()).get()
+                .getDailyFoodLogs());
+    }
+
+    @Test
+    public void read_noMonths_movesLegacyData() throws Exception {
+        JsonConsumptionRecordStorage legacyStorage = new JsonConsumptionRecordStorage(
+                testFolder.resolve("consumptionrecord.json"), testFolder.resolve("consumptionarchive.json"));
+        legacyStorage.getConsumptionArchive().writeLogs(List.of(JANUARY_LOG));
+        legacyStorage.saveConsumptionRecord(recordOf(FEBRUARY_LOG, MARCH_LOG));
+
+        PartitionedConsumptionRecordStorage storage = storage(legacyStorage);
+        assertEquals(List.of(FEBRUARY_LOG, MARCH_LOG), storage.readConsumptionRecord().get().getDailyFoodLogs());
+        assertEquals(List.of(JANUARY_LOG, FEBRUARY_LOG, MARCH_LOG), storage.readConsumptionRecord(directory()).get()
+                .getDailyFoodLogs());
+        assertTrue(Files.exists(testFolder.resolve("consumptionrecord.json")));
+    }
+
+    @Test
+    public void read_noMonthsNoLegacyData_returnsEmpty() throws Exception {
+        assertFalse(storage(null).readConsumptionRecord().isPresent());
+    }
+}
@@ -1,10 +1,18 @@
 package life.calgo.storage;
 
+import static life.calgo.testutil.Assert.assertThrows;
+import static life.calgo.testutil.TypicalFoodItems.DUCK_RICE;
 import static life.calgo.testutil.TypicalFoodItems.getTypicalFoodRecord;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +23,10 @@ import life.calgo.model.ConsumptionRecord;
 import life.calgo.model.FoodRecord;
 import life.calgo.model.ReadOnlyConsumptionRecord;
 import life.calgo.model.ReadOnlyFoodRecord;
+import life.calgo.model.ReadOnlyGoal;
 import life.calgo.model.UserPrefs;
+import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.DailyGoal;
 import life.calgo.testutil.ConsumptionRecordBuilder;
 
 public class StorageManagerTest {
@@ -74,6 +85,133 @@ public class StorageManagerTest {
         assertEquals(original, new ConsumptionRecord(retrieved));
     }
 
+    @Test
+    public void saveFoodRecord_unchangedSinceLastSave_doesNotWrite() throws Exception {
+        FoodRecord foodRecord = getTypicalFoodRecord();
+        storageManager.saveFoodRecord(foodRecord);
+        Files.delete(storageManager.getFoodRecordFilePath());
+
+        storageManager.saveFoodRecord(foodRecord);
+        assertFalse(Files.exists(storageManager.getFoodRecordFilePath()));
+
+        foodRecord.removeFood(DUCK_RICE);
+        storageManager.saveFoodRecord(foodRecord);
+        assertEquals(foodRecord, new FoodRecord(storageManager.readFoodRecord().get()));
+    }
+
+    @Test
+    public void saveGoal_unchangedSinceLastSave_doesNotWrite() throws Exception {
+        DailyGoal goal = new DailyGoal(2000);
+        storageManager.saveGoal(goal);
+        Files.delete(storageManager.getGoalFilePath());
+
+        storageManager.saveGoal(goal);
+        assertFalse(Files.exists(storageManager.getGoalFilePath()));
+
+        storageManager.saveGoal(goal.updateDailyGoal(2000));
+        assertTrue(Files.exists(storageManager.getGoalFilePath()));
+    }
+
+    @Test
+    public void saveFoodRecord_copyOfRecordRead_writesOnlyChanges() throws Exception {
+        JournaledFoodRecordStorage foodRecordStorage = new JournaledFoodRecordStorage(
+                new JsonFoodRecordStorage(getTempFilePath("fc")), getTempFilePath("fc.journal"));
+        foodRecordStorage.saveFoodRecord(getTypicalFoodRecord());
+        storageManager = new StorageManager(foodRecordStorage, new JsonConsumptionRecordStorage(getTempFilePath("cc")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonGoalStorage(getTempFilePath("goal")), true);
+        FoodRecord foodRecord = new FoodRecord(storageManager.readFoodRecord().get());
+        storageManager.setSavedFoodRecord(foodRecord);
+
+        storageManager.saveFoodRecord(foodRecord);
+        storageManager.flush();
+        assertFalse(Files.exists(foodRecordStorage.getJournalFilePath()));
+
+        foodRecord.removeFood(DUCK_RICE);
+        storageManager.saveFoodRecord(foodRecord);
+        storageManager.flush();
+        assertTrue(Files.exists(foodRecordStorage.getJournalFilePath()));
+        assertEquals(foodRecord, new FoodRecord(storageManager.readFoodRecord().get()));
+    }
+
+    @Test
+    public void saveConsumptionRecord_journaledStorage_appendsToJournal() throws Exception {
+        JournaledConsumptionRecordStorage consumptionRecordStorage = new JournaledConsumptionRecordStorage(
+                new JsonConsumptionRecordStorage(getTempFilePath("cc")), getTempFilePath("cc.journal"));
+        storageManager = new StorageManager(new JsonFoodRecordStorage(getTempFilePath("fc")),
+                consumptionRecordStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonGoalStorage(getTempFilePath("goal")));
+        ConsumptionRecord consumptionRecord = new ConsumptionRecordBuilder().build();
+        storageManager.saveConsumptionRecord(consumptionRecord);
+        consumptionRecord.addLog(new DailyFoodLog().consume(DUCK_RICE, 1));
+        storageManager.saveConsumptionRecord(consumptionRecord);
+
+        assertTrue(Files.exists(consumptionRecordStorage.getJournalFilePath()));
+        assertEquals(consumptionRecord, new ConsumptionRecord(storageManager.readConsumptionRecord().get()));
+    }
+
+    @Test
+    public void saveFoodRecord_backgroundWriterBusy_coalescesWaitingSaves() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonFoodRecordStorage foodRecordStorage = new JsonFoodRecordStorage(getTempFilePath("fc")) {
+            @Override
+            public void saveFoodRecord(ReadOnlyFoodRecord foodRecord) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    firstWriteStarted.countDown();
+                    awaitUninterruptibly(release);
+                }
+                super.saveFoodRecord(foodRecord);
+            }
+        };
+        storageManager = new StorageManager(foodRecordStorage, new JsonConsumptionRecordStorage(getTempFilePath("cc")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonGoalStorage(getTempFilePath("goal")), true);
+
+        FoodRecord foodRecord = getTypicalFoodRecord();
+        storageManager.saveFoodRecord(foodRecord);
+        firstWriteStarted.await();
+        foodRecord.removeFood(DUCK_RICE);
+        storageManager.saveFoodRecord(foodRecord);
+        foodRecord.addFood(DUCK_RICE);
+        storageManager.saveFoodRecord(foodRecord);
+        foodRecord.removeFood(DUCK_RICE);
+        storageManager.saveFoodRecord(foodRecord);
+        release.countDown();
+        storageManager.flush();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(foodRecord, new FoodRecord(storageManager.readFoodRecord().get()));
+    }
+
+    @Test
+    public void saveGoal_backgroundWriteFails_reportedByFlush() throws Exception {
+        JsonGoalStorage goalStorage = new JsonGoalStorage(getTempFilePath("goal")) {
+            @Override
+            public void saveGoal(ReadOnlyGoal goal) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        };
+        storageManager = new StorageManager(new JsonFoodRecordStorage(getTempFilePath("fc")),
+                new JsonConsumptionRecordStorage(getTempFilePath("cc")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), goalStorage, true);
+
+        DailyGoal goal = new DailyGoal(2000);
+        storageManager.saveGoal(goal);
+        assertThrows(IOException.class, () -> storageManager.flush());
+
+        // the failed version is saved again rather than skipped
+        storageManager.saveGoal(goal);
+        assertThrows(IOException.class, () -> storageManager.flush());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getFoodRecordFilePath());
@@ -1,10 +1,11 @@
 package life.calgo.testutil;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 
 import life.calgo.model.day.DailyFoodLog;
+import life.calgo.model.day.RatingSummary;
 import life.calgo.model.food.Food;
 
 /**
@@ -38,29 +39,13 @@ public class TypicalDailyFoodLog {
     /**
      * Helper method to create food to ratings map needed to build DailyFoodLog.
      */
-    public static LinkedHashMap<Food, ArrayList<Integer>> buildRatings() {
-        LinkedHashMap<Food, ArrayList<Integer>> ratings = new LinkedHashMap<>();
-        ArrayList<Integer> ratingsArrayList = new ArrayList<>();
-
-        ratingsArrayList.add(3);
-        ratingsArrayList.add(4);
-        ratings.put(TypicalFoodItems.ALMOND, new ArrayList<>(ratingsArrayList));
-
-        ratingsArrayList.clear();
-        ratingsArrayList.add(6);
-        ratingsArrayList.add(9);
-        ratings.put(TypicalFoodItems.BANANA, new ArrayList<>(ratingsArrayList));
-
-        ratingsArrayList.clear();
-        ratingsArrayList.add(8);
-        ratings.put(TypicalFoodItems.BANANA_MILKSHAKE, new ArrayList<>(ratingsArrayList));
-
-        ratingsArrayList.add(0, 8);
-        ratings.put(TypicalFoodItems.DUCK_RICE, new ArrayList<>(ratingsArrayList));
-
-        ratingsArrayList.set(1, 10);
-        ratings.put(TypicalFoodItems.YELLOW_SAUCE, new ArrayList<>(ratingsArrayList));
-
+    public static LinkedHashMap<Food, RatingSummary> buildRatings() {
+        LinkedHashMap<Food, RatingSummary> ratings = new LinkedHashMap<>();
+        ratings.put(TypicalFoodItems.ALMOND, RatingSummary.of(List.of(3, 4)));
+        ratings.put(TypicalFoodItems.BANANA, RatingSummary.of(List.of(6, 9)));
+        ratings.put(TypicalFoodItems.BANANA_MILKSHAKE, RatingSummary.of(List.of(8)));
+        ratings.put(TypicalFoodItems.DUCK_RICE, RatingSummary.of(List.of(8, 8)));
+        ratings.put(TypicalFoodItems.YELLOW_SAUCE, RatingSummary.of(List.of(8, 10)));
         return ratings;
     }
 